@@ -16,11 +16,13 @@
 
 package org.springframework.cloud.fn.test.support.websocket;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
@@ -50,6 +52,12 @@ public class WebsocketConsumerClientHandler extends AbstractWebSocketHandler {
 		latch.countDown();
 	}
 
+	@Override
+	public void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+		receivedMessages.add(StandardCharsets.UTF_8.decode(message.getPayload()).toString());
+		latch.countDown();
+	}
+
 	public boolean await() throws InterruptedException {
 		return latch.await(timeout, TimeUnit.MILLISECONDS);
 	}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.common.metadata.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.util.Assert;
+
+/**
+ * Coordinates the ownership of numbered partitions across application instances sharing
+ * a {@link ConcurrentMetadataStore}. A lease is an entry with the owner id and the time
+ * it was acquired or renewed. An instance owns a partition while it keeps renewing the
+ * lease, and other instances take over a lease which has not been renewed for the
+ * lease timeout.
+ *
+ * @since 6.0.1
+ */
+public class MetadataStorePartitionLeases {
+
+	private static final char SEPARATOR = '@';
+
+	private final ConcurrentMetadataStore metadataStore;
+
+	private final String keyPrefix;
+
+	private final Duration leaseTimeout;
+
+	private final String owner = UUID.randomUUID().toString();
+
+	private Clock clock = Clock.systemUTC();
+
+	public MetadataStorePartitionLeases(ConcurrentMetadataStore metadataStore, String keyPrefix,
+			Duration leaseTimeout) {
+
+		Assert.hasText(keyPrefix, "'keyPrefix' must not be empty");
+		this.metadataStore = metadataStore;
+		this.keyPrefix = keyPrefix;
+		this.leaseTimeout = leaseTimeout;
+	}
+
+	public void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	public String getOwner() {
+		return this.owner;
+	}
+
+	/**
+	 * Acquire the lease for the partition, or renew it if already owned.
+	 * @param partition the partition number.
+	 * @return true if this instance owns the partition.
+	 */
+	public boolean tryAcquire(int partition) {
+		String key = leaseKey(partition);
+		String lease = lease();
+		String current = this.metadataStore.putIfAbsent(key, lease);
+		if (current == null) {
+			return true;
+		}
+		int separator = current.lastIndexOf(SEPARATOR);
+		String currentOwner = (separator > 0) ? current.substring(0, separator) : current;
+		if (this.owner.equals(currentOwner) || isExpired(current, separator)) {
+			return this.metadataStore.replace(key, current, lease);
+		}
+		return false;
+	}
+
+	/**
+	 * Release the lease for the partition if this instance owns it.
+	 * @param partition the partition number.
+	 */
+	public void release(int partition) {
+		String key = leaseKey(partition);
+		String current = this.metadataStore.get(key);
+		if (current != null && current.startsWith(this.owner + SEPARATOR)) {
+			this.metadataStore.remove(key);
+		}
+	}
+
+	private boolean isExpired(String lease, int separator) {
+		try {
+			long renewed = Long.parseLong(lease.substring(separator + 1));
+			return this.clock.millis() - renewed > this.leaseTimeout.toMillis();
+		}
+		catch (NumberFormatException | IndexOutOfBoundsException ex) {
+			return true;
+		}
+	}
+
+	private String lease() {
+		return this.owner + SEPARATOR + this.clock.millis();
+	}
+
+	private String leaseKey(int partition) {
+		return this.keyPrefix + partition;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.common.metadata.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.metadata.SimpleMetadataStore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetadataStorePartitionLeasesTests {
+
+	@Test
+	public void partitionsAreSharedAndTakenOverAfterLeaseTimeout() {
+		SimpleMetadataStore metadataStore = new SimpleMetadataStore();
+		Instant now = Instant.now();
+		MetadataStorePartitionLeases first = new MetadataStorePartitionLeases(metadataStore, "lease.",
+				Duration.ofSeconds(10));
+		first.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		MetadataStorePartitionLeases second = new MetadataStorePartitionLeases(metadataStore, "lease.",
+				Duration.ofSeconds(10));
+		second.setClock(Clock.fixed(now, ZoneOffset.UTC));
+
+		assertThat(first.tryAcquire(0)).isTrue();
+		assertThat(second.tryAcquire(0)).isFalse();
+		assertThat(second.tryAcquire(1)).isTrue();
+		assertThat(first.tryAcquire(0)).isTrue();
+
+		second.setClock(Clock.fixed(now.plusSeconds(11), ZoneOffset.UTC));
+		assertThat(second.tryAcquire(0)).isTrue();
+		assertThat(first.tryAcquire(0)).isFalse();
+
+		second.release(0);
+		assertThat(first.tryAcquire(0)).isTrue();
+	}
+
+}
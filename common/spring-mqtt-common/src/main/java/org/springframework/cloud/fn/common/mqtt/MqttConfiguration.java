@@ -16,14 +16,18 @@
 
 package org.springframework.cloud.fn.common.mqtt;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Properties;
 
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
 import org.eclipse.paho.client.mqttv3.persist.MqttDefaultFilePersistence;
+import org.eclipse.paho.mqttv5.client.MqttClientPersistence;
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.integration.mqtt.core.DefaultMqttPahoClientFactory;
@@ -41,6 +45,7 @@ import org.springframework.util.ObjectUtils;
 public class MqttConfiguration {
 
 	@Bean
+	@ConditionalOnProperty(prefix = "mqtt.v5", name = "enabled", havingValue = "false", matchIfMissing = true)
 	public MqttPahoClientFactory mqttClientFactory(MqttProperties mqttProperties) {
 		MqttConnectOptions mqttConnectOptions = new MqttConnectOptions();
 		mqttConnectOptions.setServerURIs(mqttProperties.getUrl());
@@ -49,6 +54,7 @@ public class MqttConfiguration {
 		mqttConnectOptions.setCleanSession(mqttProperties.isCleanSession());
 		mqttConnectOptions.setConnectionTimeout(mqttProperties.getConnectionTimeout());
 		mqttConnectOptions.setKeepAliveInterval(mqttProperties.getKeepAliveInterval());
+		mqttConnectOptions.setMaxInflight(mqttProperties.getMaxInflight());
 
 		Map<String, String> sslProperties = mqttProperties.getSslProperties();
 
@@ -70,4 +76,41 @@ public class MqttConfiguration {
 		return factory;
 	}
 
+	@Bean
+	@ConditionalOnProperty(prefix = "mqtt.v5", name = "enabled")
+	public MqttConnectionOptions mqttv5ConnectionOptions(MqttProperties mqttProperties) {
+		MqttProperties.V5 v5 = mqttProperties.getV5();
+		MqttConnectionOptions connectionOptions = new MqttConnectionOptions();
+		connectionOptions.setServerURIs(mqttProperties.getUrl());
+		connectionOptions.setUserName(mqttProperties.getUsername());
+		connectionOptions.setPassword(mqttProperties.getPassword().getBytes(StandardCharsets.UTF_8));
+		connectionOptions.setCleanStart(mqttProperties.isCleanSession());
+		connectionOptions.setConnectionTimeout(mqttProperties.getConnectionTimeout());
+		connectionOptions.setKeepAliveInterval(mqttProperties.getKeepAliveInterval());
+		connectionOptions.setSessionExpiryInterval(v5.getSessionExpiryInterval());
+		connectionOptions.setReceiveMaximum(v5.getReceiveMaximum());
+		connectionOptions.setTopicAliasMaximum(v5.getTopicAliasMaximum());
+		connectionOptions.setAutomaticReconnect(true);
+
+		Map<String, String> sslProperties = mqttProperties.getSslProperties();
+
+		if (!sslProperties.isEmpty()) {
+			Properties sslProps = new Properties();
+			sslProps.putAll(sslProperties);
+			connectionOptions.setSSLProperties(sslProps);
+		}
+
+		return connectionOptions;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "mqtt.v5", name = "enabled")
+	public MqttClientPersistence mqttv5ClientPersistence(MqttProperties mqttProperties) {
+		if (ObjectUtils.nullSafeEquals(mqttProperties.getPersistence(), "file")) {
+			return new org.eclipse.paho.mqttv5.client.persist.MqttDefaultFilePersistence(
+					mqttProperties.getPersistenceDirectory());
+		}
+		return new org.eclipse.paho.mqttv5.client.persist.MemoryPersistence();
+	}
+
 }
@@ -19,7 +19,10 @@ package org.springframework.cloud.fn.common.mqtt;
 import java.util.HashMap;
 import java.util.Map;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
+import org.hibernate.validator.constraints.Range;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -64,6 +67,13 @@ public class MqttProperties {
 	 */
 	private int keepAliveInterval = 60;
 
+	/**
+	 * the max number of QoS 1 and QoS 2 messages the client sends without an
+	 * acknowledgement; for the MQTT v5 client it must not exceed the broker
+	 * 'receive-maximum'.
+	 */
+	private int maxInflight = 10;
+
 	/**
 	 * 'memory' or 'file'.
 	 */
@@ -79,6 +89,11 @@ public class MqttProperties {
 	 */
 	private final Map<String, String> sslProperties = new HashMap<>();
 
+	/**
+	 * MQTT v5 client properties.
+	 */
+	private final V5 v5 = new V5();
+
 	@Size(min = 1)
 	public String[] getUrl() {
 		return this.url;
@@ -128,6 +143,15 @@ public class MqttProperties {
 		this.connectionTimeout = connectionTimeout;
 	}
 
+	@Min(1)
+	public int getMaxInflight() {
+		return this.maxInflight;
+	}
+
+	public void setMaxInflight(int maxInflight) {
+		this.maxInflight = maxInflight;
+	}
+
 	public String getPersistence() {
 		return this.persistence;
 	}
@@ -148,4 +172,71 @@ public class MqttProperties {
 		return this.sslProperties;
 	}
 
+	@Valid
+	public V5 getV5() {
+		return this.v5;
+	}
+
+	public static class V5 {
+
+		/**
+		 * whether to use the MQTT v5 client instead of the MQTT v3 one.
+		 */
+		private boolean enabled;
+
+		/**
+		 * the session expiry interval in seconds; the session ends when the connection is
+		 * closed if 0.
+		 */
+		private long sessionExpiryInterval;
+
+		/**
+		 * the max number of QoS 1 and QoS 2 messages the broker can send to the client
+		 * without an acknowledgement.
+		 */
+		private int receiveMaximum = 65535;
+
+		/**
+		 * the max number of topic aliases the broker can use for the messages sent to the
+		 * client; no topic aliases if 0.
+		 */
+		private int topicAliasMaximum;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Min(0)
+		public long getSessionExpiryInterval() {
+			return this.sessionExpiryInterval;
+		}
+
+		public void setSessionExpiryInterval(long sessionExpiryInterval) {
+			this.sessionExpiryInterval = sessionExpiryInterval;
+		}
+
+		@Range(min = 1, max = 65535)
+		public int getReceiveMaximum() {
+			return this.receiveMaximum;
+		}
+
+		public void setReceiveMaximum(int receiveMaximum) {
+			this.receiveMaximum = receiveMaximum;
+		}
+
+		@Range(min = 0, max = 65535)
+		public int getTopicAliasMaximum() {
+			return this.topicAliasMaximum;
+		}
+
+		public void setTopicAliasMaximum(int topicAliasMaximum) {
+			this.topicAliasMaximum = topicAliasMaximum;
+		}
+
+	}
+
 }
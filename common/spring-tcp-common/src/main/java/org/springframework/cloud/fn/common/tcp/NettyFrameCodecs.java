@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.common.tcp;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.DelimiterBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.TooLongFrameException;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Netty frame codecs for the {@link Encoding} modes, wire-compatible with the Spring
+ * Integration serializers created by the {@link EncoderDecoderFactoryBean}.
+ * <p>
+ * The decoders emit frames as retained slices of the inbound buffers, so the frame
+ * content is not copied until the target consumes it. The encoder writes the frame
+ * header, content and trailer into a single buffer of the provided allocator.
+ *
+ * @since 6.0.1
+ */
+public final class NettyFrameCodecs {
+
+	private static final byte STX = 0x02;
+
+	private static final byte ETX = 0x03;
+
+	private NettyFrameCodecs() {
+	}
+
+	/**
+	 * Create a new frame decoder for the encoding. A decoder is stateful and must not be
+	 * shared between connections.
+	 * @param encoding the encoding.
+	 * @param maxFrameLength the max frame length; longer frames are rejected.
+	 * @return the frame decoder, or {@code null} for the {@link Encoding#RAW} encoding
+	 * where the frame is the whole connection content.
+	 */
+	public static @Nullable ChannelHandler decoder(Encoding encoding, int maxFrameLength) {
+		return switch (encoding) {
+			case CRLF -> delimiterDecoder(maxFrameLength, new byte[] { '\r', '\n' });
+			case LF -> delimiterDecoder(maxFrameLength, new byte[] { '\n' });
+			case NULL -> delimiterDecoder(maxFrameLength, new byte[] { 0 });
+			case STXETX -> new StxEtxFrameDecoder(maxFrameLength);
+			case L1 -> lengthFieldDecoder(maxFrameLength, 1);
+			case L2 -> lengthFieldDecoder(maxFrameLength, 2);
+			case L4 -> lengthFieldDecoder(maxFrameLength, 4);
+			case RAW -> null;
+		};
+	}
+
+	/**
+	 * Encode the payload into a new frame buffer for the encoding.
+	 * @param encoding the encoding.
+	 * @param allocator the allocator for the frame buffer.
+	 * @param payload the frame content.
+	 * @return the frame buffer.
+	 */
+	public static ByteBuf encode(Encoding encoding, ByteBufAllocator allocator, byte[] payload) {
+		return switch (encoding) {
+			case CRLF -> allocator.buffer(payload.length + 2).writeBytes(payload).writeByte('\r').writeByte('\n');
+			case LF -> allocator.buffer(payload.length + 1).writeBytes(payload).writeByte('\n');
+			case NULL -> allocator.buffer(payload.length + 1).writeBytes(payload).writeByte(0);
+			case STXETX -> allocator.buffer(payload.length + 2).writeByte(STX).writeBytes(payload).writeByte(ETX);
+			case L1 -> {
+				Assert.isTrue(payload.length <= 0xff, "Payload is too long for a one byte length header");
+				yield allocator.buffer(payload.length + 1).writeByte(payload.length).writeBytes(payload);
+			}
+			case L2 -> {
+				Assert.isTrue(payload.length <= 0xffff, "Payload is too long for a two byte length header");
+				yield allocator.buffer(payload.length + 2).writeShort(payload.length).writeBytes(payload);
+			}
+			case L4 -> allocator.buffer(payload.length + 4).writeInt(payload.length).writeBytes(payload);
+			case RAW -> allocator.buffer(payload.length).writeBytes(payload);
+		};
+	}
+
+	private static ChannelHandler delimiterDecoder(int maxFrameLength, byte[] delimiter) {
+		return new DelimiterBasedFrameDecoder(maxFrameLength, true, Unpooled.wrappedBuffer(delimiter));
+	}
+
+	private static ChannelHandler lengthFieldDecoder(int maxFrameLength, int lengthFieldLength) {
+		return new LengthFieldBasedFrameDecoder(maxFrameLength + lengthFieldLength, 0, lengthFieldLength, 0,
+				lengthFieldLength);
+	}
+
+	/**
+	 * Decodes frames of content between the {@code STX} and {@code ETX} bytes.
+	 */
+	private static final class StxEtxFrameDecoder extends ByteToMessageDecoder {
+
+		private final int maxFrameLength;
+
+		StxEtxFrameDecoder(int maxFrameLength) {
+			this.maxFrameLength = maxFrameLength;
+		}
+
+		@Override
+		protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+			while (in.isReadable()) {
+				int start = in.readerIndex();
+				if (in.getByte(start) != STX) {
+					throw new CorruptedFrameException("Expected STX to begin a frame");
+				}
+				int end = in.indexOf(start + 1, in.writerIndex(), ETX);
+				if (end < 0) {
+					if (in.readableBytes() - 1 > this.maxFrameLength) {
+						throw new TooLongFrameException("Frame exceeds max length: " + this.maxFrameLength);
+					}
+					return;
+				}
+				if (end - start - 1 > this.maxFrameLength) {
+					throw new TooLongFrameException("Frame exceeds max length: " + this.maxFrameLength);
+				}
+				out.add(in.retainedSlice(start + 1, end - start - 1));
+				in.readerIndex(end + 1);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.analytics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Measures the per-message cost of the {@link AnalyticsConsumer} for the given number of
+ * distinct tag values, compared with looking up the meter in the meter registry for every
+ * message: the counter by its tags, or the gauge by scanning the gauges of its name, as
+ * the consumer did before caching the meters.
+ * <p>
+ * Run with {@code ./gradlew :spring-analytics-consumer:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsConsumerBenchmark {
+
+	@Param({ "10", "1000", "100000" })
+	public int cardinality;
+
+	@Param({ "counter", "gauge" })
+	public String meterType;
+
+	private Message<?>[] messages;
+
+	private AnalyticsConsumer analyticsConsumer;
+
+	private MeterRegistry lookupMeterRegistry;
+
+	private final Map<Meter.Id, AtomicLong> lookupGaugeValues = new ConcurrentHashMap<>();
+
+	private int index;
+
+	@Setup
+	public void setup() {
+		this.messages = new Message<?>[this.cardinality];
+		for (int i = 0; i < this.cardinality; i++) {
+			this.messages[i] = MessageBuilder.withPayload("payload" + i)
+				.setHeader("symbol", "symbol" + i)
+				.setHeader("exchange", "exchange" + (i % 10))
+				.build();
+		}
+
+		SpelExpressionParser parser = new SpelExpressionParser();
+		Map<String, Expression> tagExpressions = new LinkedHashMap<>();
+		tagExpressions.put("symbol", parser.parseExpression("headers['symbol']"));
+		tagExpressions.put("exchange", parser.parseExpression("headers['exchange']"));
+
+		AnalyticsConsumerProperties properties = new AnalyticsConsumerProperties();
+		properties.setName("benchmark");
+		properties.setMeterType(AnalyticsConsumerProperties.MeterType.valueOf(this.meterType));
+		properties.setAmountExpression(parser.parseExpression("payload.length()"));
+		properties.setMeterCacheSize(this.cardinality);
+		// All the series are admitted: the overflow path is not measured
+		properties.getCardinality().setMaxSeries(this.cardinality);
+		properties.getTag().setExpression(tagExpressions);
+
+		this.analyticsConsumer = new AnalyticsConsumer(properties, new SimpleMeterRegistry());
+		this.lookupMeterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Benchmark
+	public void cachedHandles() {
+		this.analyticsConsumer.accept(nextMessage());
+	}
+
+	@Benchmark
+	public void registryLookup() {
+		Message<?> message = nextMessage();
+		Tags tags = Tags.of("symbol", (String) message.getHeaders().get("symbol"), "exchange",
+				(String) message.getHeaders().get("exchange"));
+		double amount = ((String) message.getPayload()).length();
+		if ("gauge".equals(this.meterType)) {
+			Meter.Id gaugeId = new Meter.Id("benchmark", tags, null, null, Meter.Type.GAUGE);
+			AtomicLong gaugeValue = this.lookupGaugeValues.computeIfAbsent(gaugeId, (id) -> new AtomicLong());
+			gaugeValue.set((long) amount);
+			boolean registered = this.lookupMeterRegistry.find("benchmark")
+				.gauges()
+				.stream()
+				.anyMatch((gauge) -> gauge.getId().equals(gaugeId));
+			if (!registered) {
+				this.lookupMeterRegistry.gauge("benchmark", tags, gaugeValue, AtomicLong::doubleValue);
+			}
+		}
+		else {
+			this.lookupMeterRegistry.counter("benchmark", tags).increment(amount);
+		}
+	}
+
+	private Message<?> nextMessage() {
+		Message<?> message = this.messages[this.index];
+		this.index = (this.index + 1) % this.messages.length;
+		return message;
+	}
+
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.analytics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The analytics {@link Consumer}: computes the meter name, amount and tags from every
+ * message and updates the respective meter.
+ * <p>
+ * Everything which does not depend on the message is resolved once: the fixed tags, the
+ * meter name when there is no name expression, and the order of the tag expressions. The
+ * SpEL expressions are re-parsed in the {@link SpelCompilerMode#MIXED} mode, so they are
+ * compiled into bytecode after a few interpreted evaluations, where possible.
+ * <p>
+ * The meter handles are cached by the meter name and tag values, so the meter registry
+ * is not consulted for every message. The cache is bounded by
+ * {@link AnalyticsConsumerProperties#getMeterCacheSize()}: the least recently used handle
+ * is evicted when it is full, and the meter is looked up in the registry again on its
+ * next update.
+ * <p>
+ * The timer and distribution summary meters publish the percentiles, histogram and
+ * service level objectives of the {@link AnalyticsConsumerProperties.Distribution}. With
+ * the {@link AnalyticsConsumerProperties.Aggregation} enabled, the counter amounts are
+ * accumulated in {@link DoubleAdder} cells and published to the counters on the
+ * interval, so the registry cost does not depend on the message rate.
+ * <p>
+ * The number of series, the distinct tag values, of every meter name can be limited by
+ * the {@link AnalyticsConsumerProperties.Cardinality#getMaxSeries()}: the updates of new
+ * series over the limit go to the series with all the tag values set to
+ * {@link AnalyticsConsumerConfiguration#OVERFLOW_TAG} instead, and are counted in the
+ * {@code analytics.consumer.series.rejected} counter tagged with the meter {@code name}.
+ * The gauges not updated for the
+ * {@link AnalyticsConsumerProperties.Cardinality#getGaugeExpiry()} are removed from the
+ * meter registry and their series are released.
+ *
+ * @author Christian Tzolov
+ * @since 6.0.1
+ */
+public class AnalyticsConsumer implements Consumer<Message<?>>, DisposableBean {
+
+	private static final String REJECTED_SERIES_METER_NAME = "analytics.consumer.series.rejected";
+
+	private static final SpelExpressionParser COMPILING_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, AnalyticsConsumer.class.getClassLoader()));
+
+	private final MeterRegistry meterRegistry;
+
+	private final AnalyticsConsumerProperties.MeterType meterType;
+
+	private final String meterName;
+
+	private final @Nullable Expression nameExpression;
+
+	private final Expression amountExpression;
+
+	private final Tags fixedTags;
+
+	private final String[] tagNames;
+
+	private final Expression[] tagExpressions;
+
+	private final int meterCacheSize;
+
+	/**
+	 * The access-ordered map of the meter handles; guarded by itself.
+	 */
+	private final Map<MeterKey, DoubleConsumer> meters;
+
+	private final Map<Meter.Id, GaugeState> gaugeValues = new ConcurrentHashMap<>();
+
+	private final Map<Counter, DoubleAdder> aggregatedCounters = new ConcurrentHashMap<>();
+
+	private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+	private final Map<String, Counter> rejectedSeriesCounters = new ConcurrentHashMap<>();
+
+	private final AnalyticsConsumerProperties.Distribution distribution;
+
+	private final int maxSeries;
+
+	private final boolean aggregation;
+
+	private final @Nullable ScheduledExecutorService scheduler;
+
+	@SuppressWarnings("deprecation")
+	public AnalyticsConsumer(AnalyticsConsumerProperties properties, MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.meterType = properties.getMeterType();
+		this.meterName = StringUtils.hasText(properties.getName()) ? properties.getName() : "empty";
+		this.nameExpression = (properties.getNameExpression() != null)
+				? compile(properties.getNameExpression()) : null;
+		this.amountExpression = compile(properties.getComputedAmountExpression());
+		// All fixed tags together are passed with every meter update.
+		this.fixedTags = toTags(properties.getTag().getFixed());
+		Map<String, Expression> expressions = properties.getTag().getExpression();
+		if (CollectionUtils.isEmpty(expressions)) {
+			this.tagNames = new String[0];
+			this.tagExpressions = new Expression[0];
+		}
+		else {
+			this.tagNames = expressions.keySet().toArray(new String[0]);
+			this.tagExpressions = new Expression[this.tagNames.length];
+			for (int i = 0; i < this.tagNames.length; i++) {
+				this.tagExpressions[i] = compile(expressions.get(this.tagNames[i]));
+			}
+		}
+		this.meterCacheSize = properties.getMeterCacheSize();
+		this.meters = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<MeterKey, DoubleConsumer> eldest) {
+				return size() > AnalyticsConsumer.this.meterCacheSize;
+			}
+
+		};
+		this.distribution = properties.getDistribution();
+		Integer maxSeries = properties.getCardinality().getMaxSeries();
+		this.maxSeries = (maxSeries != null) ? maxSeries : 0;
+		AnalyticsConsumerProperties.Aggregation aggregation = properties.getAggregation();
+		this.aggregation = aggregation.isEnabled() && this.meterType == AnalyticsConsumerProperties.MeterType.counter;
+		Duration gaugeExpiry = properties.getCardinality().getGaugeExpiry();
+		boolean expireGauges = gaugeExpiry != null && this.meterType == AnalyticsConsumerProperties.MeterType.gauge;
+		if (this.aggregation || expireGauges) {
+			this.scheduler = Executors
+				.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("analytics-consumer-"));
+			if (this.aggregation) {
+				long interval = aggregation.getInterval().toMillis();
+				this.scheduler.scheduleAtFixedRate(this::publishAggregatedCounters, interval, interval,
+						TimeUnit.MILLISECONDS);
+			}
+			if (expireGauges) {
+				long interval = gaugeExpiry.toMillis();
+				this.scheduler.scheduleAtFixedRate(this::expireGauges, interval, interval, TimeUnit.MILLISECONDS);
+			}
+		}
+		else {
+			this.scheduler = null;
+		}
+	}
+
+	@Override
+	public void accept(Message<?> message) {
+		String name = resolveMeterName(message);
+		double amount = this.amountExpression.getValue(message, Double.class);
+
+		if (this.tagExpressions.length == 0) {
+			meter(name, new String[0]).accept(amount);
+			return;
+		}
+
+		// Every tag expression can produce several values: the N-th meter update takes
+		// the N-th value of every tag, or an empty value when there is no such one.
+		List<?>[] tagValues = new List<?>[this.tagExpressions.length];
+		int max = 0;
+		for (int i = 0; i < this.tagExpressions.length; i++) {
+			tagValues[i] = toList(this.tagExpressions[i].getValue(message));
+			max = Math.max(max, tagValues[i].size());
+		}
+		for (int n = 0; n < max; n++) {
+			String[] values = new String[tagValues.length];
+			for (int i = 0; i < tagValues.length; i++) {
+				values[i] = (tagValues[i].size() > n) ? (String) tagValues[i].get(n) : "";
+			}
+			meter(name, values).accept(amount);
+		}
+	}
+
+	private String resolveMeterName(Message<?> message) {
+		if (this.nameExpression == null) {
+			return this.meterName;
+		}
+		CharSequence meterNameRaw = this.nameExpression.getValue(message, CharSequence.class);
+		return StringUtils.hasText(meterNameRaw) ? meterNameRaw.toString() : "empty";
+	}
+
+	private DoubleConsumer meter(String name, String[] tagValues) {
+		MeterKey key = new MeterKey(name, Arrays.asList(tagValues));
+		DoubleConsumer meter = cachedMeter(key);
+		if (meter == null) {
+			if (!admit(key)) {
+				// Over the series limit: the update goes to the series with all tag
+				// values replaced by the overflow one.
+				rejectedSeriesCounter(name).increment();
+				tagValues = new String[tagValues.length];
+				Arrays.fill(tagValues, AnalyticsConsumerConfiguration.OVERFLOW_TAG);
+				key = new MeterKey(name, Arrays.asList(tagValues));
+				meter = cachedMeter(key);
+				if (meter != null) {
+					return meter;
+				}
+			}
+			meter = register(key, tagValues);
+			synchronized (this.meters) {
+				this.meters.put(key, meter);
+			}
+		}
+		return meter;
+	}
+
+	private @Nullable DoubleConsumer cachedMeter(MeterKey key) {
+		synchronized (this.meters) {
+			return this.meters.get(key);
+		}
+	}
+
+	private boolean admit(MeterKey key) {
+		if (this.maxSeries == 0 || key.tagValues().isEmpty()) {
+			return true;
+		}
+		return this.series.computeIfAbsent(key.name(), (name) -> new Series()).admit(key.tagValues(), this.maxSeries);
+	}
+
+	private Counter rejectedSeriesCounter(String name) {
+		return this.rejectedSeriesCounters.computeIfAbsent(name,
+				(key) -> Counter.builder(REJECTED_SERIES_METER_NAME)
+					.description("The meter updates over the series limit")
+					.tag("name", name)
+					.register(this.meterRegistry));
+	}
+
+	private DoubleConsumer register(MeterKey key, String[] tagValues) {
+		String name = key.name();
+		Tags tags = this.fixedTags;
+		for (int i = 0; i < tagValues.length; i++) {
+			tags = tags.and(this.tagNames[i], tagValues[i]);
+		}
+		return switch (this.meterType) {
+			case counter -> {
+				Counter counter = this.meterRegistry.counter(name, tags);
+				if (this.aggregation) {
+					DoubleAdder sum = this.aggregatedCounters.computeIfAbsent(counter, (key) -> new DoubleAdder());
+					yield sum::add;
+				}
+				yield counter::increment;
+			}
+			case gauge -> {
+				Tags gaugeTags = tags;
+				// The registry keeps only a weak reference to the gauge state,
+				// so the state must outlive the eviction of the handle.
+				GaugeState gaugeState = this.gaugeValues.computeIfAbsent(
+						new Meter.Id(name, gaugeTags, null, null, Meter.Type.GAUGE), (gaugeId) -> {
+							AtomicLong value = new AtomicLong();
+							Gauge gauge = Gauge.builder(name, value, AtomicLong::doubleValue)
+								.tags(gaugeTags)
+								.register(this.meterRegistry);
+							return new GaugeState(key, value, gauge);
+						});
+				yield gaugeState::set;
+			}
+			case timer -> {
+				long nanosPerUnit = this.distribution.getTimeUnit().toNanos(1);
+				Duration[] slos = Arrays.stream(this.distribution.getSlos())
+					.mapToObj((slo) -> Duration.ofNanos((long) (slo * nanosPerUnit)))
+					.toArray(Duration[]::new);
+				Timer timer = Timer.builder(name)
+					.tags(tags)
+					.publishPercentiles(this.distribution.getPercentiles())
+					.publishPercentileHistogram(this.distribution.isPercentileHistogram())
+					.serviceLevelObjectives(slos)
+					.register(this.meterRegistry);
+				yield (amount) -> timer.record((long) (amount * nanosPerUnit), TimeUnit.NANOSECONDS);
+			}
+			case distributionSummary -> DistributionSummary.builder(name)
+				.tags(tags)
+				.publishPercentiles(this.distribution.getPercentiles())
+				.publishPercentileHistogram(this.distribution.isPercentileHistogram())
+				.serviceLevelObjectives(this.distribution.getSlos())
+				.register(this.meterRegistry)::record;
+		};
+	}
+
+	private void publishAggregatedCounters() {
+		this.aggregatedCounters.forEach((counter, sum) -> {
+			double amount = sum.sumThenReset();
+			if (amount != 0) {
+				counter.increment(amount);
+			}
+		});
+	}
+
+	private void expireGauges() {
+		this.gaugeValues.values().removeIf((gaugeState) -> {
+			if (gaugeState.updated) {
+				gaugeState.updated = false;
+				return false;
+			}
+			this.meterRegistry.remove(gaugeState.gauge);
+			synchronized (this.meters) {
+				this.meters.remove(gaugeState.key);
+			}
+			Series nameSeries = this.series.get(gaugeState.key.name());
+			if (nameSeries != null) {
+				nameSeries.release(gaugeState.key.tagValues());
+			}
+			return true;
+		});
+	}
+
+	@Override
+	public void destroy() {
+		if (this.scheduler != null) {
+			this.scheduler.shutdown();
+			if (this.aggregation) {
+				publishAggregatedCounters();
+			}
+		}
+	}
+
+	private static Expression compile(Expression expression) {
+		if (expression instanceof SpelExpression spelExpression) {
+			SpelExpression compilingExpression = COMPILING_PARSER.parseRaw(spelExpression.getExpressionString());
+			compilingExpression.setEvaluationContext(spelExpression.getEvaluationContext());
+			return compilingExpression;
+		}
+		return expression;
+	}
+
+	/**
+	 * Converts a key/value Map into Tag(key,value) list. Filters out the empty key/value
+	 * pairs.
+	 * @param keyValueMap key/value map to convert into tags.
+	 * @return tags list representing every non-empty key/value pair.
+	 */
+	static Tags toTags(Map<String, String> keyValueMap) {
+		return CollectionUtils.isEmpty(keyValueMap) ? Tags.empty()
+				: Tags.of(keyValueMap.entrySet()
+					.stream()
+					.filter((e) -> StringUtils.hasText(e.getKey()) && StringUtils.hasText(e.getValue()))
+					.map((e) -> Tag.of(e.getKey(), e.getValue()))
+					.toList());
+	}
+
+	/**
+	 * Convert the input value into a list of values. If the value is not a
+	 * collection/array type the result is a single element list. For collection/array
+	 * input value the result is the list of "stringified" content of this collection.
+	 * @param value input value can be an array, collection or single value.
+	 * @return the value list.
+	 */
+	static List<String> toList(Object value) {
+		if (value == null) {
+			// Ensure that the tag is present in the meter metrics, even if empty.
+			// TSDB as Prometheus do not tolerate same meters to have different tags
+			// signatures.
+			return Collections.singletonList(AnalyticsConsumerConfiguration.UNAVAILABLE_TAG);
+		}
+
+		if ((value instanceof Collection) || ObjectUtils.isArray(value)) {
+			Collection<?> valueCollection = (value instanceof Collection) ? (Collection<?>) value
+					: Arrays.asList(ObjectUtils.toObjectArray(value));
+			List<String> list = new ArrayList<>(valueCollection.size());
+			for (Object item : valueCollection) {
+				if (item != null) {
+					String string = item.toString();
+					if (StringUtils.hasText(string)) {
+						list.add(string);
+					}
+				}
+			}
+			return list.isEmpty() ? Collections.singletonList(AnalyticsConsumerConfiguration.UNAVAILABLE_TAG) : list;
+		}
+		else {
+			return Collections.singletonList(value.toString());
+		}
+	}
+
+	private record MeterKey(String name, List<String> tagValues) {
+
+	}
+
+	private static final class GaugeState {
+
+		private final MeterKey key;
+
+		private final AtomicLong value;
+
+		private final Gauge gauge;
+
+		private volatile boolean updated = true;
+
+		GaugeState(MeterKey key, AtomicLong value, Gauge gauge) {
+			this.key = key;
+			this.value = value;
+			this.gauge = gauge;
+		}
+
+		void set(double amount) {
+			this.value.set((long) amount);
+			this.updated = true;
+		}
+
+	}
+
+	/**
+	 * The series of a meter name with their count, which is reserved before a series is
+	 * added, so concurrent updates cannot go over the limit.
+	 */
+	private static final class Series {
+
+		private final Set<List<String>> tagValues = ConcurrentHashMap.newKeySet();
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		boolean admit(List<String> values, int maxSeries) {
+			if (this.tagValues.contains(values)) {
+				return true;
+			}
+			int current;
+			do {
+				current = this.count.get();
+				if (current >= maxSeries) {
+					// The same series might have just been added concurrently
+					return this.tagValues.contains(values);
+				}
+			}
+			while (!this.count.compareAndSet(current, current + 1));
+			if (!this.tagValues.add(values)) {
+				this.count.decrementAndGet();
+			}
+			return true;
+		}
+
+		void release(List<String> values) {
+			if (this.tagValues.remove(values)) {
+				this.count.decrementAndGet();
+			}
+		}
+
+	}
+
+}
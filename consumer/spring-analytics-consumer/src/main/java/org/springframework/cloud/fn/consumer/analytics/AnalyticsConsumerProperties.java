@@ -16,9 +16,13 @@
 
 package org.springframework.cloud.fn.consumer.analytics;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -50,7 +54,18 @@ public class AnalyticsConsumerProperties {
 		 * reported to a metrics backend. TIP: Never gauge something you can count with a
 		 * Counter!
 		 */
-		gauge
+		gauge,
+		/**
+		 * Uses the Micrometer Timer meter type. The amount is the duration in the
+		 * {@link Distribution#getTimeUnit()} and the distribution is published according
+		 * to the {@link Distribution} options.
+		 */
+		timer,
+		/**
+		 * Uses the Micrometer DistributionSummary meter type. The distribution of the
+		 * amounts is published according to the {@link Distribution} options.
+		 */
+		distributionSummary
 
 	}
 
@@ -89,6 +104,29 @@ public class AnalyticsConsumerProperties {
 	 */
 	private final MetricsTag tag = new MetricsTag();
 
+	/**
+	 * The max number of meter handles cached by the meter name and tag values. An
+	 * evicted meter is looked up in the meter registry again on its next update.
+	 */
+	@Min(1)
+	private int meterCacheSize = 10_000;
+
+	/**
+	 * The distribution options for the timer and distribution summary meter types.
+	 */
+	private final Distribution distribution = new Distribution();
+
+	/**
+	 * The options for the pre-aggregation of the counter amounts.
+	 */
+	private final Aggregation aggregation = new Aggregation();
+
+	/**
+	 * The limits for the number of series of every meter name.
+	 */
+	@Valid
+	private final Cardinality cardinality = new Cardinality();
+
 	public MetricsTag getTag() {
 		return this.tag;
 	}
@@ -128,6 +166,26 @@ public class AnalyticsConsumerProperties {
 		this.amountExpression = amountExpression;
 	}
 
+	public Distribution getDistribution() {
+		return this.distribution;
+	}
+
+	public Aggregation getAggregation() {
+		return this.aggregation;
+	}
+
+	public Cardinality getCardinality() {
+		return this.cardinality;
+	}
+
+	public int getMeterCacheSize() {
+		return this.meterCacheSize;
+	}
+
+	public void setMeterCacheSize(int meterCacheSize) {
+		this.meterCacheSize = meterCacheSize;
+	}
+
 	public Expression getComputedAmountExpression() {
 		return (this.amountExpression != null) ? this.amountExpression : new ValueExpression<>(1.0);
 	}
@@ -194,4 +252,128 @@ public class AnalyticsConsumerProperties {
 
 	}
 
+	public static class Distribution {
+
+		/**
+		 * The percentiles to publish for the timer and distribution summary meters, e.g.
+		 * 0.5,0.95,0.99.
+		 */
+		private double[] percentiles = new double[0];
+
+		/**
+		 * Whether to publish a percentile histogram for the timer and distribution
+		 * summary meters.
+		 */
+		private boolean percentileHistogram;
+
+		/**
+		 * The service level objective buckets for the timer and distribution summary
+		 * meters, in the units of the amount.
+		 */
+		private double[] slos = new double[0];
+
+		/**
+		 * The time unit of the amount for the timer meter.
+		 */
+		private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
+
+		public double[] getPercentiles() {
+			return this.percentiles;
+		}
+
+		public void setPercentiles(double[] percentiles) {
+			this.percentiles = percentiles;
+		}
+
+		public boolean isPercentileHistogram() {
+			return this.percentileHistogram;
+		}
+
+		public void setPercentileHistogram(boolean percentileHistogram) {
+			this.percentileHistogram = percentileHistogram;
+		}
+
+		public double[] getSlos() {
+			return this.slos;
+		}
+
+		public void setSlos(double[] slos) {
+			this.slos = slos;
+		}
+
+		public TimeUnit getTimeUnit() {
+			return this.timeUnit;
+		}
+
+		public void setTimeUnit(TimeUnit timeUnit) {
+			this.timeUnit = timeUnit;
+		}
+
+	}
+
+	public static class Aggregation {
+
+		/**
+		 * Whether to accumulate the counter amounts in memory and publish them to the
+		 * meter registry on the interval instead of for every message.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The interval to publish the accumulated counter amounts.
+		 */
+		private Duration interval = Duration.ofSeconds(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getInterval() {
+			return this.interval;
+		}
+
+		public void setInterval(Duration interval) {
+			this.interval = interval;
+		}
+
+	}
+
+	public static class Cardinality {
+
+		/**
+		 * The max number of series, the distinct tag values, for every meter name. The
+		 * updates of new series over the limit go to the series with all the tag values
+		 * set to 'other'. The series are not limited if not set.
+		 */
+		@Min(1)
+		private Integer maxSeries;
+
+		/**
+		 * The time after which a gauge not updated is removed from the meter registry.
+		 * The gauges are never removed if not set.
+		 */
+		private Duration gaugeExpiry;
+
+		public Integer getMaxSeries() {
+			return this.maxSeries;
+		}
+
+		public void setMaxSeries(Integer maxSeries) {
+			this.maxSeries = maxSeries;
+		}
+
+		public Duration getGaugeExpiry() {
+			return this.gaugeExpiry;
+		}
+
+		public void setGaugeExpiry(Duration gaugeExpiry) {
+			this.gaugeExpiry = gaugeExpiry;
+		}
+
+	}
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.analytics;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = { "analytics.name=aggregated", "analytics.amount-expression=payload.length()",
+		"analytics.tag.expression.foo='bar'", "analytics.aggregation.enabled=true",
+		"analytics.aggregation.interval=100ms" })
+class AggregatedCounterTests extends AnalyticsConsumerParentTests {
+
+	@Test
+	void amountsArePublishedOnInterval() {
+		for (int i = 0; i < 10; i++) {
+			analyticsConsumer.accept(new GenericMessage<>("hello"));
+		}
+
+		await().atMost(Duration.ofSeconds(10))
+			.untilAsserted(() -> assertThat(meterRegistry.get("aggregated").tag("foo", "bar").counter().count())
+				.isEqualTo(50));
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = { "analytics.name=cachedCounter", "analytics.meter-cache-size=2",
+		"analytics.tag.fixed.env=test", "analytics.tag.expression.word=payload" })
+class MeterCacheTests extends AnalyticsConsumerParentTests {
+
+	@Test
+	void evictedMetersAreUpdatedAgain() {
+		for (int i = 0; i < 3; i++) {
+			for (String word : new String[] { "foo", "bar", "baz" }) {
+				analyticsConsumer.accept(new GenericMessage<>(word));
+			}
+		}
+
+		assertThat(meterRegistry.find("cachedCounter").counters()).hasSize(3);
+		for (String word : new String[] { "foo", "bar", "baz" }) {
+			assertThat(meterRegistry.get("cachedCounter").tag("env", "test").tag("word", word).counter().count())
+				.isEqualTo(3);
+		}
+	}
+
+	@Test
+	void leastRecentlyUsedMeterIsEvicted() {
+		analyticsConsumer.accept(new GenericMessage<>("hot"));
+		analyticsConsumer.accept(new GenericMessage<>("cold"));
+		analyticsConsumer.accept(new GenericMessage<>("hot"));
+		analyticsConsumer.accept(new GenericMessage<>("new"));
+
+		// The cached handles keep updating the removed meters, the evicted one is registered again
+		meterRegistry.clear();
+		analyticsConsumer.accept(new GenericMessage<>("hot"));
+		analyticsConsumer.accept(new GenericMessage<>("cold"));
+
+		assertThat(meterRegistry.find("cachedCounter").tag("word", "hot").counter()).isNull();
+		assertThat(meterRegistry.find("cachedCounter").tag("word", "cold").counter()).isNotNull();
+
+		// Do not leak the meters into the other tests of the context
+		meterRegistry.clear();
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = { "analytics.name=limited", "analytics.tag.expression.word=payload",
+		"analytics.cardinality.max-series=2" })
+class SeriesLimitTests extends AnalyticsConsumerParentTests {
+
+	@Test
+	void seriesOverLimitGoToOverflowTag() {
+		for (String word : new String[] { "foo", "bar", "baz", "qux", "foo" }) {
+			analyticsConsumer.accept(new GenericMessage<>(word));
+		}
+
+		assertThat(meterRegistry.find("limited").counters()).hasSize(3);
+		assertThat(meterRegistry.get("limited").tag("word", "foo").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("limited").tag("word", "bar").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("limited")
+			.tag("word", AnalyticsConsumerConfiguration.OVERFLOW_TAG)
+			.counter()
+			.count()).isEqualTo(2);
+		assertThat(meterRegistry.get("analytics.consumer.series.rejected").tag("name", "limited").counter().count())
+			.isEqualTo(2);
+	}
+
+}
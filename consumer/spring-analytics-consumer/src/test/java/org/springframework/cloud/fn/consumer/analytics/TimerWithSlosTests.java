@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.analytics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = { "analytics.name=latency", "analytics.meter-type=timer",
+		"analytics.amount-expression=payload", "analytics.distribution.slos=100,500",
+		"analytics.distribution.percentiles=0.5" })
+class TimerWithSlosTests extends AnalyticsConsumerParentTests {
+
+	@Test
+	void amountsAreRecordedAsDurations() {
+		analyticsConsumer.accept(new GenericMessage<>(50));
+		analyticsConsumer.accept(new GenericMessage<>(200));
+		analyticsConsumer.accept(new GenericMessage<>(1000));
+
+		Timer timer = meterRegistry.get("latency").timer();
+		assertThat(timer.count()).isEqualTo(3);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1250);
+		assertThat(timer.max(TimeUnit.MILLISECONDS)).isEqualTo(1000);
+		CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+		assertThat(buckets).hasSize(2);
+		assertThat(buckets[0].bucket(TimeUnit.MILLISECONDS)).isEqualTo(100);
+		assertThat(buckets[0].count()).isEqualTo(1);
+		assertThat(buckets[1].bucket(TimeUnit.MILLISECONDS)).isEqualTo(500);
+		assertThat(buckets[1].count()).isEqualTo(2);
+	}
+
+}
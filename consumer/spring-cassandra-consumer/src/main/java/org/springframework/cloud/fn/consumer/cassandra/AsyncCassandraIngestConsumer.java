@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.cassandra;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link Consumer} which writes the rows of the ingest query into Apache Cassandra
+ * without waiting for the results.
+ * <p>
+ * The ingest query is prepared once, on the first payload. The rows of a payload which
+ * share the partition key are written in unlogged batches of up to
+ * {@link CassandraConsumerProperties.Async#getMaxBatchSize()} statements, so each batch
+ * is routed to the replicas of its partition; other rows are written one by one. Up to
+ * {@link CassandraConsumerProperties.Async#getMaxConcurrentRequests()} statements are
+ * executed at the same time; the {@link #accept(Object)} is blocked until one of them is
+ * done when this limit is reached.
+ * <p>
+ * Since the result is not returned to the caller, failed writes are only logged and
+ * recorded in the {@code cassandra.consumer.writes} timer with the {@code failure}
+ * outcome.
+ *
+ * @since 6.0.1
+ */
+public class AsyncCassandraIngestConsumer implements Consumer<Object>, DisposableBean {
+
+	private static final Log LOGGER = LogFactory.getLog(AsyncCassandraIngestConsumer.class);
+
+	private final CqlSession session;
+
+	private final String ingestQuery;
+
+	private final Function<Object, List<List<Object>>> rowsFunction;
+
+	private final @Nullable ConsistencyLevel consistencyLevel;
+
+	private final int maxConcurrentRequests;
+
+	private final int maxBatchSize;
+
+	private final Semaphore permits;
+
+	private final Lock prepareLock = new ReentrantLock();
+
+	private final Timer statementSuccessTimer;
+
+	private final Timer statementFailureTimer;
+
+	private final Timer batchSuccessTimer;
+
+	private final Timer batchFailureTimer;
+
+	private volatile @Nullable PreparedStatement preparedStatement;
+
+	public AsyncCassandraIngestConsumer(CqlSession session, String ingestQuery,
+			Function<Object, List<List<Object>>> rowsFunction, @Nullable ConsistencyLevel consistencyLevel,
+			CassandraConsumerProperties.Async async, MeterRegistry meterRegistry) {
+
+		Assert.hasText(ingestQuery, "'ingestQuery' must not be empty");
+		Assert.isTrue(async.getMaxConcurrentRequests() > 0, "'maxConcurrentRequests' must be greater than 0");
+		Assert.isTrue(async.getMaxBatchSize() > 0, "'maxBatchSize' must be greater than 0");
+		this.session = session;
+		this.ingestQuery = ingestQuery;
+		this.rowsFunction = rowsFunction;
+		this.consistencyLevel = consistencyLevel;
+		this.maxConcurrentRequests = async.getMaxConcurrentRequests();
+		this.maxBatchSize = async.getMaxBatchSize();
+		this.permits = new Semaphore(this.maxConcurrentRequests);
+		Gauge.builder("cassandra.consumer.writes.in-flight", this.permits,
+				(permits) -> this.maxConcurrentRequests - permits.availablePermits())
+			.description("The number of Cassandra writes in flight")
+			.register(meterRegistry);
+		this.statementSuccessTimer = writeTimer(meterRegistry, "statement", "success");
+		this.statementFailureTimer = writeTimer(meterRegistry, "statement", "failure");
+		this.batchSuccessTimer = writeTimer(meterRegistry, "batch", "success");
+		this.batchFailureTimer = writeTimer(meterRegistry, "batch", "failure");
+	}
+
+	private static Timer writeTimer(MeterRegistry meterRegistry, String type, String outcome) {
+		return Timer.builder("cassandra.consumer.writes")
+			.description("The duration of Cassandra writes")
+			.tag("type", type)
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	@Override
+	public void accept(Object payload) {
+		List<List<Object>> rows = this.rowsFunction.apply(payload);
+		if (rows.isEmpty()) {
+			return;
+		}
+		PreparedStatement prepared = prepare();
+		for (Statement<?> statement : statements(prepared, rows)) {
+			execute(statement);
+		}
+	}
+
+	private PreparedStatement prepare() {
+		PreparedStatement prepared = this.preparedStatement;
+		if (prepared == null) {
+			this.prepareLock.lock();
+			try {
+				prepared = this.preparedStatement;
+				if (prepared == null) {
+					prepared = this.session.prepare(this.ingestQuery);
+					this.preparedStatement = prepared;
+				}
+			}
+			finally {
+				this.prepareLock.unlock();
+			}
+		}
+		return prepared;
+	}
+
+	private List<Statement<?>> statements(PreparedStatement prepared, List<List<Object>> rows) {
+		List<Statement<?>> statements = new ArrayList<>();
+		Map<ByteBuffer, List<BatchableStatement<?>>> partitions = new LinkedHashMap<>();
+		for (List<Object> row : rows) {
+			BoundStatement bound = prepared.bind(row.toArray());
+			if (this.consistencyLevel != null) {
+				bound = bound.setConsistencyLevel(this.consistencyLevel);
+			}
+			ByteBuffer routingKey = bound.getRoutingKey();
+			if (routingKey != null) {
+				partitions.computeIfAbsent(routingKey, (key) -> new ArrayList<>()).add(bound);
+			}
+			else {
+				statements.add(bound);
+			}
+		}
+		for (List<BatchableStatement<?>> partition : partitions.values()) {
+			for (int i = 0; i < partition.size(); i += this.maxBatchSize) {
+				List<BatchableStatement<?>> chunk = partition.subList(i,
+						Math.min(i + this.maxBatchSize, partition.size()));
+				if (chunk.size() == 1) {
+					statements.add(chunk.get(0));
+				}
+				else {
+					BatchStatement batch = BatchStatement.newInstance(DefaultBatchType.UNLOGGED, chunk);
+					if (this.consistencyLevel != null) {
+						batch = batch.setConsistencyLevel(this.consistencyLevel);
+					}
+					statements.add(batch);
+				}
+			}
+		}
+		return statements;
+	}
+
+	private void execute(Statement<?> statement) {
+		try {
+			this.permits.acquire();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a Cassandra write permit", ex);
+		}
+		boolean batch = statement instanceof BatchStatement;
+		long start = System.nanoTime();
+		try {
+			this.session.executeAsync(statement).whenComplete((resultSet, ex) -> {
+				this.permits.release();
+				long duration = System.nanoTime() - start;
+				if (ex == null) {
+					(batch ? this.batchSuccessTimer : this.statementSuccessTimer).record(duration,
+							TimeUnit.NANOSECONDS);
+				}
+				else {
+					(batch ? this.batchFailureTimer : this.statementFailureTimer).record(duration,
+							TimeUnit.NANOSECONDS);
+					LOGGER.error("Failed to write into Cassandra with the '" + this.ingestQuery + "'", ex);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.permits.release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Wait for the writes in flight to complete.
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		if (this.permits.tryAcquire(this.maxConcurrentRequests, 30, TimeUnit.SECONDS)) {
+			this.permits.release(this.maxConcurrentRequests);
+		}
+		else {
+			LOGGER.warn("Not all the Cassandra writes have completed in 30 seconds");
+		}
+	}
+
+}
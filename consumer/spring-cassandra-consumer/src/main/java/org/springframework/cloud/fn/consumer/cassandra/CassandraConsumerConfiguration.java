@@ -16,27 +16,23 @@
 
 package org.springframework.cloud.fn.consumer.cassandra;
 
-import java.sql.Date;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlSession;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import reactor.core.publisher.Mono;
-import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.json.JsonMapper;
-import tools.jackson.databind.util.StdDateFormat;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.data.cassandra.autoconfigure.DataCassandraReactiveAutoConfiguration;
 import org.springframework.cloud.fn.consumer.cassandra.query.ColumnNameExtractor;
@@ -52,9 +48,8 @@ import org.springframework.integration.JavaUtils;
 import org.springframework.integration.cassandra.outbound.CassandraMessageHandler;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.gateway.AnnotationGatewayProxyFactoryBean;
-import org.springframework.integration.support.json.JacksonJsonObjectMapper;
-import org.springframework.integration.transformer.AbstractPayloadTransformer;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -74,25 +69,52 @@ public class CassandraConsumerConfiguration {
 	private CassandraConsumerProperties cassandraSinkProperties;
 
 	@Bean
+	@ConditionalOnProperty(prefix = "cassandra.consumer.async", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	Consumer<Object> cassandraConsumer(CassandraConsumerFunction cassandraConsumerFunction) {
 		return (payload) -> cassandraConsumerFunction.apply(payload).block();
 	}
 
+	@Bean(name = "cassandraConsumer")
+	@ConditionalOnProperty(prefix = "cassandra.consumer.async", name = "enabled")
+	AsyncCassandraIngestConsumer asyncCassandraConsumer(CqlSession cqlSession, JsonMapper jsonMapper,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		Assert.hasText(this.cassandraSinkProperties.getIngestQuery(),
+				"The 'cassandra.consumer.ingest-query' must be set for the async write mode");
+		PayloadToMatrixTransformer payloadToMatrixTransformer = payloadToMatrixTransformer(jsonMapper,
+				() -> cqlSession);
+		return new AsyncCassandraIngestConsumer(cqlSession, this.cassandraSinkProperties.getIngestQuery(),
+				payloadToMatrixTransformer::transformPayload, this.cassandraSinkProperties.getConsistencyLevel(),
+				this.cassandraSinkProperties.getAsync(), meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
 	@Bean
 	public IntegrationFlow cassandraConsumerFlow(
-			@Qualifier("cassandraMessageHandler") MessageHandler cassandraMessageHandler, JsonMapper jsonMapper) {
+			@Qualifier("cassandraMessageHandler") MessageHandler cassandraMessageHandler, JsonMapper jsonMapper,
+			ObjectProvider<CqlSession> cqlSession) {
 
 		return (flow) -> {
 			String ingestQuery = this.cassandraSinkProperties.getIngestQuery();
 			if (StringUtils.hasText(ingestQuery)) {
-				flow.transform(new PayloadToMatrixTransformer(jsonMapper, ingestQuery,
-						(CassandraMessageHandler.Type.UPDATE == this.cassandraSinkProperties.getQueryType())
-								? new UpdateQueryColumnNameExtractor() : new InsertQueryColumnNameExtractor()));
+				flow.transform(payloadToMatrixTransformer(jsonMapper, cqlSession::getObject));
 			}
 			flow.handle(cassandraMessageHandler);
 		};
 	}
 
+	private PayloadToMatrixTransformer payloadToMatrixTransformer(JsonMapper jsonMapper,
+			Supplier<CqlSession> cqlSession) {
+
+		String ingestQuery = this.cassandraSinkProperties.getIngestQuery();
+		CassandraMessageHandler.Type queryType = this.cassandraSinkProperties.getQueryType();
+		ColumnNameExtractor columnNameExtractor = (CassandraMessageHandler.Type.UPDATE == queryType)
+				? new UpdateQueryColumnNameExtractor() : new InsertQueryColumnNameExtractor();
+		return this.cassandraSinkProperties.isSchemaAwareCoercion()
+				? new SchemaAwarePayloadToMatrixTransformer(jsonMapper, ingestQuery, columnNameExtractor, cqlSession)
+				: new PayloadToMatrixTransformer(jsonMapper, ingestQuery, columnNameExtractor);
+	}
+
 	@Bean
 	public MessageHandler cassandraMessageHandler(ReactiveCassandraOperations cassandraOperations) {
 		CassandraMessageHandler.Type queryType = Optional.ofNullable(this.cassandraSinkProperties.getQueryType())
@@ -131,95 +153,6 @@ public class CassandraConsumerConfiguration {
 		return gatewayProxyFactoryBean;
 	}
 
-	private static boolean isUuid(String uuid) {
-		if (uuid.length() == 36) {
-			String[] parts = uuid.split("-");
-			if (parts.length == 5) {
-				return (parts[0].length() == 8) && (parts[1].length() == 4) && (parts[2].length() == 4)
-						&& (parts[3].length() == 4) && (parts[4].length() == 12);
-			}
-		}
-		return false;
-	}
-
-	private static class PayloadToMatrixTransformer extends AbstractPayloadTransformer<Object, List<List<Object>>> {
-
-		private final JacksonJsonObjectMapper jsonObjectMapper;
-
-		private final List<String> columns = new LinkedList<>();
-
-		private final ISO8601StdDateFormat dateFormat = new ISO8601StdDateFormat();
-
-		private final Lock dateLock = new ReentrantLock();
-
-		PayloadToMatrixTransformer(JsonMapper objectMapper, String query, ColumnNameExtractor columnNameExtractor) {
-			JsonMapper jsonMapper = objectMapper.rebuild()
-				.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
-				.build();
-			this.jsonObjectMapper = new JacksonJsonObjectMapper(jsonMapper);
-			this.columns.addAll(columnNameExtractor.extract(query));
-		}
-
-		@Override
-		@SuppressWarnings("unchecked")
-		protected List<List<Object>> transformPayload(Object payload) {
-			if (payload instanceof List) {
-				return (List<List<Object>>) payload;
-			}
-			else {
-				try {
-					List<Map<String, Object>> model = this.jsonObjectMapper.fromJson(payload, List.class);
-					List<List<Object>> data = new ArrayList<>(model.size());
-					for (Map<String, Object> entity : model) {
-						List<Object> row = new ArrayList<>(this.columns.size());
-						for (String column : this.columns) {
-							Object value = entity.get(column);
-							if (value instanceof String string) {
-								if (this.dateFormat.looksLikeISO8601(string)) {
-									this.dateLock.lock();
-									try {
-										value = new Date(this.dateFormat.parse(string).getTime()).toLocalDate();
-									}
-									finally {
-										this.dateLock.unlock();
-									}
-								}
-								if (isUuid(string)) {
-									value = UUID.fromString(string);
-								}
-							}
-							row.add(value);
-						}
-						data.add(row);
-					}
-					return data;
-				}
-				catch (Exception ex) {
-					throw new IllegalArgumentException("Cannot parse json into matrix", ex);
-				}
-			}
-		}
-
-		@Override
-		public String getComponentType() {
-			return "payload-to-matrix-transformer";
-		}
-
-	}
-
-	/*
-	 * We need this to provide visibility to the protected method.
-	 */
-	@SuppressWarnings("serial")
-	private static class ISO8601StdDateFormat extends StdDateFormat {
-
-		@Override
-		protected boolean looksLikeISO8601(String dateStr) {
-			return super.looksLikeISO8601(dateStr);
-		}
-
-	}
-
 	interface CassandraConsumerFunction extends Function<Object, Mono<? extends WriteResult>> {
 
 	}
@@ -56,6 +56,18 @@ public class CassandraConsumerProperties {
 	 */
 	private ConsistencyLevel consistencyLevel;
 
+	/**
+	 * Whether to convert the JSON values of the ingest query according to the column
+	 * types from the cluster metadata instead of guessing the dates and UUIDs from the
+	 * string values.
+	 */
+	private boolean schemaAwareCoercion;
+
+	/**
+	 * The options for the asynchronous writes of the ingest query.
+	 */
+	private final Async async = new Async();
+
 	public int getTtl() {
 		return this.ttl;
 	}
@@ -96,4 +108,61 @@ public class CassandraConsumerProperties {
 		this.consistencyLevel = consistencyLevel;
 	}
 
+	public boolean isSchemaAwareCoercion() {
+		return this.schemaAwareCoercion;
+	}
+
+	public void setSchemaAwareCoercion(boolean schemaAwareCoercion) {
+		this.schemaAwareCoercion = schemaAwareCoercion;
+	}
+
+	public Async getAsync() {
+		return this.async;
+	}
+
+	public static class Async {
+
+		/**
+		 * Whether the 'cassandraConsumer' executes the prepared ingest query
+		 * asynchronously instead of waiting for every write. The 'ttl', if any, has to be
+		 * a 'USING TTL' clause of the ingest query in this mode.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max number of statements and batches executed at the same time.
+		 */
+		private int maxConcurrentRequests = 256;
+
+		/**
+		 * The max number of rows of the same partition written in one unlogged batch.
+		 */
+		private int maxBatchSize = 20;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxConcurrentRequests() {
+			return this.maxConcurrentRequests;
+		}
+
+		public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+			this.maxConcurrentRequests = maxConcurrentRequests;
+		}
+
+		public int getMaxBatchSize() {
+			return this.maxBatchSize;
+		}
+
+		public void setMaxBatchSize(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+		}
+
+	}
+
 }
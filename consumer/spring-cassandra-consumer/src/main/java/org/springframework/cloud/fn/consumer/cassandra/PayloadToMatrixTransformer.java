@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.cassandra;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.util.StdDateFormat;
+
+import org.springframework.cloud.fn.consumer.cassandra.query.ColumnNameExtractor;
+import org.springframework.integration.support.json.JacksonJsonObjectMapper;
+import org.springframework.integration.transformer.AbstractPayloadTransformer;
+
+/**
+ * Converts a JSON array payload into the rows of values for the columns of the ingest
+ * query.
+ *
+ * @author Artem Bilan
+ * @author Thomas Risberg
+ */
+class PayloadToMatrixTransformer extends AbstractPayloadTransformer<Object, List<List<Object>>> {
+
+	private final JacksonJsonObjectMapper jsonObjectMapper;
+
+	private final List<String> columns = new LinkedList<>();
+
+	private final ISO8601StdDateFormat dateFormat = new ISO8601StdDateFormat();
+
+	private final Lock dateLock = new ReentrantLock();
+
+	PayloadToMatrixTransformer(JsonMapper objectMapper, String query, ColumnNameExtractor columnNameExtractor) {
+		JsonMapper jsonMapper = objectMapper.rebuild()
+			.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+			.build();
+		this.jsonObjectMapper = new JacksonJsonObjectMapper(jsonMapper);
+		this.columns.addAll(columnNameExtractor.extract(query));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected List<List<Object>> transformPayload(Object payload) {
+		if (payload instanceof List) {
+			return (List<List<Object>>) payload;
+		}
+		else {
+			try {
+				List<Map<String, Object>> model = this.jsonObjectMapper.fromJson(payload, List.class);
+				List<List<Object>> data = new ArrayList<>(model.size());
+				for (Map<String, Object> entity : model) {
+					List<Object> row = new ArrayList<>(this.columns.size());
+					for (String column : this.columns) {
+						Object value = entity.get(column);
+						if (value instanceof String string) {
+							if (this.dateFormat.looksLikeISO8601(string)) {
+								this.dateLock.lock();
+								try {
+									value = new Date(this.dateFormat.parse(string).getTime()).toLocalDate();
+								}
+								finally {
+									this.dateLock.unlock();
+								}
+							}
+							if (isUuid(string)) {
+								value = UUID.fromString(string);
+							}
+						}
+						row.add(value);
+					}
+					data.add(row);
+				}
+				return data;
+			}
+			catch (Exception ex) {
+				throw new IllegalArgumentException("Cannot parse json into matrix", ex);
+			}
+		}
+	}
+
+	List<String> getColumns() {
+		return this.columns;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "payload-to-matrix-transformer";
+	}
+
+	private static boolean isUuid(String uuid) {
+		return uuid.length() == 36 && uuid.indexOf('-') == 8 && uuid.indexOf('-', 9) == 13
+				&& uuid.indexOf('-', 14) == 18 && uuid.indexOf('-', 19) == 23 && uuid.indexOf('-', 24) < 0;
+	}
+
+	/*
+	 * We need this to provide visibility to the protected method.
+	 */
+	@SuppressWarnings("serial")
+	private static class ISO8601StdDateFormat extends StdDateFormat {
+
+		@Override
+		protected boolean looksLikeISO8601(String dateStr) {
+			return super.looksLikeISO8601(dateStr);
+		}
+
+	}
+
+}
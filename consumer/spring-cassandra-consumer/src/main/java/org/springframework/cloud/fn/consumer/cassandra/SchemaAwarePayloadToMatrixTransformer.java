@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.cassandra;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.cloud.fn.consumer.cassandra.query.ColumnNameExtractor;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PayloadToMatrixTransformer} which converts the values according to the
+ * types of the ingest query columns.
+ * <p>
+ * The column types are taken from the prepared ingest query once, on the first payload,
+ * and a converter is selected for every column: the strings are parsed into the
+ * {@code java.time} values for the {@code date}, {@code time} and {@code timestamp}
+ * columns, into the {@link UUID} for the {@code uuid} and {@code timeuuid} columns, and
+ * the numbers are widened or narrowed to the numeric column type. The JSON is read with a
+ * streaming parser straight into the rows, skipping the properties which are not the
+ * query columns.
+ *
+ * @since 6.0.1
+ */
+class SchemaAwarePayloadToMatrixTransformer extends PayloadToMatrixTransformer {
+
+	private static final Map<DataType, Function<Object, Object>> CONVERTERS;
+
+	static {
+		Map<DataType, Function<Object, Object>> converters = new HashMap<>();
+		converters.put(DataTypes.UUID, SchemaAwarePayloadToMatrixTransformer::toUuid);
+		converters.put(DataTypes.TIMEUUID, SchemaAwarePayloadToMatrixTransformer::toUuid);
+		converters.put(DataTypes.DATE, SchemaAwarePayloadToMatrixTransformer::toLocalDate);
+		converters.put(DataTypes.TIME, SchemaAwarePayloadToMatrixTransformer::toLocalTime);
+		converters.put(DataTypes.TIMESTAMP, SchemaAwarePayloadToMatrixTransformer::toInstant);
+		converters.put(DataTypes.BIGINT, (value) -> toNumber(value, Number::longValue, Long::valueOf));
+		converters.put(DataTypes.COUNTER, (value) -> toNumber(value, Number::longValue, Long::valueOf));
+		converters.put(DataTypes.INT, (value) -> toNumber(value, Number::intValue, Integer::valueOf));
+		converters.put(DataTypes.SMALLINT, (value) -> toNumber(value, Number::shortValue, Short::valueOf));
+		converters.put(DataTypes.TINYINT, (value) -> toNumber(value, Number::byteValue, Byte::valueOf));
+		converters.put(DataTypes.DOUBLE, (value) -> toNumber(value, Number::doubleValue, Double::valueOf));
+		converters.put(DataTypes.FLOAT, (value) -> toNumber(value, Number::floatValue, Float::valueOf));
+		converters.put(DataTypes.DECIMAL, (value) -> toNumber(value,
+				(number) -> (number instanceof BigDecimal) ? number : new BigDecimal(number.toString()),
+				BigDecimal::new));
+		converters.put(DataTypes.VARINT, (value) -> toNumber(value,
+				(number) -> (number instanceof BigInteger) ? number : BigInteger.valueOf(number.longValue()),
+				BigInteger::new));
+		converters.put(DataTypes.BOOLEAN,
+				(value) -> (value instanceof String string) ? Boolean.valueOf(string.trim()) : value);
+		converters.put(DataTypes.BLOB, (value) -> (value instanceof String string)
+				? ByteBuffer.wrap(Base64.getDecoder().decode(string)) : value);
+		CONVERTERS = Map.copyOf(converters);
+	}
+
+	private final JsonMapper jsonMapper;
+
+	private final String query;
+
+	private final Supplier<CqlSession> cqlSession;
+
+	private final Map<String, int[]> columnIndexes = new HashMap<>();
+
+	private final int columnCount;
+
+	private final Lock convertersLock = new ReentrantLock();
+
+	private volatile @Nullable List<Function<Object, Object>> converters;
+
+	SchemaAwarePayloadToMatrixTransformer(JsonMapper jsonMapper, String query, ColumnNameExtractor columnNameExtractor,
+			Supplier<CqlSession> cqlSession) {
+
+		super(jsonMapper, query, columnNameExtractor);
+		this.jsonMapper = jsonMapper;
+		this.query = query;
+		this.cqlSession = cqlSession;
+		List<String> columns = getColumns();
+		this.columnCount = columns.size();
+		for (int i = 0; i < this.columnCount; i++) {
+			int index = i;
+			this.columnIndexes.merge(columns.get(i), new int[] { index }, (indexes, newIndex) -> {
+				int[] merged = Arrays.copyOf(indexes, indexes.length + 1);
+				merged[indexes.length] = index;
+				return merged;
+			});
+		}
+	}
+
+	@Override
+	protected List<List<Object>> transformPayload(Object payload) {
+		if (payload instanceof List) {
+			return super.transformPayload(payload);
+		}
+		List<Function<Object, Object>> converters = converters();
+		try (JsonParser parser = createParser(payload)) {
+			List<List<Object>> data = new ArrayList<>();
+			JsonToken token = parser.nextToken();
+			if (token == JsonToken.START_ARRAY) {
+				while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+					data.add(readRow(parser, token, converters));
+				}
+			}
+			else {
+				data.add(readRow(parser, token, converters));
+			}
+			return data;
+		}
+		catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Cannot parse json into matrix", ex);
+		}
+	}
+
+	private JsonParser createParser(Object payload) {
+		if (payload instanceof String string) {
+			return this.jsonMapper.createParser(string);
+		}
+		else if (payload instanceof byte[] bytes) {
+			return this.jsonMapper.createParser(bytes);
+		}
+		else if (payload instanceof InputStream inputStream) {
+			return this.jsonMapper.createParser(inputStream);
+		}
+		else if (payload instanceof Reader reader) {
+			return this.jsonMapper.createParser(reader);
+		}
+		else if (payload instanceof File file) {
+			return this.jsonMapper.createParser(file);
+		}
+		throw new IllegalArgumentException("Unsupported payload type: " + payload.getClass());
+	}
+
+	private List<Object> readRow(JsonParser parser, @Nullable JsonToken token,
+			List<Function<Object, Object>> converters) {
+
+		Assert.isTrue(token == JsonToken.START_OBJECT, () -> "Expected a JSON object for a row, but got: " + token);
+		Object[] row = new Object[this.columnCount];
+		while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+			int[] indexes = this.columnIndexes.get(parser.currentName());
+			JsonToken valueToken = parser.nextToken();
+			if (indexes == null) {
+				parser.skipChildren();
+				continue;
+			}
+			Object value = readValue(parser, valueToken);
+			for (int index : indexes) {
+				row[index] = (value != null) ? converters.get(index).apply(value) : null;
+			}
+		}
+		return Arrays.asList(row);
+	}
+
+	private @Nullable Object readValue(JsonParser parser, JsonToken token) {
+		return switch (token) {
+			case VALUE_STRING -> parser.getString();
+			case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+			case VALUE_TRUE -> Boolean.TRUE;
+			case VALUE_FALSE -> Boolean.FALSE;
+			case VALUE_NULL -> null;
+			default -> this.jsonMapper.readValue(parser, Object.class);
+		};
+	}
+
+	private List<Function<Object, Object>> converters() {
+		List<Function<Object, Object>> converters = this.converters;
+		if (converters == null) {
+			this.convertersLock.lock();
+			try {
+				converters = this.converters;
+				if (converters == null) {
+					ColumnDefinitions variables = this.cqlSession.get().prepare(this.query).getVariableDefinitions();
+					Assert.state(variables.size() == this.columnCount, () -> "The ingest query has " + variables.size()
+							+ " bind markers, but " + this.columnCount + " columns are extracted: " + getColumns());
+					converters = new ArrayList<>(this.columnCount);
+					for (ColumnDefinition variable : variables) {
+						converters.add(CONVERTERS.getOrDefault(variable.getType(), Function.identity()));
+					}
+					this.converters = converters;
+				}
+			}
+			finally {
+				this.convertersLock.unlock();
+			}
+		}
+		return converters;
+	}
+
+	private static Object toNumber(Object value, Function<Number, Object> fromNumber,
+			Function<String, Object> fromString) {
+
+		if (value instanceof Number number) {
+			return fromNumber.apply(number);
+		}
+		else if (value instanceof String string) {
+			return fromString.apply(string.trim());
+		}
+		return value;
+	}
+
+	static Object toUuid(Object value) {
+		if (value instanceof String string && string.length() == 36 && string.charAt(8) == '-'
+				&& string.charAt(13) == '-' && string.charAt(18) == '-' && string.charAt(23) == '-') {
+
+			long mostSigBits = (hex(string, 0, 8) << 32) | (hex(string, 9, 13) << 16) | hex(string, 14, 18);
+			long leastSigBits = (hex(string, 19, 23) << 48) | hex(string, 24, 36);
+			return new UUID(mostSigBits, leastSigBits);
+		}
+		return value;
+	}
+
+	private static long hex(String string, int beginIndex, int endIndex) {
+		return Long.parseUnsignedLong(string, beginIndex, endIndex, 16);
+	}
+
+	static Object toLocalDate(Object value) {
+		if (value instanceof String string) {
+			if (string.length() == 10) {
+				return LocalDate.parse(string);
+			}
+			TemporalAccessor dateTime = DateTimeFormatter.ISO_DATE_TIME.parseBest(string, OffsetDateTime::from,
+					LocalDateTime::from);
+			return (dateTime instanceof OffsetDateTime offsetDateTime) ? offsetDateTime.toLocalDate()
+					: ((LocalDateTime) dateTime).toLocalDate();
+		}
+		return value;
+	}
+
+	static Object toLocalTime(Object value) {
+		if (value instanceof String string) {
+			return LocalTime.parse(string);
+		}
+		else if (value instanceof Number number) {
+			return LocalTime.ofNanoOfDay(number.longValue());
+		}
+		return value;
+	}
+
+	static Object toInstant(Object value) {
+		if (value instanceof String string) {
+			if (string.length() == 10) {
+				return LocalDate.parse(string).atStartOfDay(ZoneOffset.UTC).toInstant();
+			}
+			TemporalAccessor dateTime = DateTimeFormatter.ISO_DATE_TIME.parseBest(string, Instant::from,
+					LocalDateTime::from);
+			return (dateTime instanceof Instant instant) ? instant
+					: ((LocalDateTime) dateTime).toInstant(ZoneOffset.UTC);
+		}
+		else if (value instanceof Number number) {
+			return Instant.ofEpochMilli(number.longValue());
+		}
+		return value;
+	}
+
+}
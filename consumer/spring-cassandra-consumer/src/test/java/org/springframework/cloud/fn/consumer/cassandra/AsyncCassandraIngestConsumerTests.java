@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.cassandra;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AsyncCassandraIngestConsumerTests {
+
+	@Test
+	void rowsOfSamePartitionAreWrittenInUnloggedBatches() {
+		CqlSession session = mock();
+		PreparedStatement preparedStatement = mock();
+		given(session.prepare("insert into t (pk, ck) values (?, ?)")).willReturn(preparedStatement);
+		given(preparedStatement.bind(any(Object[].class))).willAnswer((invocation) -> {
+			BoundStatement boundStatement = mock();
+			String partitionKey = invocation.getArgument(0);
+			given(boundStatement.getRoutingKey())
+				.willReturn(ByteBuffer.wrap(partitionKey.getBytes(StandardCharsets.UTF_8)));
+			return boundStatement;
+		});
+		given(session.executeAsync(any(Statement.class)))
+			.willReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		CassandraConsumerProperties.Async async = new CassandraConsumerProperties.Async();
+		async.setMaxBatchSize(2);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		AsyncCassandraIngestConsumer consumer = new AsyncCassandraIngestConsumer(session,
+				"insert into t (pk, ck) values (?, ?)", rows(), null, async, meterRegistry);
+
+		consumer.accept(List.of(List.of("a", 1), List.of("b", 1), List.of("a", 2), List.of("a", 3)));
+
+		ArgumentCaptor<Statement<?>> statements = ArgumentCaptor.captor();
+		verify(session, times(3)).executeAsync(statements.capture());
+
+		assertThat(statements.getAllValues()).satisfiesExactly((statement) -> {
+			assertThat(statement).isInstanceOf(BatchStatement.class);
+			assertThat(((BatchStatement) statement).getBatchType()).isEqualTo(DefaultBatchType.UNLOGGED);
+			assertThat(((BatchStatement) statement).size()).isEqualTo(2);
+		}, (statement) -> assertThat(statement).isInstanceOf(BoundStatement.class),
+				(statement) -> assertThat(statement).isInstanceOf(BoundStatement.class));
+
+		assertThat(meterRegistry.get("cassandra.consumer.writes")
+			.tags("type", "batch", "outcome", "success")
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("cassandra.consumer.writes")
+			.tags("type", "statement", "outcome", "success")
+			.timer()
+			.count()).isEqualTo(2);
+		assertThat(meterRegistry.get("cassandra.consumer.writes.in-flight").gauge().value()).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, List<List<Object>>> rows() {
+		return (payload) -> (List<List<Object>>) payload;
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.cassandra;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.fn.consumer.cassandra.domain.Book;
+import org.springframework.context.annotation.Bean;
+import org.springframework.integration.support.json.JacksonJsonObjectMapper;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = { "cassandra.cluster.init-script=init-db.cql",
+		"cassandra.consumer.ingest-query="
+				+ "insert into book (isbn, title, author, pages, saleDate, inStock) values (?, ?, ?, ?, ?, ?)",
+		"cassandra.consumer.async.enabled=true" })
+class CassandraAsyncIngestInsertTests extends CassandraConsumerApplicationTests {
+
+	@Test
+	void testAsyncIngestQuery(@Autowired JsonMapper objectMapper,
+			@Autowired @Qualifier("cassandraConsumer") Consumer<Object> asyncCassandraConsumer,
+			@Autowired MeterRegistry meterRegistry) throws Exception {
+
+		assertThat(asyncCassandraConsumer).isInstanceOf(AsyncCassandraIngestConsumer.class);
+
+		List<Book> books = getBookList(5);
+
+		asyncCassandraConsumer.accept(new JacksonJsonObjectMapper(objectMapper).toJson(books));
+
+		await().atMost(Duration.ofSeconds(30))
+			.untilAsserted(() -> assertThat(this.cassandraTemplate.query(Book.class).count()).isEqualTo(5));
+
+		// Every book is in its own partition
+		await().untilAsserted(() -> assertThat(meterRegistry.get("cassandra.consumer.writes")
+			.tags("type", "statement", "outcome", "success")
+			.timer()
+			.count()).isEqualTo(5));
+		assertThat(meterRegistry.get("cassandra.consumer.writes.in-flight").gauge().value()).isZero();
+	}
+
+	@TestConfiguration
+	static class MeterRegistryConfiguration {
+
+		@Bean
+		SimpleMeterRegistry simpleMeterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.cassandra;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.data.cassandra.core.WriteResult;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = { "cassandra.cluster.init-script=init-db.cql",
+		"cassandra.consumer.ingest-query="
+				+ "insert into book (isbn, title, author, pages, saleDate, inStock) values (?, ?, ?, ?, ?, ?)",
+		"cassandra.consumer.schema-aware-coercion=true" })
+class CassandraSchemaAwareIngestTests extends CassandraConsumerApplicationTests {
+
+	@Test
+	void testIngestQueryWithColumnTypes() {
+		UUID isbn1 = UUID.randomUUID();
+		UUID isbn2 = UUID.randomUUID();
+		String json = """
+				[
+					{"isbn": "%s", "title": "Spring in Action", "author": "Guru", "pages": "120",
+						"saleDate": "2026-10-19", "inStock": true, "publisher": {"name": "ignored"}},
+					{"isbn": "%s", "title": "Cassandra Guide", "author": "Guru", "pages": 230,
+						"saleDate": "2026-10-19T10:15:30Z", "inStock": "false", "tags": ["ignored"]}
+				]
+				""".formatted(isbn1, isbn2);
+
+		Mono<? extends WriteResult> result = this.cassandraConsumer.apply(json);
+
+		StepVerifier.create(result).expectNextCount(1).verifyComplete();
+
+		assertThat(selectBook(isbn1)).containsEntry("title", "Spring in Action")
+			.containsEntry("pages", 120)
+			.containsEntry("saledate", LocalDate.of(2026, 10, 19))
+			.containsEntry("instock", true);
+
+		assertThat(selectBook(isbn2)).containsEntry("title", "Cassandra Guide")
+			.containsEntry("pages", 230)
+			.containsEntry("saledate", LocalDate.of(2026, 10, 19))
+			.containsEntry("instock", false);
+	}
+
+	@Test
+	void testSingleObjectIngest() {
+		UUID isbn = UUID.randomUUID();
+		String json = """
+				{"isbn": "%s", "title": "Single", "author": "Guru", "pages": 10, "saleDate": "2026-01-01"}
+				""".formatted(isbn);
+
+		StepVerifier.create(this.cassandraConsumer.apply(json)).expectNextCount(1).verifyComplete();
+
+		assertThat(selectBook(isbn)).containsEntry("title", "Single")
+			.containsEntry("pages", 10)
+			.containsEntry("saledate", LocalDate.of(2026, 1, 1))
+			.containsEntry("instock", null);
+	}
+
+	private Map<String, Object> selectBook(UUID isbn) {
+		return this.cassandraTemplate.getCqlOperations().queryForMap("select * from book where isbn = ?", isbn);
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.cassandra;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaAwarePayloadToMatrixTransformerTests {
+
+	@Test
+	void stringsAreConvertedToColumnTypes() {
+		UUID uuid = UUID.randomUUID();
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toUuid(uuid.toString())).isEqualTo(uuid);
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toUuid("not-a-uuid")).isEqualTo("not-a-uuid");
+
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toLocalDate("2026-10-19"))
+			.isEqualTo(LocalDate.of(2026, 10, 19));
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toLocalDate("2026-10-19T23:15:30+02:00"))
+			.isEqualTo(LocalDate.of(2026, 10, 19));
+
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toInstant("2026-10-19T10:15:30Z"))
+			.isEqualTo(Instant.parse("2026-10-19T10:15:30Z"));
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toInstant("2026-10-19T12:15:30+02:00"))
+			.isEqualTo(Instant.parse("2026-10-19T10:15:30Z"));
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toInstant("2026-10-19T10:15:30"))
+			.isEqualTo(Instant.parse("2026-10-19T10:15:30Z"));
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toInstant(0L)).isEqualTo(Instant.EPOCH);
+
+		assertThat(SchemaAwarePayloadToMatrixTransformer.toLocalTime("10:15:30")).isEqualTo(LocalTime.of(10, 15, 30));
+	}
+
+}
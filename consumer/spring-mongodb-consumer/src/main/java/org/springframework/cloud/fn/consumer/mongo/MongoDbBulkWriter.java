@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.mongo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Accumulates message payloads and stores them into MongoDB with bulk inserts. The
+ * documents are released by the {@link MongoDbConsumerProperties.Batch#getSize()} or
+ * {@link MongoDbConsumerProperties.Batch#getTimeout()}, whichever comes first, and a
+ * released batch is split into one bulk write per target collection. No more than
+ * {@link MongoDbConsumerProperties.Batch#getConcurrency()} bulk writes are in flight at
+ * the same time.
+ * <p>
+ * The {@link #write(Message)} blocks the caller when
+ * {@link MongoDbConsumerProperties.Batch#getQueueCapacity()} documents are pending, and
+ * returns a {@link Mono} which is completed when the batch with the document is stored.
+ * A failed bulk write is logged and propagated to all the {@link Mono}s of its batch.
+ *
+ * @since 6.0.1
+ */
+public class MongoDbBulkWriter implements SmartLifecycle {
+
+	private static final Log LOGGER = LogFactory.getLog(MongoDbBulkWriter.class);
+
+	private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(10);
+
+	private final ReactiveMongoTemplate mongoTemplate;
+
+	private final Expression collectionExpression;
+
+	private final EvaluationContext evaluationContext;
+
+	private final MongoDbConsumerProperties.Batch batch;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Meter.MeterProvider<DistributionSummary> batchSizeSummary;
+
+	private final Meter.MeterProvider<Timer> bulkWriteTimer;
+
+	private final Semaphore pending;
+
+	private final Sinks.Many<PendingDocument> sink = Sinks.many().unicast().onBackpressureBuffer();
+
+	private volatile @Nullable CompletableFuture<Void> completion;
+
+	public MongoDbBulkWriter(ReactiveMongoTemplate mongoTemplate, Expression collectionExpression,
+			EvaluationContext evaluationContext, MongoDbConsumerProperties.Batch batch, MeterRegistry meterRegistry) {
+
+		this.mongoTemplate = mongoTemplate;
+		this.collectionExpression = collectionExpression;
+		this.evaluationContext = evaluationContext;
+		this.batch = batch;
+		this.meterRegistry = meterRegistry;
+		this.batchSizeSummary = DistributionSummary.builder("mongodb.consumer.batch.size")
+			.description("The number of documents in a MongoDB bulk write")
+			.withRegistry(meterRegistry);
+		this.bulkWriteTimer = Timer.builder("mongodb.consumer.bulk.write")
+			.description("The latency of MongoDB bulk writes")
+			.withRegistry(meterRegistry);
+		this.pending = new Semaphore(batch.getQueueCapacity());
+	}
+
+	/**
+	 * Add the message payload to the next batch for its target collection.
+	 * @param message the message to store.
+	 * @return the {@link Mono} completed when the batch with this message is stored.
+	 */
+	public Mono<Void> write(Message<?> message) {
+		Assert.state(isRunning(), "The MongoDbBulkWriter is not running");
+		String collection = this.collectionExpression.getValue(this.evaluationContext, message, String.class);
+		if (!StringUtils.hasText(collection)) {
+			throw new MessagingException(message, "The collection expression evaluated to empty value");
+		}
+		PendingDocument document = new PendingDocument(collection, toDocument(message.getPayload()),
+				Sinks.empty());
+		try {
+			this.pending.acquire();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessagingException(message, "Interrupted while waiting for pending bulk writes", ex);
+		}
+		try {
+			this.sink.emitNext(document, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+		}
+		catch (RuntimeException ex) {
+			this.pending.release();
+			throw new MessagingException(message, "Cannot add the message to the bulk write", ex);
+		}
+		return document.result().asMono();
+	}
+
+	@Override
+	public void start() {
+		if (this.completion == null) {
+			this.completion = this.sink.asFlux()
+				.bufferTimeout(this.batch.getSize(), this.batch.getTimeout())
+				.concatMapIterable(MongoDbBulkWriter::groupByCollection)
+				.flatMap(this::insert, this.batch.getConcurrency())
+				.then()
+				.toFuture();
+		}
+	}
+
+	@Override
+	public void stop() {
+		CompletableFuture<Void> completion = this.completion;
+		if (completion != null) {
+			this.completion = null;
+			this.sink.emitComplete(Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+			try {
+				completion.get(this.batch.getTimeout().plus(EMIT_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			catch (Exception ex) {
+				LOGGER.warn("Pending bulk writes have not been completed on stop", ex);
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.completion != null;
+	}
+
+	@Override
+	public int getPhase() {
+		return 0;
+	}
+
+	private Mono<Void> insert(CollectionBatch collectionBatch) {
+		String collection = collectionBatch.collection();
+		List<PendingDocument> documents = collectionBatch.documents();
+		BulkOperations.BulkMode bulkMode = this.batch.isOrdered() ? BulkOperations.BulkMode.ORDERED
+				: BulkOperations.BulkMode.UNORDERED;
+		this.batchSizeSummary.withTags("collection", collection).record(documents.size());
+
+		Timer.Sample sample = Timer.start(this.meterRegistry);
+		return Mono
+			.defer(() -> this.mongoTemplate.bulkOps(bulkMode, collection)
+				.insert(documents.stream().map(PendingDocument::document).toList())
+				.execute())
+			.doOnSuccess((result) -> {
+				sample.stop(writeTimer(collection, "success"));
+				documents.forEach((document) -> document.result().tryEmitEmpty());
+			})
+			.onErrorResume((ex) -> {
+				sample.stop(writeTimer(collection, "failure"));
+				LOGGER.error("Bulk write of " + documents.size() + " documents into '" + collection + "' failed", ex);
+				documents.forEach((document) -> document.result().tryEmitError(ex));
+				return Mono.empty();
+			})
+			.doFinally((signal) -> this.pending.release(documents.size()))
+			.then();
+	}
+
+	private Timer writeTimer(String collection, String outcome) {
+		return this.bulkWriteTimer.withTags("collection", collection, "outcome", outcome);
+	}
+
+	private static List<CollectionBatch> groupByCollection(List<PendingDocument> documents) {
+		Map<String, List<PendingDocument>> byCollection = new LinkedHashMap<>();
+		for (PendingDocument document : documents) {
+			byCollection.computeIfAbsent(document.collection(), (key) -> new ArrayList<>()).add(document);
+		}
+		List<CollectionBatch> batches = new ArrayList<>(byCollection.size());
+		byCollection.forEach((collection, batch) -> batches.add(new CollectionBatch(collection, batch)));
+		return batches;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object toDocument(Object payload) {
+		if (payload instanceof String json) {
+			return Document.parse(json);
+		}
+		else if (payload instanceof Document) {
+			return payload;
+		}
+		else if (payload instanceof Map<?, ?> map) {
+			return new Document((Map<String, Object>) map);
+		}
+		return payload;
+	}
+
+	private record PendingDocument(String collection, Object document, Sinks.Empty<Void> result) {
+
+	}
+
+	private record CollectionBatch(String collection, List<PendingDocument> documents) {
+
+	}
+
+}
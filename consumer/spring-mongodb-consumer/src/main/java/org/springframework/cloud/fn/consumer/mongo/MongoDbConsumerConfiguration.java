@@ -19,25 +19,37 @@ package org.springframework.cloud.fn.consumer.mongo;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.mongodb.autoconfigure.MongoReactiveAutoConfiguration;
 import org.springframework.cloud.fn.common.config.ComponentCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.mongodb.outbound.ReactiveMongoDbStoringMessageHandler;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.ReactiveMessageHandler;
+import org.springframework.messaging.support.ErrorMessage;
 
 /**
  * A configuration for MongoDB Consumer function. Uses a
- * {@link ReactiveMongoDbStoringMessageHandler} to save payload contents to Mongo DB.
+ * {@link ReactiveMongoDbStoringMessageHandler} to save payload contents to Mongo DB, or
+ * a {@link MongoDbBulkWriter} when {@code mongodb.consumer.batch.enabled} is set. In the
+ * batch mode, the {@link Consumer} does not wait for the batch to be stored, and the
+ * messages of a failed bulk write are sent to the {@code errorChannel}.
  *
  * @author Artem Bilan
  * @author David Turanski
@@ -58,33 +70,70 @@ public class MongoDbConsumerConfiguration {
 
 	@Bean
 	public Consumer<Message<?>> mongodbConsumer(
-			@Qualifier("mongodbConsumerFunction") Function<Message<?>, Mono<Void>> mongodbConsumerFunction) {
+			@Qualifier("mongodbConsumerFunction") Function<Message<?>, Mono<Void>> mongodbConsumerFunction,
+			@Qualifier(IntegrationContextUtils.ERROR_CHANNEL_BEAN_NAME) ObjectProvider<MessageChannel> errorChannel) {
 
+		if (this.properties.getBatch().isEnabled()) {
+			// Waiting for the batch would block the caller until the batch timeout
+			return (message) -> mongodbConsumerFunction.apply(message)
+				.subscribe(null, (ex) -> sendToErrorChannel(errorChannel.getIfAvailable(), message, ex));
+		}
 		return (message) -> mongodbConsumerFunction.apply(message).subscribe();
 	}
 
 	@Bean
 	public Function<Message<?>, Mono<Void>> mongodbConsumerFunction(
-			@Qualifier("mongoConsumerMessageHandler") ReactiveMessageHandler mongoConsumerMessageHandler) {
+			@Qualifier("mongoConsumerMessageHandler") ObjectProvider<ReactiveMessageHandler> messageHandler,
+			ObjectProvider<MongoDbBulkWriter> mongoDbBulkWriterProvider) {
+
+		MongoDbBulkWriter mongoDbBulkWriter = mongoDbBulkWriterProvider.getIfAvailable();
+		if (mongoDbBulkWriter != null) {
+			return mongoDbBulkWriter::write;
+		}
+		return messageHandler.getObject()::handleMessage;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "mongodb.consumer.batch", name = "enabled")
+	public MongoDbBulkWriter mongoDbBulkWriter(
+			@Qualifier(IntegrationContextUtils.INTEGRATION_EVALUATION_CONTEXT_BEAN_NAME) EvaluationContext evaluationContext,
+			ObjectProvider<MeterRegistry> meterRegistry) {
 
-		return mongoConsumerMessageHandler::handleMessage;
+		return new MongoDbBulkWriter(this.mongoTemplate, collectionExpression(), evaluationContext,
+				this.properties.getBatch(), meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "mongodb.consumer.batch", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public ReactiveMessageHandler mongoConsumerMessageHandler(
 			@Nullable ComponentCustomizer<ReactiveMongoDbStoringMessageHandler> mongoDbMessageHandlerCustomizer) {
 
 		ReactiveMongoDbStoringMessageHandler mongoDbMessageHandler = new ReactiveMongoDbStoringMessageHandler(
 				this.mongoTemplate);
-		Expression collectionExpression = this.properties.getCollectionExpression();
-		if (collectionExpression == null) {
-			collectionExpression = new LiteralExpression(this.properties.getCollection());
-		}
-		mongoDbMessageHandler.setCollectionNameExpression(collectionExpression);
+		mongoDbMessageHandler.setCollectionNameExpression(collectionExpression());
 		if (mongoDbMessageHandlerCustomizer != null) {
 			mongoDbMessageHandlerCustomizer.customize(mongoDbMessageHandler);
 		}
 		return mongoDbMessageHandler;
 	}
 
+	private static void sendToErrorChannel(@Nullable MessageChannel errorChannel, Message<?> message,
+			Throwable cause) {
+
+		// The failure is already logged by the bulk writer
+		if (errorChannel != null) {
+			errorChannel.send(new ErrorMessage(
+					new MessageDeliveryException(message, "Failed to store the message into MongoDB", cause)));
+		}
+	}
+
+	private Expression collectionExpression() {
+		Expression collectionExpression = this.properties.getCollectionExpression();
+		if (collectionExpression == null) {
+			collectionExpression = new LiteralExpression(this.properties.getCollection());
+		}
+		return collectionExpression;
+	}
+
 }
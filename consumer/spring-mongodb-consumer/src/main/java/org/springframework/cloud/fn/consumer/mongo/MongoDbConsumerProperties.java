@@ -16,7 +16,11 @@
 
 package org.springframework.cloud.fn.consumer.mongo;
 
+import java.time.Duration;
+
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.expression.Expression;
@@ -44,6 +48,12 @@ public class MongoDbConsumerProperties {
 	 */
 	private Expression collectionExpression;
 
+	/**
+	 * Bulk write options.
+	 */
+	@Valid
+	private Batch batch = new Batch();
+
 	public void setCollection(String collection) {
 		this.collection = collection;
 	}
@@ -60,9 +70,107 @@ public class MongoDbConsumerProperties {
 		return this.collectionExpression;
 	}
 
+	public Batch getBatch() {
+		return this.batch;
+	}
+
+	public void setBatch(Batch batch) {
+		this.batch = batch;
+	}
+
 	@AssertTrue(message = "One of 'collection' or 'collectionExpression' is required")
 	private boolean isValid() {
 		return StringUtils.hasText(this.collection) || this.collectionExpression != null;
 	}
 
+	public static class Batch {
+
+		/**
+		 * Whether to accumulate documents and store them with bulk inserts instead of one
+		 * insert per message. The 'mongodbConsumer' does not wait for the bulk writes
+		 * then: a failed batch is only logged; the 'mongodbConsumerFunction' result
+		 * reports the outcome for every message.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max number of documents to accumulate before releasing a bulk write.
+		 */
+		@Min(1)
+		private int size = 100;
+
+		/**
+		 * The max time to wait for a batch to fill up before releasing it.
+		 */
+		private Duration timeout = Duration.ofSeconds(1);
+
+		/**
+		 * Whether bulk inserts are ordered. An ordered bulk write stops on the first
+		 * failed document, an unordered one attempts all the documents of the batch.
+		 */
+		private boolean ordered = true;
+
+		/**
+		 * The max number of bulk writes in flight at the same time.
+		 */
+		@Min(1)
+		private int concurrency = 4;
+
+		/**
+		 * The number of messages the consumer may hold before it blocks the caller waiting
+		 * for pending bulk writes.
+		 */
+		@Min(1)
+		private int queueCapacity = 1000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getSize() {
+			return this.size;
+		}
+
+		public void setSize(int size) {
+			this.size = size;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public boolean isOrdered() {
+			return this.ordered;
+		}
+
+		public void setOrdered(boolean ordered) {
+			this.ordered = ordered;
+		}
+
+		public int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.mongo;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = { "mongodb.consumer.collection-expression=headers.collection ?: 'batched'",
+		"mongodb.consumer.batch.enabled=true", "mongodb.consumer.batch.size=2",
+		"mongodb.consumer.batch.timeout=200ms" })
+@DirtiesContext
+class MongoDbConsumerBatchTests implements MongoDbTestContainerSupport {
+
+	@Autowired
+	private Function<Message<?>, Mono<Void>> mongodbConsumerFunction;
+
+	@Autowired
+	private Consumer<Message<?>> mongodbConsumer;
+
+	@Autowired
+	private ReactiveMongoTemplate mongoTemplate;
+
+	@Autowired
+	@Qualifier("errorChannel")
+	private SubscribableChannel errorChannel;
+
+	@Test
+	void documentsAreStoredWithBulkWrites() {
+		Mono<Void> first = this.mongodbConsumerFunction.apply(new GenericMessage<>(Map.of("foo", "bar")));
+		Mono<Void> second = this.mongodbConsumerFunction.apply(new GenericMessage<>("{\"my_data\": \"THE DATA\"}"));
+		Mono<Void> third = this.mongodbConsumerFunction
+			.apply(MessageBuilder.withPayload(Map.of("other", "value")).setHeader("collection", "other").build());
+
+		StepVerifier.create(Mono.when(first, second, third)).expectComplete().verify(Duration.ofSeconds(10));
+
+		assertThat(this.mongoTemplate.findAll(Document.class, "batched").count().block()).isEqualTo(2L);
+		assertThat(this.mongoTemplate.findAll(Document.class, "other").count().block()).isEqualTo(1L);
+
+		this.mongodbConsumer.accept(new GenericMessage<>("{\"last\": true}"));
+
+		await().timeout(Duration.ofSeconds(10))
+			.untilAsserted(() -> assertThat(this.mongoTemplate.findAll(Document.class, "batched").count().block())
+				.isEqualTo(3L));
+	}
+
+	@Test
+	void failedBulkWritesAreSentToErrorChannel() throws InterruptedException {
+		BlockingQueue<Message<?>> errors = new LinkedBlockingQueue<>();
+		MessageHandler errorHandler = errors::add;
+		this.errorChannel.subscribe(errorHandler);
+		try {
+			Message<?> duplicate = MessageBuilder.withPayload("{\"_id\": \"duplicate\"}")
+				.setHeader("collection", "failing")
+				.build();
+			this.mongodbConsumer.accept(duplicate);
+			this.mongodbConsumer.accept(duplicate);
+
+			Message<?> error = errors.poll(10, TimeUnit.SECONDS);
+			assertThat(error).isInstanceOf(ErrorMessage.class);
+			assertThat(((ErrorMessage) error).getPayload()).isInstanceOf(MessageDeliveryException.class)
+				.extracting((ex) -> ((MessageDeliveryException) ex).getFailedMessage())
+				.isSameAs(duplicate);
+		}
+		finally {
+			this.errorChannel.unsubscribe(errorHandler);
+		}
+	}
+
+	@SpringBootApplication
+	static class MongoDbConsumerBatchTestApplication {
+
+	}
+
+}
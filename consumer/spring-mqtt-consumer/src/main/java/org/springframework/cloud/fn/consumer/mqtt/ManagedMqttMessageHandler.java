@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.mqtt;
+
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.integration.mqtt.support.MqttHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MessageHandler} which publishes the messages to MQTT without waiting for
+ * their acknowledgements, with a bounded window of publishes in flight.
+ * <p>
+ * Up to {@code maxInflight} publishes are waiting for their acknowledgements at the same
+ * time. When this window is full, the
+ * {@link #handleMessage(Message)} is blocked until one of them is acknowledged, or fails
+ * with a {@link MessageDeliveryException} after the
+ * {@link MqttConsumerProperties.ManagedAsync#getMaxWait()}.
+ * <p>
+ * When the publish is acknowledged, the message is sent to the success channel, if any.
+ * When the publish fails, an {@link ErrorMessage} with a {@link MessageDeliveryException}
+ * is sent to the failure channel, or the failure is logged. These channels are called on
+ * the MQTT client thread, so their subscribers must not block. The time from publish to
+ * acknowledgement is recorded in the {@code mqtt.consumer.publish} timer with the
+ * {@code topic} and {@code outcome} tags.
+ * <p>
+ * The {@link MqttHeaders#TOPIC}, {@link MqttHeaders#QOS} and {@link MqttHeaders#RETAINED}
+ * headers override the defaults from the {@link MqttConsumerProperties}.
+ *
+ * @since 6.0.1
+ */
+public class ManagedMqttMessageHandler implements MessageHandler, DisposableBean {
+
+	private static final Log LOGGER = LogFactory.getLog(ManagedMqttMessageHandler.class);
+
+	private final Client client;
+
+	private final String defaultTopic;
+
+	private final int defaultQos;
+
+	private final boolean defaultRetained;
+
+	private final Charset charset;
+
+	private final int maxInflight;
+
+	private final Duration maxWait;
+
+	private final Semaphore permits;
+
+	private final @Nullable MessageChannel successChannel;
+
+	private final @Nullable MessageChannel failureChannel;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+
+	private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+
+	public ManagedMqttMessageHandler(Client client, MqttConsumerProperties properties, int maxInflight,
+			@Nullable MessageChannel successChannel, @Nullable MessageChannel failureChannel,
+			MeterRegistry meterRegistry) {
+
+		Assert.isTrue(maxInflight > 0, "'maxInflight' must be greater than 0");
+		this.client = client;
+		this.defaultTopic = properties.getTopic();
+		this.defaultQos = properties.getQos();
+		this.defaultRetained = properties.isRetained();
+		this.charset = Charset.forName(properties.getCharset());
+		this.maxInflight = maxInflight;
+		this.maxWait = properties.getManagedAsync().getMaxWait();
+		this.permits = new Semaphore(this.maxInflight);
+		this.successChannel = successChannel;
+		this.failureChannel = failureChannel;
+		this.meterRegistry = meterRegistry;
+		Gauge.builder("mqtt.consumer.publish.in-flight", this.permits,
+				(permits) -> this.maxInflight - permits.availablePermits())
+			.description("The number of MQTT publishes waiting for acknowledgement")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public void handleMessage(Message<?> message) {
+		String topic = message.getHeaders().get(MqttHeaders.TOPIC, String.class);
+		if (topic == null) {
+			topic = this.defaultTopic;
+		}
+		Integer qos = message.getHeaders().get(MqttHeaders.QOS, Integer.class);
+		Boolean retained = message.getHeaders().get(MqttHeaders.RETAINED, Boolean.class);
+		byte[] payload = toBytes(message);
+
+		acquirePermit(message);
+		long start = System.nanoTime();
+		CompletableFuture<?> delivery;
+		try {
+			delivery = this.client.publish(topic, payload, (qos != null) ? qos : this.defaultQos,
+					(retained != null) ? retained : this.defaultRetained);
+		}
+		catch (Exception ex) {
+			this.permits.release();
+			throw new MessageHandlingException(message, "Failed to publish to MQTT topic '" + topic + "'", ex);
+		}
+		String deliveryTopic = topic;
+		delivery.whenComplete((result, ex) -> {
+			this.permits.release();
+			long duration = System.nanoTime() - start;
+			if (ex == null) {
+				timer(this.successTimers, deliveryTopic, "success").record(duration, TimeUnit.NANOSECONDS);
+				if (this.successChannel != null) {
+					this.successChannel.send(message);
+				}
+			}
+			else {
+				timer(this.failureTimers, deliveryTopic, "failure").record(duration, TimeUnit.NANOSECONDS);
+				deliveryFailed(message, deliveryTopic, ex);
+			}
+		});
+	}
+
+	private void acquirePermit(Message<?> message) {
+		try {
+			if (!this.permits.tryAcquire(this.maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new MessageDeliveryException(message,
+						"No MQTT in-flight window slot is released in " + this.maxWait);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageDeliveryException(message, "Interrupted while waiting for an MQTT in-flight window slot",
+					ex);
+		}
+	}
+
+	private void deliveryFailed(Message<?> message, String topic, Throwable cause) {
+		MessageDeliveryException exception = new MessageDeliveryException(message,
+				"Failed to deliver to MQTT topic '" + topic + "'", cause);
+		if (this.failureChannel != null) {
+			this.failureChannel.send(new ErrorMessage(exception));
+		}
+		else {
+			LOGGER.error(exception.getMessage(), exception);
+		}
+	}
+
+	private Timer timer(Map<String, Timer> timers, String topic, String outcome) {
+		return timers.computeIfAbsent(topic, (key) -> Timer.builder("mqtt.consumer.publish")
+			.description("The time from MQTT publish to acknowledgement")
+			.tag("topic", key)
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(this.meterRegistry));
+	}
+
+	private byte[] toBytes(Message<?> message) {
+		Object payload = message.getPayload();
+		if (payload instanceof byte[] bytes) {
+			return bytes;
+		}
+		else if (payload instanceof String string) {
+			return string.getBytes(this.charset);
+		}
+		throw new MessageHandlingException(message,
+				"Only 'byte[]' and 'String' payloads are supported in the managed async mode");
+	}
+
+	/**
+	 * Wait for the publishes in flight to complete and close the client.
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		if (this.permits.tryAcquire(this.maxInflight, 30, TimeUnit.SECONDS)) {
+			this.permits.release(this.maxInflight);
+		}
+		else {
+			LOGGER.warn("Not all the MQTT publishes have been acknowledged in 30 seconds");
+		}
+		this.client.close();
+	}
+
+	/**
+	 * The MQTT client abstraction for the {@link ManagedMqttMessageHandler}.
+	 */
+	public interface Client {
+
+		/**
+		 * Publish the payload to the topic.
+		 * @param topic the topic
+		 * @param payload the payload
+		 * @param qos the quality of service
+		 * @param retained whether the message is retained
+		 * @return the future completed when the publish is acknowledged
+		 * @throws Exception if the publish cannot be performed
+		 */
+		CompletableFuture<?> publish(String topic, byte[] payload, int qos, boolean retained) throws Exception;
+
+		/**
+		 * Disconnect and close the client.
+		 */
+		void close();
+
+	}
+
+}
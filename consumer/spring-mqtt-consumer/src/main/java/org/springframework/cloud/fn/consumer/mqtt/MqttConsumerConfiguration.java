@@ -16,22 +16,36 @@
 
 package org.springframework.cloud.fn.consumer.mqtt;
 
+import java.nio.charset.Charset;
 import java.util.function.Consumer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.paho.mqttv5.client.MqttClientPersistence;
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.fn.common.config.ComponentCustomizer;
 import org.springframework.cloud.fn.common.mqtt.MqttConfiguration;
+import org.springframework.cloud.fn.common.mqtt.MqttProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.integration.mqtt.core.MqttPahoClientFactory;
 import org.springframework.integration.mqtt.outbound.MqttPahoMessageHandler;
+import org.springframework.integration.mqtt.outbound.Mqttv5PahoMessageHandler;
 import org.springframework.integration.mqtt.support.DefaultPahoMessageConverter;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.util.StringUtils;
 
 /**
  * A consumer that sends data to MQTT.
@@ -49,10 +63,16 @@ public class MqttConsumerConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "mqtt.v5", name = "enabled", havingValue = "false", matchIfMissing = true)
 	public MessageHandler mqttOutbound(MqttConsumerProperties properties, MqttPahoClientFactory mqttClientFactory,
-			BeanFactory beanFactory,
+			BeanFactory beanFactory, MqttProperties mqttProperties, ObjectProvider<MeterRegistry> meterRegistry,
 			@Nullable ComponentCustomizer<MqttPahoMessageHandler> mqttMessageHandlerCustomizer) {
 
+		if (properties.getManagedAsync().isEnabled()) {
+			return managedMqttMessageHandler(new Mqttv3ManagedClient(mqttClientFactory, properties.getClientId()),
+					properties, mqttProperties, beanFactory, meterRegistry);
+		}
+
 		MqttPahoMessageHandler messageHandler = new MqttPahoMessageHandler(properties.getClientId(), mqttClientFactory);
 		messageHandler.setAsync(properties.isAsync());
 		messageHandler.setDefaultTopic(properties.getTopic());
@@ -63,6 +83,75 @@ public class MqttConsumerConfiguration {
 		return messageHandler;
 	}
 
+	@Bean(name = "mqttOutbound")
+	@ConditionalOnProperty(prefix = "mqtt.v5", name = "enabled")
+	public MessageHandler mqttv5Outbound(MqttConsumerProperties properties,
+			MqttConnectionOptions mqttConnectionOptions, MqttClientPersistence mqttClientPersistence,
+			BeanFactory beanFactory, MqttProperties mqttProperties, ObjectProvider<MeterRegistry> meterRegistry,
+			@Nullable ComponentCustomizer<Mqttv5PahoMessageHandler> mqttv5MessageHandlerCustomizer) {
+
+		if (properties.getManagedAsync().isEnabled()) {
+			return managedMqttMessageHandler(
+					new Mqttv5ManagedClient(mqttConnectionOptions, mqttClientPersistence, properties.getClientId()),
+					properties, mqttProperties, beanFactory, meterRegistry);
+		}
+
+		Mqttv5PahoMessageHandler messageHandler = new Mqttv5PahoMessageHandler(mqttConnectionOptions,
+				properties.getClientId());
+		messageHandler.setAsync(properties.isAsync());
+		messageHandler.setDefaultTopic(properties.getTopic());
+		messageHandler.setDefaultQos(properties.getQos());
+		messageHandler.setDefaultRetained(properties.isRetained());
+		messageHandler.setPersistence(mqttClientPersistence);
+		messageHandler.setConverter(payloadToBytesConverter(Charset.forName(properties.getCharset())));
+		if (mqttv5MessageHandlerCustomizer != null) {
+			mqttv5MessageHandlerCustomizer.customize(messageHandler);
+		}
+		return messageHandler;
+	}
+
+	private static ManagedMqttMessageHandler managedMqttMessageHandler(ManagedMqttMessageHandler.Client client,
+			MqttConsumerProperties properties, MqttProperties mqttProperties, BeanFactory beanFactory,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		MqttConsumerProperties.ManagedAsync managedAsync = properties.getManagedAsync();
+		return new ManagedMqttMessageHandler(client, properties, mqttProperties.getMaxInflight(),
+				channel(managedAsync.getSuccessChannel(), beanFactory),
+				channel(managedAsync.getFailureChannel(), beanFactory),
+				meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
+	/**
+	 * Convert a {@code String} payload with the {@code mqtt.consumer.charset}, as the
+	 * {@link DefaultPahoMessageConverter} of the MQTT v3 client does.
+	 */
+	private static MessageConverter payloadToBytesConverter(Charset charset) {
+		return new MessageConverter() {
+
+			@Override
+			public Object fromMessage(Message<?> message, Class<?> targetClass) {
+				Object payload = message.getPayload();
+				if (payload instanceof byte[]) {
+					return payload;
+				}
+				else if (payload instanceof String string) {
+					return string.getBytes(charset);
+				}
+				throw new MessageConversionException(message, "Only 'byte[]' and 'String' payloads are supported");
+			}
+
+			@Override
+			public @Nullable Message<?> toMessage(Object payload, @Nullable MessageHeaders headers) {
+				return null;
+			}
+
+		};
+	}
+
+	private static @Nullable MessageChannel channel(@Nullable String channelName, BeanFactory beanFactory) {
+		return StringUtils.hasText(channelName) ? beanFactory.getBean(channelName, MessageChannel.class) : null;
+	}
+
 	private DefaultPahoMessageConverter pahoMessageConverter(MqttConsumerProperties properties,
 			BeanFactory beanFactory) {
 
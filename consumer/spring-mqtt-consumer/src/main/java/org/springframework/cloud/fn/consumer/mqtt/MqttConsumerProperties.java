@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.fn.consumer.mqtt;
 
+import java.time.Duration;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.hibernate.validator.constraints.Range;
@@ -63,6 +65,11 @@ public class MqttConsumerProperties {
 	 */
 	private boolean async = false;
 
+	/**
+	 * The managed async publishing options.
+	 */
+	private final ManagedAsync managedAsync = new ManagedAsync();
+
 	@Range(min = 0, max = 2)
 	public int getQos() {
 		return this.qos;
@@ -115,4 +122,66 @@ public class MqttConsumerProperties {
 		this.async = async;
 	}
 
+	public ManagedAsync getManagedAsync() {
+		return this.managedAsync;
+	}
+
+	public static class ManagedAsync {
+
+		/**
+		 * Whether to publish without waiting for the acknowledgements, with up to
+		 * 'mqtt.max-inflight' publishes in flight.
+		 */
+		private boolean enabled;
+
+		/**
+		 * How long to wait for a publish in flight to be acknowledged when the window is
+		 * full.
+		 */
+		private Duration maxWait = Duration.ofSeconds(30);
+
+		/**
+		 * The name of the channel to send the acknowledged messages to.
+		 */
+		private String successChannel;
+
+		/**
+		 * The name of the channel to send the error messages for the failed publishes to.
+		 */
+		private String failureChannel;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getMaxWait() {
+			return this.maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+
+		public String getSuccessChannel() {
+			return this.successChannel;
+		}
+
+		public void setSuccessChannel(String successChannel) {
+			this.successChannel = successChannel;
+		}
+
+		public String getFailureChannel() {
+			return this.failureChannel;
+		}
+
+		public void setFailureChannel(String failureChannel) {
+			this.failureChannel = failureChannel;
+		}
+
+	}
+
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.mqtt;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
+import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.IMqttToken;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.mqtt.core.MqttPahoClientFactory;
+
+/**
+ * The {@link ManagedMqttMessageHandler.Client} based on the MQTT v3 Paho client. The
+ * client is connected on the first publish and reconnected on the next publish after the
+ * connection is lost.
+ *
+ * @since 6.0.1
+ */
+class Mqttv3ManagedClient implements ManagedMqttMessageHandler.Client {
+
+	private static final Log LOGGER = LogFactory.getLog(Mqttv3ManagedClient.class);
+
+	private final MqttPahoClientFactory clientFactory;
+
+	private final String clientId;
+
+	private final Lock lock = new ReentrantLock();
+
+	private volatile @Nullable IMqttAsyncClient client;
+
+	Mqttv3ManagedClient(MqttPahoClientFactory clientFactory, String clientId) {
+		this.clientFactory = clientFactory;
+		this.clientId = clientId;
+	}
+
+	@Override
+	public CompletableFuture<?> publish(String topic, byte[] payload, int qos, boolean retained)
+			throws MqttException {
+
+		CompletableFuture<Void> delivery = new CompletableFuture<>();
+		connectedClient().publish(topic, payload, qos, retained, null, new IMqttActionListener() {
+
+			@Override
+			public void onSuccess(IMqttToken asyncActionToken) {
+				delivery.complete(null);
+			}
+
+			@Override
+			public void onFailure(IMqttToken asyncActionToken, Throwable exception) {
+				delivery.completeExceptionally(exception);
+			}
+
+		});
+		return delivery;
+	}
+
+	private IMqttAsyncClient connectedClient() throws MqttException {
+		IMqttAsyncClient client = this.client;
+		if (client != null && client.isConnected()) {
+			return client;
+		}
+		this.lock.lock();
+		try {
+			MqttConnectOptions connectionOptions = this.clientFactory.getConnectionOptions();
+			client = this.client;
+			if (client == null) {
+				client = this.clientFactory.getAsyncClientInstance(connectionOptions.getServerURIs()[0],
+						this.clientId);
+				this.client = client;
+			}
+			if (!client.isConnected()) {
+				client.connect(connectionOptions).waitForCompletion(connectionOptions.getConnectionTimeout() * 1000L);
+			}
+			return client;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.lock.lock();
+		try {
+			IMqttAsyncClient client = this.client;
+			if (client != null) {
+				if (client.isConnected()) {
+					client.disconnect().waitForCompletion();
+				}
+				client.close();
+				this.client = null;
+			}
+		}
+		catch (MqttException ex) {
+			LOGGER.warn("Failed to close the MQTT client '" + this.clientId + "'", ex);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+}
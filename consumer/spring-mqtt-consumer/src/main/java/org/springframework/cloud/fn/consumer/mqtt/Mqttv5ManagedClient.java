@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.mqtt;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.eclipse.paho.mqttv5.client.IMqttToken;
+import org.eclipse.paho.mqttv5.client.MqttActionListener;
+import org.eclipse.paho.mqttv5.client.MqttAsyncClient;
+import org.eclipse.paho.mqttv5.client.MqttClientPersistence;
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
+import org.eclipse.paho.mqttv5.common.MqttException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The {@link ManagedMqttMessageHandler.Client} based on the MQTT v5 Paho client. The
+ * client is connected on the first publish; then it reconnects automatically according
+ * to the {@link MqttConnectionOptions#isAutomaticReconnect()}.
+ *
+ * @since 6.0.1
+ */
+class Mqttv5ManagedClient implements ManagedMqttMessageHandler.Client {
+
+	private static final Log LOGGER = LogFactory.getLog(Mqttv5ManagedClient.class);
+
+	private final MqttConnectionOptions connectionOptions;
+
+	private final MqttClientPersistence persistence;
+
+	private final String clientId;
+
+	private final Lock lock = new ReentrantLock();
+
+	private volatile @Nullable MqttAsyncClient client;
+
+	Mqttv5ManagedClient(MqttConnectionOptions connectionOptions, MqttClientPersistence persistence,
+			String clientId) {
+
+		this.connectionOptions = connectionOptions;
+		this.persistence = persistence;
+		this.clientId = clientId;
+	}
+
+	@Override
+	public CompletableFuture<?> publish(String topic, byte[] payload, int qos, boolean retained)
+			throws MqttException {
+
+		CompletableFuture<Void> delivery = new CompletableFuture<>();
+		client().publish(topic, payload, qos, retained, null, new MqttActionListener() {
+
+			@Override
+			public void onSuccess(IMqttToken asyncActionToken) {
+				delivery.complete(null);
+			}
+
+			@Override
+			public void onFailure(IMqttToken asyncActionToken, Throwable exception) {
+				delivery.completeExceptionally(exception);
+			}
+
+		});
+		return delivery;
+	}
+
+	private MqttAsyncClient client() throws MqttException {
+		MqttAsyncClient client = this.client;
+		if (client != null) {
+			return client;
+		}
+		this.lock.lock();
+		try {
+			client = this.client;
+			if (client == null) {
+				client = new MqttAsyncClient(this.connectionOptions.getServerURIs()[0], this.clientId,
+						this.persistence);
+				try {
+					client.connect(this.connectionOptions)
+						.waitForCompletion(this.connectionOptions.getConnectionTimeout() * 1000L);
+				}
+				catch (MqttException ex) {
+					client.close();
+					throw ex;
+				}
+				this.client = client;
+			}
+			return client;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.lock.lock();
+		try {
+			MqttAsyncClient client = this.client;
+			if (client != null) {
+				if (client.isConnected()) {
+					client.disconnect().waitForCompletion();
+				}
+				client.close();
+				this.client = null;
+			}
+		}
+		catch (MqttException ex) {
+			LOGGER.warn("Failed to close the MQTT client '" + this.clientId + "'", ex);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+}
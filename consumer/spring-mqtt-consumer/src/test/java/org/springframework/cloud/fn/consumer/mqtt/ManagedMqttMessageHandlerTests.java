@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.mqtt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.mqtt.support.MqttHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ManagedMqttMessageHandlerTests {
+
+	private final StubClient client = new StubClient();
+
+	private final QueueChannel successChannel = new QueueChannel();
+
+	private final QueueChannel failureChannel = new QueueChannel();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void inflightWindowIsBoundedAndReleasedOnAcknowledgement() {
+		ManagedMqttMessageHandler handler = handler(1);
+		Message<String> message = MessageBuilder.withPayload("one").build();
+
+		handler.handleMessage(message);
+
+		assertThat(this.client.topics).containsExactly("test-topic");
+		assertThat(this.meterRegistry.get("mqtt.consumer.publish.in-flight").gauge().value()).isEqualTo(1);
+		assertThatExceptionOfType(MessageDeliveryException.class)
+			.isThrownBy(() -> handler.handleMessage(MessageBuilder.withPayload("two").build()))
+			.withMessageContaining("No MQTT in-flight window slot");
+
+		this.client.deliveries.get(0).complete(null);
+
+		assertThat(this.successChannel.receive(0)).isSameAs(message);
+		assertThat(this.meterRegistry.get("mqtt.consumer.publish.in-flight").gauge().value()).isEqualTo(0);
+		assertThat(this.meterRegistry.get("mqtt.consumer.publish")
+			.tags("topic", "test-topic", "outcome", "success")
+			.timer()
+			.count()).isEqualTo(1);
+
+		handler.handleMessage(MessageBuilder.withPayload("three").build());
+		assertThat(this.client.deliveries).hasSize(2);
+	}
+
+	@Test
+	void failedDeliveryIsSentToFailureChannel() {
+		ManagedMqttMessageHandler handler = handler(10);
+		Message<byte[]> message = MessageBuilder.withPayload(new byte[] { 1 })
+			.setHeader(MqttHeaders.TOPIC, "other-topic")
+			.build();
+
+		handler.handleMessage(message);
+		this.client.deliveries.get(0).completeExceptionally(new IllegalStateException("connection lost"));
+
+		Message<?> errorMessage = this.failureChannel.receive(0);
+		assertThat(errorMessage).isInstanceOf(ErrorMessage.class);
+		assertThat(errorMessage.getPayload()).isInstanceOf(MessageDeliveryException.class)
+			.hasCauseInstanceOf(IllegalStateException.class)
+			.extracting((ex) -> ((MessageDeliveryException) ex).getFailedMessage())
+			.isSameAs(message);
+		assertThat(this.successChannel.receive(0)).isNull();
+		assertThat(this.meterRegistry.get("mqtt.consumer.publish")
+			.tags("topic", "other-topic", "outcome", "failure")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	private ManagedMqttMessageHandler handler(int maxInflight) {
+		MqttConsumerProperties properties = new MqttConsumerProperties();
+		properties.setTopic("test-topic");
+		properties.getManagedAsync().setMaxWait(Duration.ofMillis(100));
+		return new ManagedMqttMessageHandler(this.client, properties, maxInflight, this.successChannel,
+				this.failureChannel, this.meterRegistry);
+	}
+
+	private static final class StubClient implements ManagedMqttMessageHandler.Client {
+
+		final List<String> topics = new ArrayList<>();
+
+		final List<CompletableFuture<?>> deliveries = new ArrayList<>();
+
+		@Override
+		public CompletableFuture<?> publish(String topic, byte[] payload, int qos, boolean retained) {
+			CompletableFuture<Void> delivery = new CompletableFuture<>();
+			this.topics.add(topic);
+			this.deliveries.add(delivery);
+			return delivery;
+		}
+
+		@Override
+		public void close() {
+
+		}
+
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.mqtt;
+
+import java.util.function.Consumer;
+
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.fn.test.support.mqtt.MosquittoContainerTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.mqtt.inbound.Mqttv5PahoMessageDrivenChannelAdapter;
+import org.springframework.integration.mqtt.outbound.Mqttv5PahoMessageHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = { "mqtt.v5.enabled=true", "mqtt.consumer.topic=test-v5" })
+@DirtiesContext
+@Tag("integration")
+public class MqttV5ConsumerTests implements MosquittoContainerTest {
+
+	@Autowired
+	private MessageHandler mqttOutbound;
+
+	@Autowired
+	private Consumer<Message<?>> mqttConsumer;
+
+	@Autowired
+	protected QueueChannel queue;
+
+	@DynamicPropertySource
+	static void mqttConnectionProperties(DynamicPropertyRegistry registry) {
+		registry.add("mqtt.url", MosquittoContainerTest::mqttUrl);
+	}
+
+	@Test
+	public void testMqttV5Consumer() {
+		assertThat(this.mqttOutbound).isInstanceOf(Mqttv5PahoMessageHandler.class);
+
+		this.mqttConsumer.accept(MessageBuilder.withPayload("hello v5").build());
+		Message<?> in = this.queue.receive(10000);
+		assertThat(in).isNotNull();
+		assertThat(in.getPayload()).isEqualTo("hello v5");
+	}
+
+	@SpringBootApplication
+	static class MqttV5ConsumerTestApplication {
+
+		@Bean
+		Mqttv5PahoMessageDrivenChannelAdapter mqttv5Inbound(MqttConnectionOptions mqttConnectionOptions) {
+			Mqttv5PahoMessageDrivenChannelAdapter adapter = new Mqttv5PahoMessageDrivenChannelAdapter(
+					mqttConnectionOptions, "testV5Subscriber", "test-v5");
+			adapter.setQos(1);
+			adapter.setPayloadType(String.class);
+			adapter.setOutputChannelName("queue");
+			return adapter;
+		}
+
+		@Bean
+		QueueChannel queue() {
+			return new QueueChannel();
+		}
+
+	}
+
+}
@@ -18,17 +18,25 @@ package org.springframework.cloud.fn.consumer.redis;
 
 import java.util.function.Consumer;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.redis.outbound.RedisPublishingMessageHandler;
 import org.springframework.integration.redis.outbound.RedisQueueOutboundChannelAdapter;
 import org.springframework.integration.redis.outbound.RedisStoreWritingMessageHandler;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.scheduling.TaskScheduler;
 
 /**
  * Auto-configuration for Redis consumer.
@@ -52,9 +60,17 @@ public class RedisConsumerConfiguration {
 
 	@Bean
 	public MessageHandler redisConsumerMessageHandler(RedisConnectionFactory redisConnectionFactory,
-			RedisConsumerProperties redisConsumerProperties) {
+			RedisConsumerProperties redisConsumerProperties,
+			@Qualifier(IntegrationContextUtils.INTEGRATION_EVALUATION_CONTEXT_BEAN_NAME) EvaluationContext evaluationContext,
+			@Qualifier(IntegrationContextUtils.TASK_SCHEDULER_BEAN_NAME) TaskScheduler taskScheduler,
+			@Qualifier(IntegrationContextUtils.ERROR_CHANNEL_BEAN_NAME) ObjectProvider<MessageChannel> errorChannel) {
 
-		if (redisConsumerProperties.isKeyPresent()) {
+		RedisConsumerProperties.Pipeline pipeline = redisConsumerProperties.getPipeline();
+		if (pipeline.isEnabled() || redisConsumerProperties.isStreamPresent()) {
+			return pipelinedMessageHandler(redisConnectionFactory, redisConsumerProperties, evaluationContext,
+					taskScheduler, errorChannel.getIfAvailable());
+		}
+		else if (redisConsumerProperties.isKeyPresent()) {
 			RedisStoreWritingMessageHandler redisStoreWritingMessageHandler = new RedisStoreWritingMessageHandler(
 					redisConnectionFactory);
 			redisStoreWritingMessageHandler.setKeyExpression(redisConsumerProperties.keyExpression());
@@ -72,4 +88,38 @@ public class RedisConsumerConfiguration {
 		}
 	}
 
+	private static RedisPipelinedMessageHandler pipelinedMessageHandler(RedisConnectionFactory redisConnectionFactory,
+			RedisConsumerProperties redisConsumerProperties, EvaluationContext evaluationContext,
+			TaskScheduler taskScheduler, @Nullable MessageChannel errorChannel) {
+
+		RedisPipelinedMessageHandler.TargetType targetType;
+		Expression targetExpression;
+		if (redisConsumerProperties.isStreamPresent()) {
+			targetType = RedisPipelinedMessageHandler.TargetType.STREAM;
+			targetExpression = redisConsumerProperties.streamExpression();
+		}
+		else if (redisConsumerProperties.isKeyPresent()) {
+			targetType = RedisPipelinedMessageHandler.TargetType.KEY;
+			targetExpression = redisConsumerProperties.keyExpression();
+		}
+		else if (redisConsumerProperties.isQueuePresent()) {
+			targetType = RedisPipelinedMessageHandler.TargetType.QUEUE;
+			targetExpression = redisConsumerProperties.queueExpression();
+		}
+		else {
+			targetType = RedisPipelinedMessageHandler.TargetType.TOPIC;
+			targetExpression = redisConsumerProperties.topicExpression();
+		}
+		RedisConsumerProperties.Pipeline pipeline = redisConsumerProperties.getPipeline();
+		// Without pipelining the stream entries are written one per message
+		int batchSize = pipeline.isEnabled() ? pipeline.getSize() : 1;
+		RedisPipelinedMessageHandler handler = new RedisPipelinedMessageHandler(redisConnectionFactory, targetType,
+				targetExpression, evaluationContext, taskScheduler, batchSize, pipeline.getTimeout());
+		if (targetType == RedisPipelinedMessageHandler.TargetType.KEY) {
+			handler.setCollectionType(redisConsumerProperties.getCollectionType());
+		}
+		handler.setErrorChannel(errorChannel);
+		return handler;
+	}
+
 }
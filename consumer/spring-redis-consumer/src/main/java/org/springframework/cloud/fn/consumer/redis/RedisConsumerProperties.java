@@ -16,12 +16,16 @@
 
 package org.springframework.cloud.fn.consumer.redis;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.data.redis.support.collections.RedisCollectionFactoryBean.CollectionType;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
 import org.springframework.util.StringUtils;
@@ -69,6 +73,28 @@ public class RedisConsumerProperties {
 	 */
 	private String topic;
 
+	/**
+	 * A SpEL expression to use for a Redis Stream.
+	 */
+	private Expression streamExpression;
+
+	/**
+	 * A literal Redis Stream name to append entries to.
+	 */
+	private String stream;
+
+	/**
+	 * The collection type to store into when writing to a key with pipelining. A
+	 * non-pipelined key is always written as a list.
+	 */
+	private CollectionType collectionType = CollectionType.LIST;
+
+	/**
+	 * Pipelined writes options.
+	 */
+	@Valid
+	private Pipeline pipeline = new Pipeline();
+
 	public Expression keyExpression() {
 		return (this.key != null) ? new LiteralExpression(this.key) : this.keyExpression;
 	}
@@ -81,6 +107,10 @@ public class RedisConsumerProperties {
 		return (this.topic != null) ? new LiteralExpression(this.topic) : this.topicExpression;
 	}
 
+	public Expression streamExpression() {
+		return (this.stream != null) ? new LiteralExpression(this.stream) : this.streamExpression;
+	}
+
 	boolean isKeyPresent() {
 		return StringUtils.hasText(this.key) || this.keyExpression != null;
 	}
@@ -93,6 +123,10 @@ public class RedisConsumerProperties {
 		return StringUtils.hasText(this.topic) || this.topicExpression != null;
 	}
 
+	boolean isStreamPresent() {
+		return StringUtils.hasText(this.stream) || this.streamExpression != null;
+	}
+
 	public Expression getTopicExpression() {
 		return this.topicExpression;
 	}
@@ -141,14 +175,97 @@ public class RedisConsumerProperties {
 		this.topic = topic;
 	}
 
+	public Expression getStreamExpression() {
+		return this.streamExpression;
+	}
+
+	public void setStreamExpression(Expression streamExpression) {
+		this.streamExpression = streamExpression;
+	}
+
+	public String getStream() {
+		return this.stream;
+	}
+
+	public void setStream(String stream) {
+		this.stream = stream;
+	}
+
+	public CollectionType getCollectionType() {
+		return this.collectionType;
+	}
+
+	public void setCollectionType(CollectionType collectionType) {
+		this.collectionType = collectionType;
+	}
+
+	public Pipeline getPipeline() {
+		return this.pipeline;
+	}
+
+	public void setPipeline(Pipeline pipeline) {
+		this.pipeline = pipeline;
+	}
+
 	// The javabean property name is what will be reported in case of violation. Make it
 	// meaningful
 	@AssertTrue(message = "Exactly one of 'queue', 'queueExpression', 'key', 'keyExpression', "
-			+ "'topic' and 'topicExpression' must be set")
+			+ "'topic', 'topicExpression', 'stream' and 'streamExpression' must be set")
 	public boolean isMutuallyExclusive() {
 		Object[] props = { this.queue, this.queueExpression, this.key, this.keyExpression, this.topic,
-				this.topicExpression };
+				this.topicExpression, this.stream, this.streamExpression };
 		return (props.length - 1) == Collections.frequency(Arrays.asList(props), null);
 	}
 
+	@AssertTrue(message = "Only 'LIST', 'SET' and 'ZSET' collection types can be pipelined")
+	public boolean isPipelinedCollectionType() {
+		return !this.pipeline.isEnabled() || this.collectionType == CollectionType.LIST
+				|| this.collectionType == CollectionType.SET || this.collectionType == CollectionType.ZSET;
+	}
+
+	public static class Pipeline {
+
+		/**
+		 * Whether to collect messages and write them in a single Redis pipeline instead of
+		 * one round trip per message.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max number of messages to collect before writing a pipeline.
+		 */
+		@Min(1)
+		private int size = 100;
+
+		/**
+		 * The max time to collect messages before writing a pipeline.
+		 */
+		private Duration timeout = Duration.ofMillis(100);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getSize() {
+			return this.size;
+		}
+
+		public void setSize(int size) {
+			this.size = size;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+	}
+
 }
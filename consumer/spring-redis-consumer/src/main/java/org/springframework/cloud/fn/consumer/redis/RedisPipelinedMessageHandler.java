@@ -0,0 +1,394 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.support.collections.RedisCollectionFactoryBean.CollectionType;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.redis.support.RedisHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link MessageHandler} which collects messages for up to
+ * {@link RedisConsumerProperties.Pipeline#getSize()} messages or
+ * {@link RedisConsumerProperties.Pipeline#getTimeout()}, and writes them in a single
+ * Redis pipeline. Values for the same queue, key or stream are merged into multi-value
+ * {@code LPUSH}, {@code RPUSH}, {@code SADD} and {@code ZADD} commands, and messages
+ * for topics are published with a batch of {@code PUBLISH} commands.
+ * <p>
+ * The payloads are serialized when a message is handled, with the same defaults as the
+ * Spring Integration Redis handlers: a {@code byte[]} is written as is, a queue value is
+ * serialized with the {@link JdkSerializationRedisSerializer} unless it is a
+ * {@link String}, and other values with the {@link StringRedisSerializer}. A custom
+ * {@link #setSerializer(RedisSerializer) serializer} is applied to all non-{@code byte[]}
+ * values.
+ * <p>
+ * The pipelines are written one at a time, in the order their messages have been
+ * collected. A pipeline released by size is written on the calling thread, so its failure
+ * is thrown back to the sender. A pipeline released by timeout is written on the
+ * {@link TaskScheduler} thread, and an {@link ErrorMessage} is sent to the
+ * {@link #setErrorChannel(MessageChannel) error channel} for each of its messages, or
+ * the failure is logged if there is no error channel.
+ *
+ * @since 6.0.1
+ */
+public class RedisPipelinedMessageHandler implements MessageHandler, SmartLifecycle {
+
+	private static final Log LOGGER = LogFactory.getLog(RedisPipelinedMessageHandler.class);
+
+	private static final byte[] PAYLOAD_FIELD = "payload".getBytes(StandardCharsets.UTF_8);
+
+	private final RedisConnectionFactory connectionFactory;
+
+	private final TargetType targetType;
+
+	private final Expression targetExpression;
+
+	private final EvaluationContext evaluationContext;
+
+	private final TaskScheduler taskScheduler;
+
+	private final int batchSize;
+
+	private final Duration timeout;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Lock flushLock = new ReentrantLock();
+
+	private CollectionType collectionType = CollectionType.LIST;
+
+	private RedisSerializer<?> serializer;
+
+	private boolean serializerExplicitlySet;
+
+	private @Nullable MessageChannel errorChannel;
+
+	private List<PendingValue> pending = new ArrayList<>();
+
+	private volatile @Nullable ScheduledFuture<?> flushTask;
+
+	public RedisPipelinedMessageHandler(RedisConnectionFactory connectionFactory, TargetType targetType,
+			Expression targetExpression, EvaluationContext evaluationContext, TaskScheduler taskScheduler,
+			int batchSize, Duration timeout) {
+
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.connectionFactory = connectionFactory;
+		this.targetType = targetType;
+		this.targetExpression = targetExpression;
+		this.evaluationContext = evaluationContext;
+		this.taskScheduler = taskScheduler;
+		this.batchSize = batchSize;
+		this.timeout = timeout;
+		this.serializer = (targetType == TargetType.QUEUE) ? new JdkSerializationRedisSerializer()
+				: StringRedisSerializer.UTF_8;
+	}
+
+	/**
+	 * Set the Redis collection type for the {@link TargetType#KEY} target.
+	 * @param collectionType the collection type; only {@link CollectionType#LIST},
+	 * {@link CollectionType#SET} and {@link CollectionType#ZSET} are supported.
+	 */
+	public void setCollectionType(CollectionType collectionType) {
+		Assert.isTrue(collectionType == CollectionType.LIST || collectionType == CollectionType.SET
+				|| collectionType == CollectionType.ZSET, "Only LIST, SET and ZSET collections can be pipelined");
+		this.collectionType = collectionType;
+	}
+
+	/**
+	 * Set the serializer for the values which are not {@code byte[]}.
+	 * @param serializer the serializer.
+	 */
+	public void setSerializer(RedisSerializer<?> serializer) {
+		this.serializer = serializer;
+		this.serializerExplicitlySet = true;
+	}
+
+	/**
+	 * Set the channel for the failures of the pipelines released by timeout.
+	 * @param errorChannel the error channel.
+	 */
+	public void setErrorChannel(@Nullable MessageChannel errorChannel) {
+		this.errorChannel = errorChannel;
+	}
+
+	@Override
+	public void handleMessage(Message<?> message) throws MessagingException {
+		String target = this.targetExpression.getValue(this.evaluationContext, message, String.class);
+		if (!StringUtils.hasText(target)) {
+			throw new MessagingException(message, "The " + this.targetType + " expression evaluated to empty value");
+		}
+		PendingValue value = toPendingValue(target, message);
+		List<PendingValue> toFlush = null;
+		this.lock.lock();
+		try {
+			this.pending.add(value);
+			if (this.pending.size() >= this.batchSize) {
+				toFlush = drain();
+				// Take the flush turn before the next batch can be drained
+				this.flushLock.lock();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (toFlush != null) {
+			try {
+				flush(toFlush);
+			}
+			finally {
+				this.flushLock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		if (this.flushTask == null && this.batchSize > 1) {
+			this.flushTask = this.taskScheduler.scheduleWithFixedDelay(this::flushOnTimeout, this.timeout);
+		}
+	}
+
+	@Override
+	public void stop() {
+		ScheduledFuture<?> flushTask = this.flushTask;
+		if (flushTask != null) {
+			flushTask.cancel(false);
+			this.flushTask = null;
+		}
+		flushOnTimeout();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.flushTask != null;
+	}
+
+	@Override
+	public int getPhase() {
+		return 0;
+	}
+
+	private void flushOnTimeout() {
+		List<PendingValue> toFlush;
+		this.lock.lock();
+		try {
+			toFlush = drain();
+			if (toFlush.isEmpty()) {
+				return;
+			}
+			this.flushLock.lock();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		try {
+			flush(toFlush);
+		}
+		catch (Exception ex) {
+			toFlush.forEach((value) -> reportFailure(value.message(), ex));
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	private void reportFailure(Message<?> message, Throwable cause) {
+		MessageDeliveryException exception = new MessageDeliveryException(message,
+				"Failed to write message into Redis pipeline", cause);
+		if (this.errorChannel == null || !this.errorChannel.send(new ErrorMessage(exception))) {
+			LOGGER.error("Failed to write message into Redis pipeline: " + message, cause);
+		}
+	}
+
+	private List<PendingValue> drain() {
+		List<PendingValue> toFlush = this.pending;
+		this.pending = new ArrayList<>(this.batchSize);
+		return toFlush;
+	}
+
+	private PendingValue toPendingValue(String target, Message<?> message) {
+		Object payload = message.getPayload();
+		try {
+			return switch (this.targetType) {
+				case TOPIC, QUEUE -> new PendingValue(target, message, List.of(serialize(payload)), Map.of());
+				case STREAM -> new PendingValue(target, message, List.of(), streamFields(payload));
+				case KEY -> new PendingValue(target, message, members(payload), Map.of());
+			};
+		}
+		catch (RuntimeException ex) {
+			throw new MessagingException(message, "Cannot serialize the payload for Redis", ex);
+		}
+	}
+
+	private void flush(List<PendingValue> values) {
+		try (RedisConnection connection = this.connectionFactory.getConnection()) {
+			connection.openPipeline();
+			try {
+				switch (this.targetType) {
+					case TOPIC -> values.forEach((value) -> connection.commands()
+						.publish(bytes(value.target()), value.values().get(0)));
+					case QUEUE -> groupByTarget(values).forEach((queue, queueValues) -> connection.listCommands()
+						.lPush(bytes(queue), flatten(queueValues)));
+					case STREAM -> values.forEach((value) -> connection.streamCommands()
+						.xAdd(StreamRecords.rawBytes(value.fields()).withStreamKey(bytes(value.target()))));
+					case KEY -> groupByTarget(values)
+						.forEach((key, keyValues) -> writeToKey(connection, key, keyValues));
+				}
+			}
+			finally {
+				connection.closePipeline();
+			}
+		}
+	}
+
+	private void writeToKey(RedisConnection connection, String key, List<PendingValue> values) {
+		byte[] rawKey = bytes(key);
+		switch (this.collectionType) {
+			case SET -> connection.setCommands().sAdd(rawKey, flatten(values));
+			case ZSET -> {
+				Set<Tuple> tuples = new LinkedHashSet<>();
+				for (PendingValue value : values) {
+					Object score = value.message().getHeaders().get(RedisHeaders.ZSET_SCORE);
+					double memberScore = (score instanceof Number number) ? number.doubleValue() : 1.0;
+					for (byte[] member : value.values()) {
+						tuples.add(new DefaultTuple(member, memberScore));
+					}
+				}
+				connection.zSetCommands().zAdd(rawKey, tuples);
+			}
+			default -> connection.listCommands().rPush(rawKey, flatten(values));
+		}
+	}
+
+	private static Map<String, List<PendingValue>> groupByTarget(List<PendingValue> values) {
+		Map<String, List<PendingValue>> byTarget = new LinkedHashMap<>();
+		for (PendingValue value : values) {
+			byTarget.computeIfAbsent(value.target(), (key) -> new ArrayList<>()).add(value);
+		}
+		return byTarget;
+	}
+
+	private static byte[][] flatten(List<PendingValue> values) {
+		List<byte[]> flat = new ArrayList<>(values.size());
+		values.forEach((value) -> flat.addAll(value.values()));
+		return flat.toArray(new byte[0][]);
+	}
+
+	private List<byte[]> members(Object payload) {
+		if (payload instanceof Collection<?> collection) {
+			List<byte[]> members = new ArrayList<>(collection.size());
+			collection.forEach((item) -> members.add(serialize(item)));
+			return members;
+		}
+		return List.of(serialize(payload));
+	}
+
+	private Map<byte[], byte[]> streamFields(Object payload) {
+		Map<byte[], byte[]> fields = new LinkedHashMap<>();
+		if (payload instanceof Map<?, ?> map) {
+			map.forEach((field, value) -> fields.put(serialize(field), serialize(value)));
+		}
+		else {
+			fields.put(PAYLOAD_FIELD, serialize(payload));
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serialize(Object value) {
+		if (value instanceof byte[] bytes) {
+			return bytes;
+		}
+		if (value instanceof String text && !this.serializerExplicitlySet) {
+			return bytes(text);
+		}
+		byte[] serialized = ((RedisSerializer<Object>) this.serializer).serialize(value);
+		Assert.state(serialized != null, () -> "The serializer returned null for: " + value);
+		return serialized;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * The kind of Redis structure messages are written to.
+	 */
+	public enum TargetType {
+
+		/**
+		 * Publish messages to a topic.
+		 */
+		TOPIC,
+
+		/**
+		 * Push messages to a list used as a queue.
+		 */
+		QUEUE,
+
+		/**
+		 * Store messages into a collection under a key.
+		 */
+		KEY,
+
+		/**
+		 * Append messages as entries to a Redis Stream.
+		 */
+		STREAM
+
+	}
+
+	private record PendingValue(String target, Message<?> message, List<byte[]> values, Map<byte[], byte[]> fields) {
+
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.redis;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = { "redis.consumer.queue = pipelined-queue", "redis.consumer.pipeline.enabled = true",
+		"redis.consumer.pipeline.size = 3", "redis.consumer.pipeline.timeout = 100ms" })
+public class RedisConsumerPipelinedQueueTests extends AbstractRedisConsumerTests {
+
+	@Test
+	public void testWithPipelinedQueue() {
+		redisConsumer.accept(new GenericMessage<>("one"));
+		redisConsumer.accept(new GenericMessage<>("two"));
+		redisConsumer.accept(new GenericMessage<>("three"));
+
+		assertThat(redisTemplate.boundListOps("pipelined-queue").range(0, -1)).containsExactly("three", "two", "one");
+
+		redisConsumer.accept(new GenericMessage<>("four"));
+
+		await().timeout(Duration.ofSeconds(10))
+			.untilAsserted(() -> assertThat(redisTemplate.boundListOps("pipelined-queue").size()).isEqualTo(4));
+	}
+
+}
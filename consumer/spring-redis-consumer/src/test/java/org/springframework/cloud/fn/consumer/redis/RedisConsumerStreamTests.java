@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.redis;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "redis.consumer.stream = test-stream")
+public class RedisConsumerStreamTests extends AbstractRedisConsumerTests {
+
+	@Test
+	public void testWithStream() {
+		redisConsumer.accept(new GenericMessage<>("hello"));
+		redisConsumer.accept(new GenericMessage<>(Map.of("name", "world")));
+
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+			.read(StreamOffset.fromStart("test-stream"));
+
+		assertThat(records).hasSize(2);
+		assertThat(records.get(0).getValue()).containsEntry("payload", "hello");
+		assertThat(records.get(1).getValue()).containsEntry("name", "world");
+	}
+
+}
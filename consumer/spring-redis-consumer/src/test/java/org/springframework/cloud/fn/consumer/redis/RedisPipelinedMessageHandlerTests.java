@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.redis;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class RedisPipelinedMessageHandlerTests {
+
+	@Test
+	public void failedPipelineOnTimeoutIsSentToErrorChannel() {
+		RedisConnectionFactory connectionFactory = mock();
+		given(connectionFactory.getConnection()).willThrow(new RedisConnectionFailureException("No Redis"));
+		RedisPipelinedMessageHandler handler = new RedisPipelinedMessageHandler(connectionFactory,
+				RedisPipelinedMessageHandler.TargetType.QUEUE, new LiteralExpression("queue"),
+				new StandardEvaluationContext(), mock(TaskScheduler.class), 10, Duration.ofSeconds(10));
+		QueueChannel errorChannel = new QueueChannel();
+		handler.setErrorChannel(errorChannel);
+
+		GenericMessage<String> one = new GenericMessage<>("one");
+		GenericMessage<String> two = new GenericMessage<>("two");
+		handler.handleMessage(one);
+		handler.handleMessage(two);
+		handler.stop();
+
+		assertThat(errorChannel.getQueueSize()).isEqualTo(2);
+		Message<?> errorMessage = errorChannel.receive(0);
+		assertThat(errorMessage).isInstanceOf(ErrorMessage.class);
+		assertThat(errorMessage.getPayload()).isInstanceOf(MessageDeliveryException.class);
+		assertThat(((MessagingException) errorMessage.getPayload()).getFailedMessage()).isSameAs(one);
+	}
+
+	@Test
+	public void payloadIsSerializedWhenHandled() {
+		RedisPipelinedMessageHandler handler = new RedisPipelinedMessageHandler(mock(RedisConnectionFactory.class),
+				RedisPipelinedMessageHandler.TargetType.TOPIC, new LiteralExpression("topic"),
+				new StandardEvaluationContext(), mock(TaskScheduler.class), 10, Duration.ofSeconds(10));
+
+		assertThatExceptionOfType(MessagingException.class)
+			.isThrownBy(() -> handler.handleMessage(new GenericMessage<>(new Object())))
+			.withMessageContaining("Cannot serialize the payload for Redis");
+	}
+
+}
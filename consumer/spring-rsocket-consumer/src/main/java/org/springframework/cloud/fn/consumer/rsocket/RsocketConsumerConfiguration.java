@@ -19,11 +19,18 @@ package org.springframework.cloud.fn.consumer.rsocket;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.rsocket.core.Resume;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.rsocket.autoconfigure.RSocketRequesterAutoConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -47,17 +54,81 @@ public class RsocketConsumerConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "rsocket.consumer.channel", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Function<Flux<Message<?>>, Mono<Void>> rsocketFunctionConsumer(RSocketRequester.Builder builder,
-			RsocketConsumerProperties rsocketConsumerProperties) {
+			RsocketConsumerProperties rsocketConsumerProperties, ObjectProvider<MeterRegistry> meterRegistry) {
 
-		RSocketRequester rSocketRequester = (rsocketConsumerProperties.getUri() != null)
-				? builder.websocket(rsocketConsumerProperties.getUri())
-				: builder.tcp(rsocketConsumerProperties.getHost(), rsocketConsumerProperties.getPort());
+		RSocketRequester rSocketRequester = rSocketRequester(builder, rsocketConsumerProperties);
+
+		String route = rsocketConsumerProperties.getRoute();
+
+		Counter messagesCounter = messagesCounter(meterRegistry.getIfUnique(() -> Metrics.globalRegistry), route,
+				"fire-and-forget");
+
+		return (input) -> input.flatMap((message) -> rSocketRequester.route(route)
+			.data(message.getPayload())
+			.send()
+			.doOnSuccess((empty) -> messagesCounter.increment())).ignoreElements();
+	}
+
+	@Bean(name = "rsocketFunctionConsumer")
+	@ConditionalOnProperty(prefix = "rsocket.consumer.channel", name = "enabled")
+	public Function<Flux<Message<?>>, Mono<Void>> rsocketChannelFunctionConsumer(RSocketRequester.Builder builder,
+			RsocketConsumerProperties rsocketConsumerProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+
+		RSocketRequester rSocketRequester = rSocketRequester(builder, rsocketConsumerProperties);
 
 		String route = rsocketConsumerProperties.getRoute();
+		RsocketConsumerProperties.Channel channel = rsocketConsumerProperties.getChannel();
+		MeterRegistry registry = meterRegistry.getIfUnique(() -> Metrics.globalRegistry);
+		Counter messagesCounter = messagesCounter(registry, route, "channel");
+		Counter framesCounter = Counter.builder("rsocket.consumer.frames")
+			.description("The number of frames sent to the RSocket route")
+			.tag("route", route)
+			.tag("mode", "channel")
+			.register(registry);
+
+		return (input) -> {
+			Flux<Object> payloads = input.map(Message::getPayload);
+			Flux<?> frames = (channel.getBatchSize() > 1)
+					? payloads.bufferTimeout(channel.getBatchSize(), channel.getBatchDelay(), true)
+						.doOnNext((batch) -> messagesCounter.increment(batch.size()))
+					: payloads.doOnNext((payload) -> messagesCounter.increment());
+
+			return rSocketRequester.route(route)
+				.data(frames.doOnNext((frame) -> framesCounter.increment()), Object.class)
+				.retrieveFlux(Void.class)
+				.then();
+		};
+	}
+
+	private static RSocketRequester rSocketRequester(RSocketRequester.Builder builder,
+			RsocketConsumerProperties rsocketConsumerProperties) {
+
+		RsocketConsumerProperties.Resume resume = rsocketConsumerProperties.getResume();
+		if (resume.isEnabled() || rsocketConsumerProperties.isLease()) {
+			builder.rsocketConnector((connector) -> {
+				if (resume.isEnabled()) {
+					connector.resume(new Resume().sessionDuration(resume.getSessionDuration())
+						.retry(Retry.fixedDelay(Long.MAX_VALUE, resume.getRetryInterval())));
+				}
+				if (rsocketConsumerProperties.isLease()) {
+					connector.lease();
+				}
+			});
+		}
+
+		return (rsocketConsumerProperties.getUri() != null) ? builder.websocket(rsocketConsumerProperties.getUri())
+				: builder.tcp(rsocketConsumerProperties.getHost(), rsocketConsumerProperties.getPort());
+	}
 
-		return (input) -> input.flatMap((message) -> rSocketRequester.route(route).data(message.getPayload()).send())
-			.ignoreElements();
+	private static Counter messagesCounter(MeterRegistry meterRegistry, String route, String mode) {
+		return Counter.builder("rsocket.consumer.messages")
+			.description("The number of messages sent to the RSocket route")
+			.tag("route", route)
+			.tag("mode", mode)
+			.register(meterRegistry);
 	}
 
 }
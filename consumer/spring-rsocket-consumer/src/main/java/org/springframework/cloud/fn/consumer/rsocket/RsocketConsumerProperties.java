@@ -17,6 +17,7 @@
 package org.springframework.cloud.fn.consumer.rsocket;
 
 import java.net.URI;
+import java.time.Duration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -48,6 +49,21 @@ public class RsocketConsumerProperties {
 	 */
 	private String route;
 
+	/**
+	 * The options for the request-channel interaction mode.
+	 */
+	private final Channel channel = new Channel();
+
+	/**
+	 * The options for the resumption of the RSocket connection.
+	 */
+	private final Resume resume = new Resume();
+
+	/**
+	 * Whether to honor the leases sent by the RSocket server.
+	 */
+	private boolean lease;
+
 	public String getHost() {
 		return this.host;
 	}
@@ -80,4 +96,110 @@ public class RsocketConsumerProperties {
 		this.uri = uri;
 	}
 
+	public Channel getChannel() {
+		return this.channel;
+	}
+
+	public Resume getResume() {
+		return this.resume;
+	}
+
+	public boolean isLease() {
+		return this.lease;
+	}
+
+	public void setLease(boolean lease) {
+		this.lease = lease;
+	}
+
+	public static class Channel {
+
+		/**
+		 * Whether to send all the messages over a single request-channel stream, with
+		 * the back-pressure of the RSocket server, instead of a fire-and-forget request
+		 * for every message.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max number of payloads sent as a list in one frame of the stream. Every
+		 * payload is sent in its own frame if 1.
+		 */
+		private int batchSize = 1;
+
+		/**
+		 * The max time to wait for the batch to be filled before sending it.
+		 */
+		private Duration batchDelay = Duration.ofMillis(10);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getBatchSize() {
+			return this.batchSize;
+		}
+
+		public void setBatchSize(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		public Duration getBatchDelay() {
+			return this.batchDelay;
+		}
+
+		public void setBatchDelay(Duration batchDelay) {
+			this.batchDelay = batchDelay;
+		}
+
+	}
+
+	public static class Resume {
+
+		/**
+		 * Whether to resume the RSocket session after the connection is lost. The RSocket
+		 * server must support the resumption too.
+		 */
+		private boolean enabled;
+
+		/**
+		 * How long the session is kept for the resumption.
+		 */
+		private Duration sessionDuration = Duration.ofMinutes(2);
+
+		/**
+		 * The interval between the attempts to reconnect for the resumption.
+		 */
+		private Duration retryInterval = Duration.ofSeconds(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getSessionDuration() {
+			return this.sessionDuration;
+		}
+
+		public void setSessionDuration(Duration sessionDuration) {
+			this.sessionDuration = sessionDuration;
+		}
+
+		public Duration getRetryInterval() {
+			return this.retryInterval;
+		}
+
+		public void setRetryInterval(Duration retryInterval) {
+			this.retryInterval = retryInterval;
+		}
+
+	}
+
 }
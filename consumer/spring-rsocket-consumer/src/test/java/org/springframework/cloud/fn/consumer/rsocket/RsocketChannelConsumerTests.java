@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.rsocket;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.rsocket.autoconfigure.RSocketRequesterAutoConfiguration;
+import org.springframework.boot.rsocket.autoconfigure.RSocketStrategiesAutoConfiguration;
+import org.springframework.boot.rsocket.context.RSocketServerBootstrap;
+import org.springframework.boot.rsocket.server.RSocketServer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = { "spring.rsocket.server.port=0" })
+@DirtiesContext
+public class RsocketChannelConsumerTests {
+
+	private static final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(RSocketRequesterAutoConfiguration.class,
+				RSocketStrategiesAutoConfiguration.class, RsocketConsumerConfiguration.class))
+		.withBean(SimpleMeterRegistry.class);
+
+	@Autowired
+	ApplicationContext applicationContext;
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testRsocketChannelConsumerWithBatches() {
+		RSocketServerBootstrap serverBootstrap = applicationContext.getBean(RSocketServerBootstrap.class);
+		RSocketServer server = (RSocketServer) ReflectionTestUtils.getField(serverBootstrap, "server");
+		final int port = server.address().getPort();
+
+		applicationContextRunner
+			.withPropertyValues("rsocket.consumer.port=" + port, "rsocket.consumer.route=test-channel",
+					"rsocket.consumer.channel.enabled=true", "rsocket.consumer.channel.batch-size=2")
+			.run((context) -> {
+				Function<Flux<Message<?>>, Mono<Void>> rsocketFunctionConsumer = context
+					.getBean("rsocketFunctionConsumer", Function.class);
+
+				StepVerifier
+					.create(rsocketFunctionConsumer.apply(Flux.just(new GenericMessage<>("one"),
+							new GenericMessage<>("two"), new GenericMessage<>("three"))))
+					.verifyComplete();
+
+				StepVerifier.create(RSocketServerApplication.channelPayloads.asFlux())
+					.expectNext(List.of("one", "two"), List.of("three"))
+					.thenCancel()
+					.verify();
+
+				MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+				assertThat(meterRegistry.get("rsocket.consumer.messages")
+					.tags("route", "test-channel", "mode", "channel")
+					.counter()
+					.count()).isEqualTo(3);
+				assertThat(meterRegistry.get("rsocket.consumer.frames")
+					.tags("route", "test-channel", "mode", "channel")
+					.counter()
+					.count()).isEqualTo(2);
+			});
+	}
+
+	@EnableAutoConfiguration
+	@SpringBootConfiguration
+	@Controller
+	static class RSocketServerApplication {
+
+		static final Sinks.Many<List<String>> channelPayloads = Sinks.many().replay().all();
+
+		@MessageMapping("test-channel")
+		Mono<Void> channel(Flux<List<String>> batches) {
+			return batches.doOnNext((batch) -> channelPayloads.emitNext(batch, Sinks.EmitFailureHandler.FAIL_FAST))
+				.then();
+		}
+
+	}
+
+}
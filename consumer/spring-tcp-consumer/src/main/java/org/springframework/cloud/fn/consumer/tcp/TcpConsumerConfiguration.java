@@ -18,22 +18,28 @@ package org.springframework.cloud.fn.consumer.tcp;
 
 import java.util.function.Consumer;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.fn.common.tcp.EncoderDecoderFactoryBean;
 import org.springframework.cloud.fn.common.tcp.TcpConnectionFactoryProperties;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Bean;
+import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.ip.config.TcpConnectionFactoryFactoryBean;
 import org.springframework.integration.ip.tcp.connection.AbstractConnectionFactory;
 import org.springframework.integration.ip.tcp.connection.TcpMessageMapper;
 import org.springframework.integration.ip.tcp.outbound.TcpSendingMessageHandler;
 import org.springframework.integration.ip.tcp.serializer.AbstractByteArraySerializer;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 
 /**
- * A consumer that sends data over TCP.
+ * A consumer that sends data over TCP. With {@code tcp.consumer.pool.enabled} the
+ * {@link TcpPooledSendingMessageHandler} is used instead of the Spring Integration
+ * {@link TcpSendingMessageHandler}.
  *
  * @author Gary Russell
  * @author Christian Tzolov
@@ -56,12 +62,16 @@ public class TcpConsumerConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.consumer.pool", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	Consumer<Message<?>> tcpConsumer(TcpSendingMessageHandlerSmartLifeCycle tcpConsumerMessageHandler) {
 
 		return tcpConsumerMessageHandler::handleMessage;
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.consumer.pool", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	TcpSendingMessageHandlerSmartLifeCycle tcpConsumerMessageHandler(
 			@Qualifier("tcpSinkConnectionFactory") AbstractConnectionFactory connectionFactory) {
 
@@ -71,6 +81,8 @@ public class TcpConsumerConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.consumer.pool", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public TcpConnectionFactoryFactoryBean tcpSinkConnectionFactory(
 			@Qualifier("tcpSinkEncoder") AbstractByteArraySerializer encoder,
 			@Qualifier("tcpSinkMapper") TcpMessageMapper mapper) {
@@ -89,6 +101,21 @@ public class TcpConsumerConfiguration {
 		return factoryBean;
 	}
 
+	@Bean(name = "tcpConsumer")
+	@ConditionalOnProperty(prefix = "tcp.consumer.pool", name = "enabled")
+	Consumer<Message<?>> pooledTcpConsumer(TcpPooledSendingMessageHandler tcpPooledConsumerMessageHandler) {
+		return tcpPooledConsumerMessageHandler::handleMessage;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "tcp.consumer.pool", name = "enabled")
+	TcpPooledSendingMessageHandler tcpPooledConsumerMessageHandler(
+			@Qualifier(IntegrationContextUtils.ERROR_CHANNEL_BEAN_NAME) ObjectProvider<MessageChannel> errorChannel) {
+
+		return new TcpPooledSendingMessageHandler(this.properties.getHost(), this.tcpConnectionProperties.getPort(),
+				this.properties, errorChannel.getIfAvailable());
+	}
+
 	@Bean
 	public EncoderDecoderFactoryBean tcpSinkEncoder() {
 		return new EncoderDecoderFactoryBean(this.properties.getEncoder());
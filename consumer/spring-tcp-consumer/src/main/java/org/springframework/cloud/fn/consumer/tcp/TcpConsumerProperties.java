@@ -16,10 +16,17 @@
 
 package org.springframework.cloud.fn.consumer.tcp;
 
+import java.time.Duration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.fn.common.tcp.Encoding;
+import org.springframework.expression.Expression;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -53,6 +60,12 @@ public class TcpConsumerProperties {
 	 */
 	private boolean close;
 
+	/**
+	 * Options for sending over a pool of connections.
+	 */
+	@Valid
+	private Pool pool = new Pool();
+
 	@NotNull
 	public String getHost() {
 		return this.host;
@@ -88,4 +101,124 @@ public class TcpConsumerProperties {
 		this.close = close;
 	}
 
+	public Pool getPool() {
+		return this.pool;
+	}
+
+	public void setPool(Pool pool) {
+		this.pool = pool;
+	}
+
+	@AssertTrue(message = "The 'pool' cannot be used together with 'close' or the 'RAW' encoder")
+	boolean isPoolCompatible() {
+		return !this.pool.isEnabled() || (!this.close && this.encoder != Encoding.RAW);
+	}
+
+	public static class Pool {
+
+		/**
+		 * Whether to send messages asynchronously over a pool of Netty client connections
+		 * instead of the Spring Integration TCP connection factory.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The number of connections in the pool.
+		 */
+		@Min(1)
+		private int size = 4;
+
+		/**
+		 * How to select a connection for a message.
+		 */
+		private Selection selection = Selection.ROUND_ROBIN;
+
+		/**
+		 * A SpEL expression against the message for the key to select the connection with
+		 * the 'key-affinity' selection, so messages with the same key are sent in order.
+		 */
+		private @Nullable Expression keyExpression;
+
+		/**
+		 * The max number of encoded bytes which are not written to the sockets yet;
+		 * senders are blocked when it is reached.
+		 */
+		@Min(1)
+		private int maxPendingBytes = 64 * 1024 * 1024;
+
+		/**
+		 * The max time to block a sender waiting for the pending bytes to drain, or for a
+		 * connection to be established.
+		 */
+		private Duration sendTimeout = Duration.ofSeconds(10);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getSize() {
+			return this.size;
+		}
+
+		public void setSize(int size) {
+			this.size = size;
+		}
+
+		public Selection getSelection() {
+			return this.selection;
+		}
+
+		public void setSelection(Selection selection) {
+			this.selection = selection;
+		}
+
+		public @Nullable Expression getKeyExpression() {
+			return this.keyExpression;
+		}
+
+		public void setKeyExpression(@Nullable Expression keyExpression) {
+			this.keyExpression = keyExpression;
+		}
+
+		public int getMaxPendingBytes() {
+			return this.maxPendingBytes;
+		}
+
+		public void setMaxPendingBytes(int maxPendingBytes) {
+			this.maxPendingBytes = maxPendingBytes;
+		}
+
+		public Duration getSendTimeout() {
+			return this.sendTimeout;
+		}
+
+		public void setSendTimeout(Duration sendTimeout) {
+			this.sendTimeout = sendTimeout;
+		}
+
+		@AssertTrue(message = "The 'keyExpression' is required for the 'key-affinity' selection")
+		boolean isKeyExpressionProvided() {
+			return this.selection != Selection.KEY_AFFINITY || this.keyExpression != null;
+		}
+
+	}
+
+	public enum Selection {
+
+		/**
+		 * Select connections in turn.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * Select a connection by the hash of the message key.
+		 */
+		KEY_AFFINITY
+
+	}
+
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.tcp;
+
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.Connection;
+import reactor.netty.tcp.TcpClient;
+
+import org.springframework.cloud.fn.common.tcp.Encoding;
+import org.springframework.cloud.fn.common.tcp.NettyFrameCodecs;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.expression.Expression;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MessageHandler} which sends messages asynchronously over a pool of Netty
+ * client connections, selected in turn or by the hash of a message key.
+ * <p>
+ * A message is encoded into a single pooled buffer and written to the connection without
+ * waiting for the socket; the frames written in the meantime are flushed together once
+ * on the connection event loop, so the transport gathers them into a single socket
+ * write. The encoded bytes not written to the sockets yet are bounded by
+ * {@link TcpConsumerProperties.Pool#getMaxPendingBytes()}: a sender is blocked when it
+ * is reached, and fails after {@link TcpConsumerProperties.Pool#getSendTimeout()}. The
+ * failure of an asynchronous write is sent to the error channel as an
+ * {@link ErrorMessage} with a {@link MessageDeliveryException} for the failed message.
+ *
+ * @since 6.0.1
+ */
+public class TcpPooledSendingMessageHandler implements MessageHandler, SmartLifecycle {
+
+	private static final Log LOGGER = LogFactory.getLog(TcpPooledSendingMessageHandler.class);
+
+	private final TcpClient tcpClient;
+
+	private final Encoding encoder;
+
+	private final Charset charset;
+
+	private final @Nullable Expression keyExpression;
+
+	private final Duration sendTimeout;
+
+	private final int maxPendingBytes;
+
+	private final Semaphore pendingBytes;
+
+	private final PooledConnection[] connections;
+
+	private final AtomicInteger nextConnection = new AtomicInteger();
+
+	private final @Nullable MessageChannel errorChannel;
+
+	private volatile boolean running;
+
+	public TcpPooledSendingMessageHandler(String host, int port, TcpConsumerProperties properties,
+			@Nullable MessageChannel errorChannel) {
+
+		TcpConsumerProperties.Pool pool = properties.getPool();
+		Assert.isTrue(properties.getEncoder() != Encoding.RAW, "The RAW encoder cannot be used with a pool");
+		this.sendTimeout = pool.getSendTimeout();
+		this.tcpClient = TcpClient.create()
+			.host(host)
+			.port(port)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) this.sendTimeout.toMillis());
+		this.encoder = properties.getEncoder();
+		this.charset = Charset.forName(properties.getCharset());
+		this.keyExpression = (pool.getSelection() == TcpConsumerProperties.Selection.KEY_AFFINITY)
+				? pool.getKeyExpression() : null;
+		this.maxPendingBytes = pool.getMaxPendingBytes();
+		this.pendingBytes = new Semaphore(this.maxPendingBytes);
+		this.connections = new PooledConnection[pool.getSize()];
+		for (int i = 0; i < this.connections.length; i++) {
+			this.connections[i] = new PooledConnection();
+		}
+		this.errorChannel = errorChannel;
+	}
+
+	@Override
+	public void handleMessage(Message<?> message) throws MessagingException {
+		byte[] payload = payloadBytes(message);
+		PooledConnection connection = select(message);
+		int permits = Math.min(payload.length, this.maxPendingBytes);
+		acquire(message, permits);
+		try {
+			Channel channel = connection.channel();
+			ByteBuf frame = NettyFrameCodecs.encode(this.encoder, channel.alloc(), payload);
+			channel.write(frame).addListener((future) -> {
+				this.pendingBytes.release(permits);
+				if (!future.isSuccess()) {
+					reportFailure(message, future.cause());
+				}
+			});
+			connection.scheduleFlush(channel);
+		}
+		catch (RuntimeException ex) {
+			this.pendingBytes.release(permits);
+			throw new MessageHandlingException(message, "Failed to send message to TCP connection", ex);
+		}
+	}
+
+	@Override
+	public void start() {
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+		for (PooledConnection connection : this.connections) {
+			connection.dispose();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return Integer.MIN_VALUE;
+	}
+
+	private byte[] payloadBytes(Message<?> message) {
+		Object payload = message.getPayload();
+		if (payload instanceof byte[] bytes) {
+			return bytes;
+		}
+		if (payload instanceof String string) {
+			return string.getBytes(this.charset);
+		}
+		throw new MessageHandlingException(message,
+				"Only byte[] and String payloads are supported, not: " + payload.getClass().getName());
+	}
+
+	private PooledConnection select(Message<?> message) {
+		int index;
+		if (this.keyExpression != null) {
+			index = Objects.hashCode(this.keyExpression.getValue(message));
+		}
+		else {
+			index = this.nextConnection.getAndIncrement();
+		}
+		return this.connections[Math.floorMod(index, this.connections.length)];
+	}
+
+	private void acquire(Message<?> message, int permits) {
+		try {
+			if (!this.pendingBytes.tryAcquire(permits, this.sendTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new MessageDeliveryException(message,
+						"Timed out waiting for pending bytes to be written to TCP connections");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageDeliveryException(message, "Interrupted waiting for pending bytes to be written", ex);
+		}
+	}
+
+	private void reportFailure(Message<?> message, Throwable cause) {
+		MessageDeliveryException exception = new MessageDeliveryException(message,
+				"Failed to write message to TCP connection", cause);
+		if (this.errorChannel == null || !this.errorChannel.send(new ErrorMessage(exception))) {
+			LOGGER.error("Failed to write message to TCP connection: " + message, cause);
+		}
+	}
+
+	/**
+	 * A slot of the pool which (re)connects on demand.
+	 */
+	private final class PooledConnection {
+
+		private final Lock lock = new ReentrantLock();
+
+		private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+		private volatile @Nullable Connection connection;
+
+		Channel channel() {
+			Connection current = this.connection;
+			if (current == null || current.isDisposed()) {
+				this.lock.lock();
+				try {
+					current = this.connection;
+					if (current == null || current.isDisposed()) {
+						current = TcpPooledSendingMessageHandler.this.tcpClient.connect()
+							.block(TcpPooledSendingMessageHandler.this.sendTimeout);
+						Assert.state(current != null, "No TCP connection established");
+						this.connection = current;
+					}
+				}
+				finally {
+					this.lock.unlock();
+				}
+			}
+			return current.channel();
+		}
+
+		void scheduleFlush(Channel channel) {
+			if (this.flushScheduled.compareAndSet(false, true)) {
+				channel.eventLoop().execute(() -> {
+					this.flushScheduled.set(false);
+					channel.flush();
+				});
+			}
+		}
+
+		void dispose() {
+			Connection current = this.connection;
+			if (current != null) {
+				current.channel().flush();
+				current.disposeNow();
+				this.connection = null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.tcp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = { "tcp.consumer.host = localhost", "tcp.consumer.pool.enabled = true",
+				"tcp.consumer.pool.size = 2" })
+@DirtiesContext
+public class TcpPooledConsumerTests {
+
+	private static final BlockingQueue<String> RECEIVED = new LinkedBlockingQueue<>();
+
+	private static final Set<Integer> CLIENT_PORTS = ConcurrentHashMap.newKeySet();
+
+	private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
+
+	private static ServerSocket serverSocket;
+
+	@Autowired
+	Consumer<Message<?>> tcpConsumer;
+
+	@BeforeAll
+	static void startServer() throws IOException {
+		serverSocket = new ServerSocket(0);
+		EXECUTOR.execute(() -> {
+			while (!serverSocket.isClosed()) {
+				try {
+					Socket socket = serverSocket.accept();
+					CLIENT_PORTS.add(socket.getPort());
+					EXECUTOR.execute(() -> readLines(socket));
+				}
+				catch (IOException ex) {
+					// server closed
+				}
+			}
+		});
+	}
+
+	private static void readLines(Socket socket) {
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+
+			String line;
+			while ((line = reader.readLine()) != null) {
+				RECEIVED.offer(line);
+			}
+		}
+		catch (IOException ex) {
+			// connection closed
+		}
+	}
+
+	@DynamicPropertySource
+	static void tcpConnectionProperties(DynamicPropertyRegistry registry) {
+		registry.add("tcp.port", () -> serverSocket.getLocalPort());
+	}
+
+	@AfterAll
+	static void stopServer() throws IOException {
+		serverSocket.close();
+		EXECUTOR.shutdownNow();
+	}
+
+	@Test
+	public void messagesAreSentOverPooledConnections() throws InterruptedException {
+		List<String> sent = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			String payload = "message_" + i;
+			sent.add(payload);
+			this.tcpConsumer.accept(new GenericMessage<>(payload));
+		}
+
+		List<String> received = new ArrayList<>();
+		for (int i = 0; i < sent.size(); i++) {
+			String line = RECEIVED.poll(10, TimeUnit.SECONDS);
+			assertThat(line).isNotNull();
+			received.add(line);
+		}
+		assertThat(received).containsExactlyInAnyOrderElementsOf(sent);
+		assertThat(CLIENT_PORTS).hasSize(2);
+	}
+
+	@SpringBootApplication
+	public static class TcpConsumerTestApplication {
+
+	}
+
+}
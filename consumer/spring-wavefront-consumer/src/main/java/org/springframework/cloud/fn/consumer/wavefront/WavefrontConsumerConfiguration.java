@@ -23,9 +23,11 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.restclient.RestTemplateBuilder;
 import org.springframework.boot.restclient.autoconfigure.RestTemplateAutoConfiguration;
+import org.springframework.cloud.fn.consumer.wavefront.service.BatchingWavefrontService;
 import org.springframework.cloud.fn.consumer.wavefront.service.DirectConnectionWavefrontService;
 import org.springframework.cloud.fn.consumer.wavefront.service.ProxyConnectionWavefrontService;
 import org.springframework.cloud.fn.consumer.wavefront.service.WavefrontService;
@@ -58,6 +60,7 @@ public class WavefrontConsumerConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "wavefront.batch", name = "enabled", havingValue = "false", matchIfMissing = true)
 	public WavefrontService wavefrontService(WavefrontConsumerProperties properties,
 			RestTemplateBuilder restTemplateBuilder) {
 
@@ -71,4 +74,19 @@ public class WavefrontConsumerConfiguration {
 		}
 	}
 
+	@Bean(name = "wavefrontService")
+	@ConditionalOnProperty(prefix = "wavefront.batch", name = "enabled")
+	public BatchingWavefrontService batchingWavefrontService(WavefrontConsumerProperties properties,
+			RestTemplateBuilder restTemplateBuilder) {
+
+		String proxyUri = properties.getProxyUri();
+		if (StringUtils.hasText(proxyUri)) {
+			return new BatchingWavefrontService(restTemplateBuilder, proxyUri, null, properties.getBatch());
+		}
+		else {
+			return new BatchingWavefrontService(restTemplateBuilder, properties.getUri() + "/report",
+					properties.getApiToken(), properties.getBatch());
+		}
+	}
+
 }
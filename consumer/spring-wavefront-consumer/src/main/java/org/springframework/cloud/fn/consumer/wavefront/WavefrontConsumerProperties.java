@@ -16,9 +16,13 @@
 
 package org.springframework.cloud.fn.consumer.wavefront;
 
+import java.io.File;
+import java.time.Duration;
 import java.util.Map;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -28,6 +32,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.expression.Expression;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -86,6 +91,12 @@ public class WavefrontConsumerProperties {
 	 */
 	private String proxyUri;
 
+	/**
+	 * Options for sending the metrics in batches.
+	 */
+	@Valid
+	private final Batch batch = new Batch();
+
 	public WavefrontConsumerProperties() {
 	}
 
@@ -173,6 +184,10 @@ public class WavefrontConsumerProperties {
 		this.proxyUri = proxyUri;
 	}
 
+	public Batch getBatch() {
+		return this.batch;
+	}
+
 	@AssertTrue(message = "Exactly one of 'proxy-uri' or the pair of ('uri' and 'api-token') must be set!")
 	public boolean isMutuallyExclusiveProxyAndDirectAccessWavefrontConfiguration() {
 		boolean hasProxyUri = StringUtils.hasText(getProxyUri());
@@ -181,4 +196,122 @@ public class WavefrontConsumerProperties {
 		return (hasProxyUri && !hasUri && !hasApiToken) || (!hasProxyUri && hasUri && hasApiToken);
 	}
 
+	public static class Batch {
+
+		/**
+		 * Whether to buffer the metrics and send them in gzip-compressed batches instead
+		 * of one request per metric.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The buffered size of the metrics to send them as a batch.
+		 */
+		private DataSize maxSize = DataSize.ofKilobytes(512);
+
+		/**
+		 * The interval to send the buffered metrics, even if the batch is not full.
+		 */
+		private Duration flushInterval = Duration.ofSeconds(1);
+
+		/**
+		 * The max number of batches sent at the same time. The next full batch is
+		 * spilled right away, if the spill directory is set, or the consumer is blocked
+		 * until one of them is done.
+		 */
+		@Min(1)
+		private int maxConcurrentFlushes = 4;
+
+		/**
+		 * The number of retries for a failed batch.
+		 */
+		@Min(0)
+		private int maxRetries = 3;
+
+		/**
+		 * The delay before the first retry of a failed batch, doubled for every next
+		 * retry.
+		 */
+		private Duration retryBackoff = Duration.ofMillis(500);
+
+		/**
+		 * The directory to store the batches failed after all the retries, or not sent
+		 * because of max concurrent flushes, to send them again when the endpoint is
+		 * available. Such batches are dropped if not set.
+		 */
+		private File spillDirectory;
+
+		/**
+		 * The max number of batches stored in the spill directory. Failed batches over
+		 * this number are dropped.
+		 */
+		@Min(1)
+		private int maxSpilledBatches = 1000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(DataSize maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Duration getFlushInterval() {
+			return this.flushInterval;
+		}
+
+		public void setFlushInterval(Duration flushInterval) {
+			this.flushInterval = flushInterval;
+		}
+
+		public int getMaxConcurrentFlushes() {
+			return this.maxConcurrentFlushes;
+		}
+
+		public void setMaxConcurrentFlushes(int maxConcurrentFlushes) {
+			this.maxConcurrentFlushes = maxConcurrentFlushes;
+		}
+
+		public int getMaxRetries() {
+			return this.maxRetries;
+		}
+
+		public void setMaxRetries(int maxRetries) {
+			this.maxRetries = maxRetries;
+		}
+
+		public Duration getRetryBackoff() {
+			return this.retryBackoff;
+		}
+
+		public void setRetryBackoff(Duration retryBackoff) {
+			this.retryBackoff = retryBackoff;
+		}
+
+		public File getSpillDirectory() {
+			return this.spillDirectory;
+		}
+
+		public void setSpillDirectory(File spillDirectory) {
+			this.spillDirectory = spillDirectory;
+		}
+
+		public int getMaxSpilledBatches() {
+			return this.maxSpilledBatches;
+		}
+
+		public void setMaxSpilledBatches(int maxSpilledBatches) {
+			this.maxSpilledBatches = maxSpilledBatches;
+		}
+
+	}
+
 }
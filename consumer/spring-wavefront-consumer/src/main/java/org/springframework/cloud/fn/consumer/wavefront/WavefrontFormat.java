@@ -16,11 +16,9 @@
 
 package org.springframework.cloud.fn.consumer.wavefront;
 
-import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import jakarta.validation.ValidationException;
 import org.apache.commons.logging.Log;
@@ -40,6 +38,8 @@ public class WavefrontFormat {
 
 	private static final Log LOGGER = LogFactory.getLog(WavefrontFormat.class);
 
+	private static final Pattern POINT_TAG_KEY_PATTERN = Pattern.compile("[a-zA-Z0-9._-]+");
+
 	private final WavefrontConsumerProperties properties;
 
 	private final Message<?> message;
@@ -55,20 +55,17 @@ public class WavefrontFormat {
 		final Map<String, Object> pointTagsMap = extractPointTagsMapFromPayload(this.properties.getTagExpression(),
 				this.message);
 		validatePointTagsKeyValuePairs(pointTagsMap);
-		final String formattedPointTagsPart = getFormattedPointTags(pointTagsMap);
 
-		if (this.properties.getTimestampExpression() == null) {
-			return String
-				.format("\"%s\" %s source=%s %s", this.properties.getMetricName(), metricValue,
-						this.properties.getSource(), formattedPointTagsPart)
-				.trim();
+		StringBuilder formatted = new StringBuilder(64).append('"')
+			.append(this.properties.getMetricName())
+			.append("\" ")
+			.append(metricValue);
+		if (this.properties.getTimestampExpression() != null) {
+			formatted.append(' ').append(extractTimestampFromPayload());
 		}
-
-		final Long timestamp = extractTimestampFromPayload();
-		return String
-			.format("\"%s\" %s %d source=%s %s", this.properties.getMetricName(), metricValue, timestamp,
-					this.properties.getSource(), formattedPointTagsPart)
-			.trim();
+		formatted.append(" source=").append(this.properties.getSource());
+		appendPointTags(formatted, pointTagsMap);
+		return formatted.toString();
 	}
 
 	private Long extractTimestampFromPayload() {
@@ -93,31 +90,31 @@ public class WavefrontFormat {
 		}
 	}
 
-	private String getFormattedPointTags(Map<String, Object> pointTagsMap) {
-		return pointTagsMap.entrySet()
-			.stream()
-			.map((it) -> String.format("%s=\"%s\"", it.getKey(), it.getValue()))
-			.collect(Collectors.joining(" "));
+	private static void appendPointTags(StringBuilder formatted, Map<String, Object> pointTagsMap) {
+		for (Map.Entry<String, Object> pointTag : pointTagsMap.entrySet()) {
+			formatted.append(' ').append(pointTag.getKey()).append("=\"").append(pointTag.getValue()).append('"');
+		}
 	}
 
 	private Map<String, Object> extractPointTagsMapFromPayload(Map<String, Expression> pointTagsExpressionsPointValue,
 			Message<?> message) {
 
-		return pointTagsExpressionsPointValue.entrySet().stream().map((it) -> {
+		Map<String, Object> pointTagsMap = new HashMap<>();
+		for (Map.Entry<String, Expression> pointTagExpression : pointTagsExpressionsPointValue.entrySet()) {
 			try {
-				final Object pointValue = it.getValue().getValue(this.message);
-				return new AbstractMap.SimpleEntry<>(it.getKey(), pointValue);
+				pointTagsMap.put(pointTagExpression.getKey(), pointTagExpression.getValue().getValue(message));
 			}
 			catch (EvaluationException ex) {
-				LOGGER.warn("Unable to extract point tag for key " + it.getKey() + " from payload", ex);
-				return null;
+				LOGGER.warn("Unable to extract point tag for key " + pointTagExpression.getKey() + " from payload",
+						ex);
 			}
-		}).filter(Objects::nonNull).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		}
+		return pointTagsMap;
 	}
 
 	private void validatePointTagsKeyValuePairs(Map<String, Object> pointTagsMap) {
 		pointTagsMap.forEach((key, value) -> {
-			if (!Pattern.matches("^[a-zA-Z0-9._-]+", key)) {
+			if (!POINT_TAG_KEY_PATTERN.matcher(key).matches()) {
 				throw new ValidationException("Point tag key \"" + key + "\" contains invalid characters: Valid "
 						+ "characters are alphanumeric, hyphen (\"-\"), underscore (\"_\"), dot (\".\")");
 			}
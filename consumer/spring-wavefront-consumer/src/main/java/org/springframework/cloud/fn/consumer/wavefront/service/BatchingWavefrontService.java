@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.wavefront.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.restclient.RestTemplateBuilder;
+import org.springframework.cloud.fn.consumer.wavefront.WavefrontConsumerProperties;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The {@link WavefrontService} implementation which sends the metrics in batches.
+ * <p>
+ * The metric lines are appended into a buffer, which is sent as one gzip-compressed
+ * request when it reaches the {@link WavefrontConsumerProperties.Batch#getMaxSize()} or
+ * on the {@link WavefrontConsumerProperties.Batch#getFlushInterval()}. Up to
+ * {@link WavefrontConsumerProperties.Batch#getMaxConcurrentFlushes()} batches are sent at
+ * the same time. When all of them are in flight, the next full batch is stored in the
+ * {@link WavefrontConsumerProperties.Batch#getSpillDirectory()} right away; without a
+ * spill directory the {@link #send(String)} is blocked until one of them is done.
+ * <p>
+ * A failed batch is retried with an exponential backoff. After all the retries, it is
+ * stored in the spill directory, if any, and sent again, in the order of failures, on the
+ * next flush intervals. A batch rejected by Wavefront with a client error (other than
+ * {@code 429 Too Many Requests}) is not retried: it is dropped, or, if it has been
+ * spilled already, renamed with the {@code .rejected} suffix to keep it out of the
+ * resending.
+ *
+ * @since 6.0.1
+ */
+public class BatchingWavefrontService implements WavefrontService, DisposableBean {
+
+	private static final Log LOGGER = LogFactory.getLog(BatchingWavefrontService.class);
+
+	private static final String SPILLED_BATCH_PREFIX = "wavefront-batch-";
+
+	private static final String SPILLED_BATCH_SUFFIX = ".gz";
+
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private static final String REJECTED_SUFFIX = ".rejected";
+
+	private final RestTemplate restTemplate;
+
+	private final String url;
+
+	private final @Nullable String apiToken;
+
+	private final int maxSize;
+
+	private final int maxRetries;
+
+	private final long retryBackoff;
+
+	private final @Nullable Path spillDirectory;
+
+	private final int maxSpilledBatches;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final StringBuilder buffer;
+
+	private final Semaphore flushPermits;
+
+	private final ExecutorService flushExecutor = Executors
+		.newCachedThreadPool(new CustomizableThreadFactory("wavefront-flush-"));
+
+	private final ScheduledExecutorService scheduler = Executors
+		.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("wavefront-batch-"));
+
+	private final AtomicInteger spilledBatches = new AtomicInteger();
+
+	private final AtomicLong spilledSequence = new AtomicLong();
+
+	public BatchingWavefrontService(RestTemplateBuilder restTemplateBuilder, String url, @Nullable String apiToken,
+			WavefrontConsumerProperties.Batch batch) {
+
+		this.restTemplate = restTemplateBuilder.build();
+		this.url = url;
+		this.apiToken = apiToken;
+		this.maxSize = (int) batch.getMaxSize().toBytes();
+		this.buffer = new StringBuilder(this.maxSize);
+		this.flushPermits = new Semaphore(batch.getMaxConcurrentFlushes());
+		this.maxRetries = batch.getMaxRetries();
+		this.retryBackoff = batch.getRetryBackoff().toMillis();
+		this.maxSpilledBatches = batch.getMaxSpilledBatches();
+		this.spillDirectory = (batch.getSpillDirectory() != null) ? batch.getSpillDirectory().toPath() : null;
+		if (this.spillDirectory != null) {
+			try {
+				Files.createDirectories(this.spillDirectory);
+				// Batches left from the previous run are sent again too
+				List<Path> spilled = spilledBatches();
+				this.spilledBatches.set(spilled.size());
+				if (!spilled.isEmpty()) {
+					String last = spilled.get(spilled.size() - 1).getFileName().toString();
+					this.spilledSequence.set(Long.parseLong(last.substring(SPILLED_BATCH_PREFIX.length(),
+							last.length() - SPILLED_BATCH_SUFFIX.length())));
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+		long flushInterval = batch.getFlushInterval().toMillis();
+		this.scheduler.scheduleWithFixedDelay(this::flushAndResend, flushInterval, flushInterval,
+				TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void send(String metricInWavefrontFormat) {
+		String batch = null;
+		this.lock.lock();
+		try {
+			this.buffer.append(metricInWavefrontFormat).append('\n');
+			if (this.buffer.length() >= this.maxSize) {
+				batch = drainBuffer();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (batch != null) {
+			flush(batch);
+		}
+	}
+
+	private String drainBuffer() {
+		String batch = this.buffer.toString();
+		this.buffer.setLength(0);
+		return batch;
+	}
+
+	private void flushAndResend() {
+		String batch = null;
+		this.lock.lock();
+		try {
+			if (!this.buffer.isEmpty()) {
+				batch = drainBuffer();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (batch != null) {
+			flush(batch);
+		}
+		resendSpilled();
+	}
+
+	private void flush(String batch) {
+		if (!this.flushPermits.tryAcquire()) {
+			if (this.spillDirectory != null) {
+				// Do not block the consumer while Wavefront is slow or not available
+				spill(gzip(batch));
+				return;
+			}
+			this.flushPermits.acquireUninterruptibly();
+		}
+		try {
+			this.flushExecutor.execute(() -> {
+				try {
+					deliver(gzip(batch));
+				}
+				finally {
+					this.flushPermits.release();
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.flushPermits.release();
+			LOGGER.error("Cannot send a batch of metrics to Wavefront", ex);
+		}
+	}
+
+	private void deliver(byte[] batch) {
+		long backoff = this.retryBackoff;
+		for (int attempt = 0;; attempt++) {
+			try {
+				post(batch);
+				return;
+			}
+			catch (RestClientException ex) {
+				if (isRejected(ex)) {
+					LOGGER.error("A batch of metrics is dropped: it is rejected by Wavefront", ex);
+					return;
+				}
+				if (attempt >= this.maxRetries) {
+					LOGGER.warn("Failed to send a batch of metrics to Wavefront after " + attempt + " retries", ex);
+					spill(batch);
+					return;
+				}
+			}
+			try {
+				Thread.sleep(backoff);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				spill(batch);
+				return;
+			}
+			backoff *= 2;
+		}
+	}
+
+	private void post(byte[] batch) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.TEXT_PLAIN);
+		headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+		if (StringUtils.hasText(this.apiToken)) {
+			headers.setBearerAuth(this.apiToken);
+		}
+		this.restTemplate.exchange(this.url, HttpMethod.POST, new HttpEntity<>(batch, headers), Void.class);
+	}
+
+	private void spill(byte[] batch) {
+		if (this.spillDirectory == null) {
+			LOGGER.error("A batch of metrics is dropped: no 'wavefront.batch.spill-directory' is configured");
+			return;
+		}
+		if (this.spilledBatches.incrementAndGet() > this.maxSpilledBatches) {
+			this.spilledBatches.decrementAndGet();
+			LOGGER.error("A batch of metrics is dropped: the spill directory has " + this.maxSpilledBatches
+					+ " batches already");
+			return;
+		}
+		// The zero-padded sequence makes the file names sorted in the order of failures
+		Path file = this.spillDirectory.resolve(SPILLED_BATCH_PREFIX
+				+ String.format("%019d", this.spilledSequence.incrementAndGet()) + SPILLED_BATCH_SUFFIX);
+		// The resending lists the directory concurrently: it must see only complete files
+		Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+		try {
+			Files.write(temporaryFile, batch);
+			Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex) {
+			this.spilledBatches.decrementAndGet();
+			LOGGER.error("A batch of metrics is dropped: cannot write it into " + file, ex);
+		}
+	}
+
+	private void resendSpilled() {
+		if (this.spillDirectory == null || this.spilledBatches.get() == 0) {
+			return;
+		}
+		try {
+			for (Path file : spilledBatches()) {
+				try {
+					post(Files.readAllBytes(file));
+					Files.delete(file);
+				}
+				catch (RestClientException ex) {
+					if (!isRejected(ex)) {
+						throw ex;
+					}
+					Path rejectedFile = file.resolveSibling(file.getFileName() + REJECTED_SUFFIX);
+					LOGGER.error("A spilled batch of metrics is rejected by Wavefront; it is moved to " + rejectedFile,
+							ex);
+					Files.move(file, rejectedFile, StandardCopyOption.ATOMIC_MOVE);
+				}
+				this.spilledBatches.decrementAndGet();
+			}
+		}
+		catch (RestClientException ex) {
+			LOGGER.debug("Wavefront is still not available for the spilled batches", ex);
+		}
+		catch (IOException ex) {
+			LOGGER.error("Cannot resend the spilled batches of metrics", ex);
+		}
+	}
+
+	/**
+	 * Whether the request cannot succeed when it is sent again.
+	 * @param ex the request failure
+	 * @return true for a client error, except the {@code 429 Too Many Requests}
+	 */
+	private static boolean isRejected(RestClientException ex) {
+		return ex instanceof HttpClientErrorException clientError
+				&& !clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	private List<Path> spilledBatches() throws IOException {
+		try (Stream<Path> files = Files.list(this.spillDirectory)) {
+			return files.filter((file) -> {
+				String name = file.getFileName().toString();
+				return name.startsWith(SPILLED_BATCH_PREFIX) && name.endsWith(SPILLED_BATCH_SUFFIX);
+			}).sorted().toList();
+		}
+	}
+
+	private static byte[] gzip(String batch) {
+		byte[] bytes = batch.getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out.toByteArray();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		this.scheduler.shutdown();
+		this.scheduler.awaitTermination(30, TimeUnit.SECONDS);
+		String batch;
+		this.lock.lock();
+		try {
+			batch = this.buffer.isEmpty() ? null : drainBuffer();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (batch != null) {
+			flush(batch);
+		}
+		this.flushExecutor.shutdown();
+		this.flushExecutor.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.wavefront.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.boot.restclient.RestTemplateBuilder;
+import org.springframework.cloud.fn.consumer.wavefront.WavefrontConsumerProperties;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BatchingWavefrontServiceTests {
+
+	@TempDir
+	Path spillDirectory;
+
+	@Test
+	void metricsAreSentAsGzippedBatch() throws Exception {
+		RestTemplateBuilder restTemplateBuilderMock = mock();
+		RestTemplate restTemplateMock = mock();
+		given(restTemplateBuilderMock.build()).willReturn(restTemplateMock);
+
+		WavefrontConsumerProperties.Batch batch = new WavefrontConsumerProperties.Batch();
+		batch.setFlushInterval(Duration.ofHours(1));
+		BatchingWavefrontService service = new BatchingWavefrontService(restTemplateBuilderMock,
+				"testWavefrontDomain/report", "testWavefrontToken", batch);
+		service.send("\"metric\" 1.0 source=test");
+		service.send("\"metric\" 2.0 source=test");
+		service.destroy();
+
+		ArgumentCaptor<HttpEntity<?>> argument = ArgumentCaptor.captor();
+		verify(restTemplateMock).exchange(eq("testWavefrontDomain/report"), eq(HttpMethod.POST), argument.capture(),
+				eq(Void.class));
+		HttpHeaders headers = argument.getValue().getHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer testWavefrontToken");
+		assertThat(gunzip((byte[]) argument.getValue().getBody()))
+			.isEqualTo("\"metric\" 1.0 source=test\n\"metric\" 2.0 source=test\n");
+	}
+
+	@Test
+	void failedBatchesAreSpilledAndSentAgain() throws Exception {
+		RestTemplateBuilder restTemplateBuilderMock = mock();
+		RestTemplate restTemplateMock = mock();
+		given(restTemplateBuilderMock.build()).willReturn(restTemplateMock);
+		given(restTemplateMock.exchange(eq("testProxy"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Void.class)))
+			.willThrow(new ResourceAccessException("Connection refused"))
+			.willReturn(null);
+
+		WavefrontConsumerProperties.Batch batch = new WavefrontConsumerProperties.Batch();
+		batch.setFlushInterval(Duration.ofMillis(100));
+		batch.setMaxRetries(0);
+		batch.setSpillDirectory(this.spillDirectory.toFile());
+		BatchingWavefrontService service = new BatchingWavefrontService(restTemplateBuilderMock, "testProxy", null,
+				batch);
+		service.send("\"metric\" 1.0 source=test");
+
+		await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+			verify(restTemplateMock, times(2)).exchange(eq("testProxy"), eq(HttpMethod.POST), any(HttpEntity.class),
+					eq(Void.class));
+			assertThat(this.spillDirectory).isEmptyDirectory();
+		});
+
+		service.destroy();
+	}
+
+	@Test
+	void rejectedBatchesAreNotRetried() throws Exception {
+		RestTemplateBuilder restTemplateBuilderMock = mock();
+		RestTemplate restTemplateMock = mock();
+		given(restTemplateBuilderMock.build()).willReturn(restTemplateMock);
+		given(restTemplateMock.exchange(eq("testProxy"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Void.class)))
+			.willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+		WavefrontConsumerProperties.Batch batch = new WavefrontConsumerProperties.Batch();
+		batch.setFlushInterval(Duration.ofHours(1));
+		batch.setSpillDirectory(this.spillDirectory.toFile());
+		BatchingWavefrontService service = new BatchingWavefrontService(restTemplateBuilderMock, "testProxy", null,
+				batch);
+		service.send("\"metric\" 1.0 source=test");
+		service.destroy();
+
+		verify(restTemplateMock).exchange(eq("testProxy"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Void.class));
+		assertThat(this.spillDirectory).isEmptyDirectory();
+	}
+
+	@Test
+	void rejectedSpilledBatchesAreMovedAside() throws Exception {
+		Files.write(this.spillDirectory.resolve("wavefront-batch-0000000000000000001.gz"), new byte[] { 1 });
+		Files.write(this.spillDirectory.resolve("wavefront-batch-0000000000000000002.gz"), new byte[] { 2 });
+
+		RestTemplateBuilder restTemplateBuilderMock = mock();
+		RestTemplate restTemplateMock = mock();
+		given(restTemplateBuilderMock.build()).willReturn(restTemplateMock);
+		given(restTemplateMock.exchange(eq("testProxy"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Void.class)))
+			.willThrow(new HttpClientErrorException(HttpStatus.UNAUTHORIZED))
+			.willReturn(null);
+
+		WavefrontConsumerProperties.Batch batch = new WavefrontConsumerProperties.Batch();
+		batch.setFlushInterval(Duration.ofMillis(100));
+		batch.setSpillDirectory(this.spillDirectory.toFile());
+		BatchingWavefrontService service = new BatchingWavefrontService(restTemplateBuilderMock, "testProxy", null,
+				batch);
+
+		await().atMost(Duration.ofSeconds(10))
+			.untilAsserted(() -> assertThat(this.spillDirectory.toFile().list())
+				.containsExactly("wavefront-batch-0000000000000000001.gz.rejected"));
+
+		verify(restTemplateMock, times(2)).exchange(eq("testProxy"), eq(HttpMethod.POST), any(HttpEntity.class),
+				eq(Void.class));
+
+		service.destroy();
+	}
+
+	private static String gunzip(byte[] bytes) throws IOException {
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+			return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Broadcasts payloads to all the connected WebSocket clients, or routes them only to
+ * clients subscribed to a topic.
+ * <p>
+ * A payload is encoded into a single {@link ByteBuf} once and every client is written
+ * a retained duplicate of the frame, so the content is shared instead of copied per
+ * client. The {@code byte[]} and {@link ByteBuffer} payloads are sent as
+ * {@link BinaryWebSocketFrame}s, anything else as a {@link TextWebSocketFrame} of its
+ * {@code toString()}. Flushes are coalesced: a client is flushed once on its event loop
+ * for all the frames written to it in the meantime.
+ * <p>
+ * A client whose outbound buffer is above the write buffer high water mark is not
+ * written to, but rather its frames are dropped or the client is disconnected according
+ * to the {@link SlowClientPolicy}. The pending outbound bytes and dropped frames are
+ * exposed per client as {@code websocket.consumer.client.backlog} and
+ * {@code websocket.consumer.client.dropped} meters when a {@link MeterRegistry} is
+ * provided.
+ * <p>
+ * The topic subscriptions are kept in a concurrent index of topics to client channels,
+ * so routing a message costs a lookup of its topic instead of a scan of all clients. A
+ * closed channel is removed from all its topics.
+ *
+ * @since 6.0.1
+ */
+public class WebsocketConsumerBroadcaster {
+
+	private static final Log LOGGER = LogFactory.getLog(WebsocketConsumerBroadcaster.class);
+
+	private static final AttributeKey<Client> CLIENT = AttributeKey.valueOf(Client.class, "client");
+
+	private final ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+
+	private final ConcurrentMap<String, Set<Channel>> subscriptions = new ConcurrentHashMap<>();
+
+	private final SlowClientPolicy slowClientPolicy;
+
+	private final @Nullable MeterRegistry meterRegistry;
+
+	public WebsocketConsumerBroadcaster(SlowClientPolicy slowClientPolicy, @Nullable MeterRegistry meterRegistry) {
+		this.slowClientPolicy = slowClientPolicy;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Register a client channel on the WebSocket handshake. The channel is removed
+	 * automatically when closed.
+	 * @param channel the client channel.
+	 */
+	public void register(Channel channel) {
+		Client client = new Client(channel);
+		channel.attr(CLIENT).set(client);
+		this.channels.add(channel);
+		channel.closeFuture().addListener((future) -> {
+			client.topics.forEach((topic) -> unsubscribe(channel, topic));
+			client.removeMeters();
+		});
+	}
+
+	/**
+	 * Subscribe a registered client channel to the topic.
+	 * @param channel the client channel.
+	 * @param topic the topic to receive messages for.
+	 */
+	public void subscribe(Channel channel, String topic) {
+		Client client = channel.attr(CLIENT).get();
+		if (client != null && channel.isActive() && client.topics.add(topic)) {
+			this.subscriptions.compute(topic, (key, subscribers) -> {
+				Set<Channel> channels = (subscribers != null) ? subscribers : ConcurrentHashMap.newKeySet();
+				channels.add(channel);
+				return channels;
+			});
+		}
+	}
+
+	/**
+	 * Unsubscribe a client channel from the topic.
+	 * @param channel the client channel.
+	 * @param topic the topic to not receive messages for anymore.
+	 */
+	public void unsubscribe(Channel channel, String topic) {
+		Client client = channel.attr(CLIENT).get();
+		if (client != null) {
+			client.topics.remove(topic);
+		}
+		this.subscriptions.computeIfPresent(topic, (key, subscribers) -> {
+			subscribers.remove(channel);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+	}
+
+	/**
+	 * Return the number of connected clients.
+	 * @return the number of connected clients.
+	 */
+	public int getClientCount() {
+		return this.channels.size();
+	}
+
+	/**
+	 * Send the payload to all the connected clients.
+	 * @param payload the payload to send.
+	 */
+	public void broadcast(Object payload) {
+		send(payload, this.channels);
+	}
+
+	/**
+	 * Send the payload to the clients subscribed to the topic.
+	 * @param payload the payload to send.
+	 * @param topic the topic of the payload.
+	 */
+	public void send(Object payload, String topic) {
+		Set<Channel> subscribers = this.subscriptions.get(topic);
+		if (subscribers != null) {
+			send(payload, subscribers);
+		}
+	}
+
+	private void send(Object payload, Set<Channel> channels) {
+		if (channels.isEmpty()) {
+			return;
+		}
+		WebSocketFrame frame = encode(payload);
+		try {
+			for (Channel channel : channels) {
+				Client client = channel.attr(CLIENT).get();
+				if (client != null && client.accept()) {
+					channel.write(frame.retainedDuplicate(), channel.voidPromise());
+					client.scheduleFlush();
+				}
+			}
+		}
+		finally {
+			frame.release();
+		}
+	}
+
+	private static WebSocketFrame encode(Object payload) {
+		if (payload instanceof byte[] bytes) {
+			return new BinaryWebSocketFrame(Unpooled.wrappedBuffer(bytes));
+		}
+		if (payload instanceof ByteBuffer byteBuffer) {
+			return new BinaryWebSocketFrame(Unpooled.wrappedBuffer(byteBuffer));
+		}
+		return new TextWebSocketFrame(ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, payload.toString()));
+	}
+
+	private static double pendingBytes(Channel channel) {
+		ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+		return (outboundBuffer != null) ? outboundBuffer.totalPendingWriteBytes() : 0;
+	}
+
+	/**
+	 * What to do with a client which does not keep up with the broadcast rate.
+	 */
+	public enum SlowClientPolicy {
+
+		/**
+		 * Drop frames for the client until its outbound buffer drains below the write
+		 * buffer low water mark.
+		 */
+		DROP,
+
+		/**
+		 * Close the client connection.
+		 */
+		DISCONNECT
+
+	}
+
+	/**
+	 * The per-client broadcast state.
+	 */
+	private final class Client {
+
+		private final Channel channel;
+
+		private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+		private final Set<String> topics = ConcurrentHashMap.newKeySet();
+
+		private final @Nullable Gauge backlog;
+
+		private final @Nullable Counter dropped;
+
+		Client(Channel channel) {
+			this.channel = channel;
+			MeterRegistry registry = WebsocketConsumerBroadcaster.this.meterRegistry;
+			if (registry != null) {
+				String clientId = channel.id().asShortText();
+				this.backlog = Gauge
+					.builder("websocket.consumer.client.backlog", channel, WebsocketConsumerBroadcaster::pendingBytes)
+					.tag("client", clientId)
+					.baseUnit("bytes")
+					.description("The bytes pending in the client outbound buffer")
+					.register(registry);
+				this.dropped = Counter.builder("websocket.consumer.client.dropped")
+					.tag("client", clientId)
+					.description("The frames dropped for a slow client")
+					.register(registry);
+			}
+			else {
+				this.backlog = null;
+				this.dropped = null;
+			}
+		}
+
+		boolean accept() {
+			if (this.channel.isWritable()) {
+				return true;
+			}
+			if (WebsocketConsumerBroadcaster.this.slowClientPolicy == SlowClientPolicy.DISCONNECT) {
+				LOGGER.warn("Disconnecting slow client " + this.channel.remoteAddress());
+				this.channel.close();
+			}
+			else if (this.dropped != null) {
+				this.dropped.increment();
+			}
+			return false;
+		}
+
+		void scheduleFlush() {
+			if (this.flushScheduled.compareAndSet(false, true)) {
+				this.channel.eventLoop().execute(() -> {
+					this.flushScheduled.set(false);
+					this.channel.flush();
+				});
+			}
+		}
+
+		void removeMeters() {
+			MeterRegistry registry = WebsocketConsumerBroadcaster.this.meterRegistry;
+			if (registry != null) {
+				if (this.backlog != null) {
+					registry.remove(this.backlog);
+				}
+				if (this.dropped != null) {
+					registry.remove(this.dropped);
+				}
+			}
+		}
+
+	}
+
+}
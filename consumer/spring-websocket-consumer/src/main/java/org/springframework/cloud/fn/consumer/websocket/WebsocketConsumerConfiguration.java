@@ -16,16 +16,15 @@
 
 package org.springframework.cloud.fn.consumer.websocket;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.function.Consumer;
 
-import io.netty.channel.Channel;
-import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -35,6 +34,9 @@ import org.springframework.cloud.fn.consumer.websocket.actuator.WebsocketConsume
 import org.springframework.cloud.fn.consumer.websocket.trace.InMemoryTraceRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
@@ -71,45 +73,53 @@ public class WebsocketConsumerConfiguration {
 	}
 
 	@Bean
-	public Consumer<Message<?>> websocketConsumer(InMemoryTraceRepository websocketTraceRepository) {
+	public Consumer<Message<?>> websocketConsumer(WebsocketConsumerProperties properties,
+			InMemoryTraceRepository websocketTraceRepository,
+			WebsocketConsumerBroadcaster websocketConsumerBroadcaster, BeanFactory beanFactory) {
+
+		Expression topicExpression = properties.getTopicExpression();
+		EvaluationContext evaluationContext = IntegrationContextUtils.getEvaluationContext(beanFactory);
 		return (message) -> {
 			if (logger.isTraceEnabled()) {
-				logger.trace("Handling message: " + message);
+				logger.trace(String.format("Writing message %s to %d channels", message,
+						websocketConsumerBroadcaster.getClientCount()));
 			}
 			SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(message);
 			headers.setMessageTypeIfNotSet(SimpMessageType.MESSAGE);
-			String messagePayload = message.getPayload().toString();
-			for (Channel channel : WebsocketConsumerServer.CHANNELS) {
-				if (logger.isTraceEnabled()) {
-					logger.trace(
-							String.format("Writing message %s to channel %s", messagePayload, channel.localAddress()));
-				}
-
-				channel.write(new TextWebSocketFrame(messagePayload));
-				channel.flush();
+			String topic = (topicExpression != null)
+					? topicExpression.getValue(evaluationContext, message, String.class) : null;
+			if (topic != null) {
+				websocketConsumerBroadcaster.send(message.getPayload(), topic);
+			}
+			else {
+				websocketConsumerBroadcaster.broadcast(message.getPayload());
 			}
 
 			if (this.traceEndpointEnabled) {
-				addMessageToTraceRepository(websocketTraceRepository, message);
+				Object payload = message.getPayload();
+				websocketTraceRepository.add((payload instanceof byte[]) ? "binary" : "text", "out",
+						message.getHeaders().getId(), payload);
 			}
 		};
 	}
 
-	private void addMessageToTraceRepository(InMemoryTraceRepository websocketTraceRepository, Message<?> message) {
-		Map<String, Object> trace = new LinkedHashMap<>();
-		trace.put("type", "text");
-		trace.put("direction", "out");
-		trace.put("id", message.getHeaders().getId());
-		trace.put("payload", message.getPayload().toString());
-		websocketTraceRepository.add(trace);
-	}
-
 	@Configuration(proxyBeanMethods = false)
 	static class WebsocketConsumerServerConfiguration {
 
 		@Bean
-		InMemoryTraceRepository websocketTraceRepository() {
-			return new InMemoryTraceRepository();
+		InMemoryTraceRepository websocketTraceRepository(WebsocketConsumerProperties properties) {
+			InMemoryTraceRepository traceRepository = new InMemoryTraceRepository();
+			traceRepository.setCapacity(properties.getTraceCapacity());
+			traceRepository.setSampleRate(properties.getTraceSampleRate());
+			traceRepository.setMaxPayloadLength(properties.getTraceMaxPayloadLength());
+			return traceRepository;
+		}
+
+		@Bean
+		WebsocketConsumerBroadcaster websocketConsumerBroadcaster(WebsocketConsumerProperties properties,
+				ObjectProvider<MeterRegistry> meterRegistry) {
+
+			return new WebsocketConsumerBroadcaster(properties.getSlowClientPolicy(), meterRegistry.getIfUnique());
 		}
 
 		@Bean
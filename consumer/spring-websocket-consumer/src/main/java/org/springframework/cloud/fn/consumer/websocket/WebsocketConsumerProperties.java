@@ -17,8 +17,10 @@
 package org.springframework.cloud.fn.consumer.websocket;
 
 import io.netty.handler.logging.LogLevel;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.expression.Expression;
 
 /**
  * Configuration properties for WebSocket consumer.
@@ -76,6 +78,49 @@ public class WebsocketConsumerProperties {
 	 */
 	String path = DEFAULT_PATH;
 
+	/**
+	 * The number of pending outbound bytes of a client above which it is considered
+	 * slow. Default is <tt>65536</tt>
+	 */
+	int writeBufferHighWaterMark = 64 * 1024;
+
+	/**
+	 * The number of pending outbound bytes of a slow client below which it is written to
+	 * again. Default is <tt>32768</tt>
+	 */
+	int writeBufferLowWaterMark = 32 * 1024;
+
+	/**
+	 * What to do with a client whose pending outbound bytes are above the
+	 * <code>writeBufferHighWaterMark</code>: drop its messages, or disconnect it. Default
+	 * is <tt>DROP</tt>
+	 */
+	WebsocketConsumerBroadcaster.SlowClientPolicy slowClientPolicy = WebsocketConsumerBroadcaster.SlowClientPolicy.DROP;
+
+	/**
+	 * A SpEL expression against the message to evaluate the topic it is sent to, e.g.
+	 * <code>headers['topic']</code>. When set, a message is sent only to clients
+	 * subscribed to its topic, and a message without a topic is sent to all clients.
+	 * Default is to send all messages to all clients.
+	 */
+	@Nullable Expression topicExpression;
+
+	/**
+	 * The number of last traces kept for the trace endpoint. Default is <tt>100</tt>
+	 */
+	int traceCapacity = 100;
+
+	/**
+	 * Trace only one of every <code>traceSampleRate</code> messages. Default is
+	 * <tt>1</tt>, every message
+	 */
+	int traceSampleRate = 1;
+
+	/**
+	 * The max number of payload characters kept in a trace. Default is <tt>1024</tt>
+	 */
+	int traceMaxPayloadLength = 1024;
+
 	public boolean isSsl() {
 		return this.ssl;
 	}
@@ -116,4 +161,60 @@ public class WebsocketConsumerProperties {
 		this.path = path;
 	}
 
+	public int getWriteBufferHighWaterMark() {
+		return this.writeBufferHighWaterMark;
+	}
+
+	public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+		this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+	}
+
+	public int getWriteBufferLowWaterMark() {
+		return this.writeBufferLowWaterMark;
+	}
+
+	public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+		this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+	}
+
+	public @Nullable Expression getTopicExpression() {
+		return this.topicExpression;
+	}
+
+	public void setTopicExpression(@Nullable Expression topicExpression) {
+		this.topicExpression = topicExpression;
+	}
+
+	public int getTraceCapacity() {
+		return this.traceCapacity;
+	}
+
+	public void setTraceCapacity(int traceCapacity) {
+		this.traceCapacity = traceCapacity;
+	}
+
+	public int getTraceSampleRate() {
+		return this.traceSampleRate;
+	}
+
+	public void setTraceSampleRate(int traceSampleRate) {
+		this.traceSampleRate = traceSampleRate;
+	}
+
+	public int getTraceMaxPayloadLength() {
+		return this.traceMaxPayloadLength;
+	}
+
+	public void setTraceMaxPayloadLength(int traceMaxPayloadLength) {
+		this.traceMaxPayloadLength = traceMaxPayloadLength;
+	}
+
+	public WebsocketConsumerBroadcaster.SlowClientPolicy getSlowClientPolicy() {
+		return this.slowClientPolicy;
+	}
+
+	public void setSlowClientPolicy(WebsocketConsumerBroadcaster.SlowClientPolicy slowClientPolicy) {
+		this.slowClientPolicy = slowClientPolicy;
+	}
+
 }
@@ -16,13 +16,11 @@
 
 package org.springframework.cloud.fn.consumer.websocket;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
@@ -46,8 +44,6 @@ public class WebsocketConsumerServer {
 
 	private static final Log LOGGER = LogFactory.getLog(WebsocketConsumerServer.class);
 
-	static final List<Channel> CHANNELS = new CopyOnWriteArrayList<>();
-
 	private final WebsocketConsumerProperties properties;
 
 	private final WebsocketConsumerServerInitializer initializer;
@@ -87,6 +83,9 @@ public class WebsocketConsumerServer {
 			.channel(NioServerSocketChannel.class)
 			.handler(new LoggingHandler(nettyLogLevel()))
 			.childHandler(this.initializer)
+			.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+					new WriteBufferWaterMark(this.properties.getWriteBufferLowWaterMark(),
+							this.properties.getWriteBufferHighWaterMark()))
 			.bind(this.properties.getPort())
 			.sync()
 			.channel();
@@ -16,9 +16,6 @@
 
 package org.springframework.cloud.fn.consumer.websocket;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
@@ -33,6 +30,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
@@ -43,6 +41,7 @@ import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
 import io.netty.util.CharsetUtil;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.cloud.fn.consumer.websocket.trace.InMemoryTraceRepository;
 
@@ -57,6 +56,18 @@ import org.springframework.cloud.fn.consumer.websocket.trace.InMemoryTraceReposi
  */
 public class WebsocketConsumerServerHandler extends SimpleChannelInboundHandler<Object> {
 
+	/**
+	 * The prefix of a text frame to subscribe the client to the topic in the rest of the
+	 * frame.
+	 */
+	public static final String SUBSCRIBE_PREFIX = "subscribe:";
+
+	/**
+	 * The prefix of a text frame to unsubscribe the client from the topic in the rest of
+	 * the frame.
+	 */
+	public static final String UNSUBSCRIBE_PREFIX = "unsubscribe:";
+
 	private static final Log LOGGER = LogFactory.getLog(WebsocketConsumerServerHandler.class);
 
 	private final boolean traceEnabled;
@@ -65,13 +76,16 @@ public class WebsocketConsumerServerHandler extends SimpleChannelInboundHandler<
 
 	private final WebsocketConsumerProperties properties;
 
+	private final WebsocketConsumerBroadcaster broadcaster;
+
 	private WebSocketServerHandshaker handshaker;
 
 	public WebsocketConsumerServerHandler(InMemoryTraceRepository websocketTraceRepository,
-			WebsocketConsumerProperties properties, boolean traceEnabled) {
+			WebsocketConsumerProperties properties, WebsocketConsumerBroadcaster broadcaster, boolean traceEnabled) {
 
 		this.websocketTraceRepository = websocketTraceRepository;
 		this.properties = properties;
+		this.broadcaster = broadcaster;
 		this.traceEnabled = traceEnabled;
 	}
 
@@ -120,8 +134,16 @@ public class WebsocketConsumerServerHandler extends SimpleChannelInboundHandler<
 			WebSocketServerHandshakerFactory.sendUnsupportedVersionResponse(ctx.channel());
 		}
 		else {
-			WebsocketConsumerServer.CHANNELS.add(ctx.channel());
-			this.handshaker.handshake(ctx.channel(), req);
+			String pathTopic = pathTopic(req);
+			// Register the client only when the pipeline has been switched to WebSocket frames
+			this.handshaker.handshake(ctx.channel(), req).addListener((ChannelFutureListener) (future) -> {
+				if (future.isSuccess()) {
+					this.broadcaster.register(future.channel());
+					if (pathTopic != null) {
+						this.broadcaster.subscribe(future.channel(), pathTopic);
+					}
+				}
+			});
 		}
 	}
 
@@ -147,32 +169,48 @@ public class WebsocketConsumerServerHandler extends SimpleChannelInboundHandler<
 		handleTextWebSocketFrameInternal((TextWebSocketFrame) frame, ctx);
 	}
 
+	/**
+	 * Resolve the topic of the path segment after the
+	 * {@link WebsocketConsumerProperties#getPath()}, e.g. {@code /websocket/orders}.
+	 */
+	private @Nullable String pathTopic(FullHttpRequest req) {
+		String path = new QueryStringDecoder(req.uri()).path();
+		String prefix = this.properties.getPath() + "/";
+		if (path.startsWith(prefix) && path.length() > prefix.length()) {
+			return path.substring(prefix.length());
+		}
+		return null;
+	}
+
 	private boolean additionalHttpRequestHandler(ChannelHandlerContext ctx, FullHttpRequest req) {
 		// implement other HTTP request logic
 		return true; // continue processing
 	}
 
-	// simple echo implementation
+	// subscriptions, or simple echo implementation
 	private void handleTextWebSocketFrameInternal(TextWebSocketFrame frame, ChannelHandlerContext ctx) {
 		if (LOGGER.isTraceEnabled()) {
 			LOGGER.trace(String.format("%s received %s", ctx.channel(), frame.text()));
 		}
 
 		addTraceForFrame(frame, "text");
-		ctx.channel().write(new TextWebSocketFrame("Echo: " + frame.text()));
+		String text = frame.text();
+		if (text.startsWith(SUBSCRIBE_PREFIX)) {
+			this.broadcaster.subscribe(ctx.channel(), text.substring(SUBSCRIBE_PREFIX.length()).trim());
+		}
+		else if (text.startsWith(UNSUBSCRIBE_PREFIX)) {
+			this.broadcaster.unsubscribe(ctx.channel(), text.substring(UNSUBSCRIBE_PREFIX.length()).trim());
+		}
+		else {
+			ctx.channel().write(new TextWebSocketFrame("Echo: " + text));
+		}
 	}
 
 	// add trace information for received frame
 	private void addTraceForFrame(WebSocketFrame frame, String type) {
-		Map<String, Object> trace = new LinkedHashMap<>();
-		trace.put("type", type);
-		trace.put("direction", "in");
-		if (frame instanceof TextWebSocketFrame) {
-			trace.put("payload", ((TextWebSocketFrame) frame).text());
-		}
-
 		if (this.traceEnabled) {
-			this.websocketTraceRepository.add(trace);
+			String payload = (frame instanceof TextWebSocketFrame textFrame) ? textFrame.text() : null;
+			this.websocketTraceRepository.add(type, "in", null, payload);
 		}
 	}
 
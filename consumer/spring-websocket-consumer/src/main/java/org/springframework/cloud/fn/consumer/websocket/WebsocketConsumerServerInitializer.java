@@ -55,6 +55,9 @@ public class WebsocketConsumerServerInitializer extends ChannelInitializer<Socke
 	@Autowired
 	private WebsocketConsumerProperties properties;
 
+	@Autowired
+	private WebsocketConsumerBroadcaster broadcaster;
+
 	@Value("${endpoints.websocketsinktrace.enabled:false}")
 	private boolean traceEnabled;
 
@@ -73,7 +76,8 @@ public class WebsocketConsumerServerInitializer extends ChannelInitializer<Socke
 
 		pipeline.addLast(new HttpServerCodec());
 		pipeline.addLast(new HttpObjectAggregator(MAX_CONTENT_LENGTH));
-		pipeline.addLast(new WebsocketConsumerServerHandler(this.traceRepository, this.properties, this.traceEnabled));
+		pipeline.addLast(new WebsocketConsumerServerHandler(this.traceRepository, this.properties, this.broadcaster,
+				this.traceEnabled));
 	}
 
 	private SslContext configureSslContext() throws Exception {
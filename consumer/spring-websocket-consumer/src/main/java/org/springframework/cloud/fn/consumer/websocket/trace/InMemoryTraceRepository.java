@@ -16,19 +16,32 @@
 
 package org.springframework.cloud.fn.consumer.websocket.trace;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
 
 /**
  * A repository for {@link Trace}s.
  * <p>
  * It is a copy of {@code InMemoryTraceRepository} from Spring Boot 1.5.x. Since Spring
  * Boot 2.0 traces are only available for HTTP.
+ * <p>
+ * The traces are kept in a fixed-capacity ring buffer: writers claim a slot with an
+ * atomic sequence and publish an immutable entry into it, so they never block each other
+ * or the readers, and the oldest traces are overwritten. Only one of every {@link #setSampleRate(int)}
+ * traces is recorded, and payloads are truncated to {@link #setMaxPayloadLength(int)}
+ * characters, or to that many bytes of a {@code byte[]} payload without splitting a UTF-8
+ * encoded character.
  *
  * @author Dave Syer
  * @author Olivier Bourgain
@@ -38,13 +51,17 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class InMemoryTraceRepository {
 
-	private int capacity = 100;
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final AtomicLong sampleCounter = new AtomicLong();
+
+	private volatile AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(100);
 
 	private boolean reverse = true;
 
-	private final List<Trace> traces = new LinkedList<>();
+	private int sampleRate = 1;
 
-	private final Lock tracesLock = new ReentrantLock();
+	private int maxPayloadLength = Integer.MAX_VALUE;
 
 	/**
 	 * Flag to say that the repository lists traces in reverse order.
@@ -55,34 +72,125 @@ public class InMemoryTraceRepository {
 	}
 
 	/**
-	 * Set the capacity of the in-memory repository.
+	 * Set the capacity of the in-memory repository. Existing traces are discarded.
 	 * @param capacity the capacity
 	 */
 	public void setCapacity(int capacity) {
-		this.capacity = capacity;
+		Assert.isTrue(capacity > 0, "'capacity' must be greater than 0");
+		this.entries = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Record only one of every {@code sampleRate} traces.
+	 * @param sampleRate the sample rate (default 1, every trace)
+	 * @since 6.0.1
+	 */
+	public void setSampleRate(int sampleRate) {
+		Assert.isTrue(sampleRate > 0, "'sampleRate' must be greater than 0");
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Truncate the trace payloads to the number of characters.
+	 * @param maxPayloadLength the max payload length (default unlimited)
+	 * @since 6.0.1
+	 */
+	public void setMaxPayloadLength(int maxPayloadLength) {
+		Assert.isTrue(maxPayloadLength >= 0, "'maxPayloadLength' must not be negative");
+		this.maxPayloadLength = maxPayloadLength;
 	}
 
 	public List<Trace> findAll() {
-		return Collections.unmodifiableList(this.traces);
+		AtomicReferenceArray<Entry> entries = this.entries;
+		int capacity = entries.length();
+		long last = this.sequence.get() - 1;
+		long first = Math.max(0, last - capacity + 1);
+		List<Trace> traces = new ArrayList<>((int) (last - first + 1));
+		for (long index = last; index >= first; index--) {
+			Entry entry = entries.get((int) (index % capacity));
+			if (entry != null && entry.sequence() == index) {
+				traces.add(entry.trace());
+			}
+		}
+		if (!this.reverse) {
+			Collections.reverse(traces);
+		}
+		return Collections.unmodifiableList(traces);
 	}
 
 	public void add(Map<String, Object> map) {
-		Trace trace = new Trace(new Date(), map);
-		this.tracesLock.lock();
-		try {
-			while (this.traces.size() >= this.capacity) {
-				this.traces.remove(this.reverse ? this.capacity - 1 : 0);
+		if (isSampled()) {
+			write(new Trace(new Date(), map));
+		}
+	}
+
+	/**
+	 * Record a trace for a WebSocket message without building its map unless sampled.
+	 * @param type the message type, e.g. {@code text}
+	 * @param direction the message direction, {@code in} or {@code out}
+	 * @param id the optional message id
+	 * @param payload the optional message payload
+	 * @since 6.0.1
+	 */
+	public void add(String type, String direction, @Nullable Object id, @Nullable Object payload) {
+		if (isSampled()) {
+			Map<String, Object> info = new LinkedHashMap<>();
+			info.put("type", type);
+			info.put("direction", direction);
+			if (id != null) {
+				info.put("id", id);
 			}
-			if (this.reverse) {
-				this.traces.add(0, trace);
+			if (payload != null) {
+				info.put("payload", truncate(payload));
 			}
-			else {
-				this.traces.add(trace);
+			write(new Trace(new Date(), Collections.unmodifiableMap(info)));
+		}
+	}
+
+	private boolean isSampled() {
+		return this.sampleRate == 1 || this.sampleCounter.getAndIncrement() % this.sampleRate == 0;
+	}
+
+	private void write(Trace trace) {
+		AtomicReferenceArray<Entry> entries = this.entries;
+		long index = this.sequence.getAndIncrement();
+		int slot = (int) (index % entries.length());
+		Entry entry = new Entry(index, trace);
+		// A writer which lapped the ring must not overwrite a newer trace in the same slot
+		entries.accumulateAndGet(slot, entry,
+				(current, next) -> (current == null || current.sequence() < next.sequence()) ? next : current);
+	}
+
+	private String truncate(Object payload) {
+		int maxLength = this.maxPayloadLength;
+		if (payload instanceof byte[] bytes) {
+			int length = bytes.length;
+			if (length > maxLength) {
+				length = maxLength;
+				// Back off the continuation bytes of a character cut by the limit
+				while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+					length--;
+				}
 			}
+			return new String(bytes, 0, length, StandardCharsets.UTF_8);
 		}
-		finally {
-			this.tracesLock.unlock();
+		String text = payload.toString();
+		if (text.length() <= maxLength) {
+			return text;
 		}
+		int length = maxLength;
+		if (length > 0 && Character.isHighSurrogate(text.charAt(length - 1))) {
+			length--;
+		}
+		return text.substring(0, length);
+	}
+
+	/**
+	 * An immutable trace published into a ring slot together with its sequence, so a
+	 * reader can tell it from a trace of an earlier or later lap.
+	 */
+	private record Entry(long sequence, Trace trace) {
+
 	}
 
 }
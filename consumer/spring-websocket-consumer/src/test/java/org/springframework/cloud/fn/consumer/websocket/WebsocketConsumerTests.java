@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.fn.consumer.websocket;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -119,6 +120,19 @@ public class WebsocketConsumerTests {
 		}
 	}
 
+	@Test
+	public void testBinaryMessageMultipleSubscribers() throws Exception {
+		List<WebsocketConsumerClientHandler> handlers = createHandlerList(CLIENT_COUNT, 1);
+
+		String payload = UUID.randomUUID().toString();
+		websocketConsumer.accept(MessageBuilder.withPayload(payload.getBytes(StandardCharsets.UTF_8)).build());
+
+		for (WebsocketConsumerClientHandler handler : handlers) {
+			assertThat(handler.await()).isTrue();
+			assertThat(handler.getReceivedMessages()).containsExactly(payload);
+		}
+	}
+
 	private WebSocketSession doHandshake(WebsocketConsumerClientHandler handler)
 			throws InterruptedException, ExecutionException {
 		String wsEndpoint = "ws://localhost:" + this.consumerServer.getPort() + this.properties.getPath();
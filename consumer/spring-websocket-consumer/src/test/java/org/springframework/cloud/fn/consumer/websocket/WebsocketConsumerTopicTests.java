@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.websocket;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.fn.test.support.websocket.WebsocketConsumerClientHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = { "websocket.consumer.port=0", "websocket.consumer.topic-expression=headers['topic']" })
+@DirtiesContext
+public class WebsocketConsumerTopicTests {
+
+	@Autowired
+	private WebsocketConsumerProperties properties;
+
+	@Autowired
+	private WebsocketConsumerServer consumerServer;
+
+	@Autowired
+	Consumer<Message<?>> websocketConsumer;
+
+	@Test
+	public void messagesAreRoutedToPathTopicSubscribers() throws Exception {
+		WebsocketConsumerClientHandler ordersHandler = new WebsocketConsumerClientHandler("orders", 2, 10000);
+		WebsocketConsumerClientHandler paymentsHandler = new WebsocketConsumerClientHandler("payments", 2, 10000);
+		String wsEndpoint = "ws://localhost:" + this.consumerServer.getPort() + this.properties.getPath();
+		StandardWebSocketClient client = new StandardWebSocketClient();
+		client.execute(ordersHandler, wsEndpoint + "/orders").get();
+		client.execute(paymentsHandler, wsEndpoint + "/payments").get();
+
+		this.websocketConsumer.accept(MessageBuilder.withPayload("order_1").setHeader("topic", "orders").build());
+		this.websocketConsumer.accept(MessageBuilder.withPayload("payment_1").setHeader("topic", "payments").build());
+		this.websocketConsumer.accept(MessageBuilder.withPayload("to_all").build());
+
+		assertThat(ordersHandler.await()).isTrue();
+		assertThat(paymentsHandler.await()).isTrue();
+		assertThat(ordersHandler.getReceivedMessages()).containsExactly("order_1", "to_all");
+		assertThat(paymentsHandler.getReceivedMessages()).containsExactly("payment_1", "to_all");
+	}
+
+	@SpringBootApplication
+	public static class WebsocketConsumerTestApplication {
+
+	}
+
+}
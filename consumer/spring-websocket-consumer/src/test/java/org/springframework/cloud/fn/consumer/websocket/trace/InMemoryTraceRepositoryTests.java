@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.websocket.trace;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryTraceRepositoryTests {
+
+	@Test
+	public void oldestTracesAreOverwritten() {
+		InMemoryTraceRepository repository = new InMemoryTraceRepository();
+		repository.setCapacity(3);
+		for (int i = 0; i < 5; i++) {
+			repository.add("text", "out", null, "message_" + i);
+		}
+
+		assertThat(repository.findAll()).extracting((trace) -> trace.info().get("payload"))
+			.containsExactly("message_4", "message_3", "message_2");
+
+		repository.setReverse(false);
+
+		assertThat(repository.findAll()).extracting((trace) -> trace.info().get("payload"))
+			.containsExactly("message_2", "message_3", "message_4");
+	}
+
+	@Test
+	public void tracesAreSampledAndTruncated() {
+		InMemoryTraceRepository repository = new InMemoryTraceRepository();
+		repository.setSampleRate(10);
+		repository.setMaxPayloadLength(4);
+		for (int i = 0; i < 100; i++) {
+			repository.add("text", "out", i, "message_" + i);
+		}
+
+		List<Trace> traces = repository.findAll();
+		assertThat(traces).hasSize(10);
+		assertThat(traces).extracting((trace) -> trace.info().get("payload")).containsOnly("mess");
+		assertThat(traces).extracting((trace) -> trace.info().get("id")).containsExactly(90, 80, 70, 60, 50, 40, 30,
+				20, 10, 0);
+	}
+
+	@Test
+	public void byteArrayPayloadsAreNotTruncatedInsideCharacter() {
+		InMemoryTraceRepository repository = new InMemoryTraceRepository();
+		repository.setMaxPayloadLength(4);
+		repository.add("binary", "out", null, "ab\u00e9\u00e9".getBytes(StandardCharsets.UTF_8));
+		repository.add("binary", "out", null, "a\u00e9\u00e9".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(repository.findAll()).extracting((trace) -> trace.info().get("payload"))
+			.containsExactly("a\u00e9", "ab\u00e9");
+	}
+
+}
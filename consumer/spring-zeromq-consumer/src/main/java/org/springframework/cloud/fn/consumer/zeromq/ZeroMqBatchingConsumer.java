@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.zeromq;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZFrame;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMsg;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.mapping.OutboundMessageMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
+
+/**
+ * The ZeroMQ consumer which sends the messages in multipart ZeroMQ messages.
+ * <p>
+ * The messages are collected into batches of up to
+ * {@link ZeroMqConsumerProperties.Batch#getMaxSize()} messages, or for the
+ * {@link ZeroMqConsumerProperties.Batch#getMaxDelay()}. The messages of a batch with the
+ * same topic are sent as one multipart ZeroMQ message: the topic frame, an empty
+ * delimiter frame and a frame for every message. Without a topic, there is just a frame
+ * for every message.
+ * <p>
+ * All the sends are performed on a single thread, and up to
+ * {@link ZeroMqConsumerProperties#getConcurrency()} batches are waiting for it. The
+ * messages are counted in the {@code zeromq.consumer.messages} counter, with the
+ * {@code result} tag of {@code sent} or {@code dropped}. A message is dropped when the
+ * socket queue is full for the {@link ZeroMqConsumerProperties#getSendTimeout()}. Note,
+ * the {@code PUB} socket drops messages over the high-water mark silently.
+ *
+ * @since 6.0.1
+ */
+public class ZeroMqBatchingConsumer implements Function<Flux<Message<?>>, Mono<Void>>, DisposableBean {
+
+	private final ZContext context;
+
+	private final SocketType socketType;
+
+	private final String connectUrl;
+
+	private final Consumer<ZMQ.Socket> socketConfigurer;
+
+	private final OutboundMessageMapper<byte[]> messageMapper;
+
+	private final @Nullable Expression topicExpression;
+
+	private final EvaluationContext evaluationContext;
+
+	private final int maxSize;
+
+	private final Duration maxDelay;
+
+	private final int concurrency;
+
+	private final Scheduler scheduler = Schedulers.newSingle("zeromq-consumer-");
+
+	private final Counter sentCounter;
+
+	private final Counter droppedCounter;
+
+	/**
+	 * Accessed only on the {@link #scheduler} thread.
+	 */
+	private ZMQ.@Nullable Socket socket;
+
+	public ZeroMqBatchingConsumer(ZContext context, ZeroMqConsumerProperties properties,
+			Consumer<ZMQ.Socket> socketConfigurer, @Nullable OutboundMessageMapper<byte[]> messageMapper,
+			EvaluationContext evaluationContext, MeterRegistry meterRegistry) {
+
+		this.context = context;
+		this.socketType = properties.getSocketType();
+		this.connectUrl = properties.getConnectUrl();
+		this.socketConfigurer = socketConfigurer;
+		this.messageMapper = (messageMapper != null) ? messageMapper : ZeroMqBatchingConsumer::toBytes;
+		this.topicExpression = properties.getTopic();
+		this.evaluationContext = evaluationContext;
+		this.maxSize = properties.getBatch().getMaxSize();
+		this.maxDelay = properties.getBatch().getMaxDelay();
+		this.concurrency = properties.getConcurrency();
+		this.sentCounter = messagesCounter(meterRegistry, "sent");
+		this.droppedCounter = messagesCounter(meterRegistry, "dropped");
+	}
+
+	private static Counter messagesCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("zeromq.consumer.messages")
+			.description("The number of messages sent to ZeroMQ")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<Void> apply(Flux<Message<?>> input) {
+		return input.bufferTimeout(this.maxSize, this.maxDelay, true)
+			.publishOn(this.scheduler, this.concurrency)
+			.doOnNext(this::send)
+			.then();
+	}
+
+	private void send(List<Message<?>> messages) {
+		ZMQ.Socket socket = obtainSocket();
+		// The multipart messages are sent in the order of the first message for their topic
+		Map<@Nullable String, ZMsg> multiparts = new LinkedHashMap<>();
+		for (Message<?> message : messages) {
+			String topic = (this.topicExpression != null)
+					? this.topicExpression.getValue(this.evaluationContext, message, String.class) : null;
+			multiparts.computeIfAbsent(topic, (key) -> new ZMsg()).add(toFrame(message));
+		}
+		multiparts.forEach((topic, multipart) -> {
+			int size = multipart.size();
+			if (topic != null) {
+				multipart.wrap(new ZFrame(topic));
+			}
+			if (multipart.send(socket)) {
+				this.sentCounter.increment(size);
+			}
+			else {
+				this.droppedCounter.increment(size);
+			}
+		});
+	}
+
+	private byte[] toFrame(Message<?> message) {
+		try {
+			return this.messageMapper.fromMessage(message);
+		}
+		catch (Exception ex) {
+			throw new MessageHandlingException(message, "Cannot convert the message to a ZeroMQ frame", ex);
+		}
+	}
+
+	private ZMQ.Socket obtainSocket() {
+		ZMQ.Socket socket = this.socket;
+		if (socket == null) {
+			socket = this.context.createSocket(this.socketType);
+			this.socketConfigurer.accept(socket);
+			socket.connect(this.connectUrl);
+			this.socket = socket;
+		}
+		return socket;
+	}
+
+	private static byte[] toBytes(Message<?> message) {
+		Object payload = message.getPayload();
+		if (payload instanceof byte[] bytes) {
+			return bytes;
+		}
+		else if (payload instanceof String string) {
+			return string.getBytes(ZMQ.CHARSET);
+		}
+		throw new IllegalArgumentException(
+				"Only 'byte[]' and 'String' payloads are supported without an 'OutboundMessageMapper<byte[]>' bean, "
+						+ "but received: " + message);
+	}
+
+	@Override
+	public void destroy() {
+		Mono.fromRunnable(() -> {
+			if (this.socket != null) {
+				this.socket.close();
+				this.socket = null;
+			}
+		}).subscribeOn(this.scheduler).block(Duration.ofSeconds(10));
+		this.scheduler.dispose();
+	}
+
+}
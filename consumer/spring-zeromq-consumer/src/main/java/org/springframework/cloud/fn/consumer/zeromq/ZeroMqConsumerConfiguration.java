@@ -19,17 +19,24 @@ package org.springframework.cloud.fn.consumer.zeromq;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.jspecify.annotations.Nullable;
 import org.zeromq.ZContext;
 import org.zeromq.ZMQ;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.integration.JavaUtils;
+import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.mapping.OutboundMessageMapper;
 import org.springframework.integration.zeromq.outbound.ZeroMqMessageHandler;
 import org.springframework.messaging.Message;
@@ -57,20 +64,46 @@ public class ZeroMqConsumerConfiguration {
 		ZeroMqMessageHandler zeroMqMessageHandler = new ZeroMqMessageHandler(zContext, properties.getConnectUrl(),
 				properties.getSocketType());
 
+		zeroMqMessageHandler.setSocketConfigurer(socketConfigurer(properties, socketConfigurer));
 		JavaUtils.INSTANCE.acceptIfNotNull(properties.getTopic(), zeroMqMessageHandler::setTopicExpression)
-			.acceptIfNotNull(socketConfigurer, zeroMqMessageHandler::setSocketConfigurer)
 			.acceptIfNotNull(messageMapper, zeroMqMessageHandler::setMessageMapper);
 
 		return zeroMqMessageHandler;
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "zeromq.consumer.batch", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Function<Flux<Message<?>>, Mono<Void>> zeromqConsumer(
-			@Qualifier("zeromqMessageHandler") ZeroMqMessageHandler zeromqMessageHandler) {
+			@Qualifier("zeromqMessageHandler") ZeroMqMessageHandler zeromqMessageHandler,
+			ZeroMqConsumerProperties properties) {
 
 		return (input) -> input.doOnSubscribe((sub) -> zeromqMessageHandler.start())
-			.flatMap(zeromqMessageHandler::handleMessage)
+			.flatMap(zeromqMessageHandler::handleMessage, properties.getConcurrency())
 			.ignoreElements();
 	}
 
+	@Bean(name = "zeromqConsumer")
+	@ConditionalOnProperty(prefix = "zeromq.consumer.batch", name = "enabled")
+	public ZeroMqBatchingConsumer batchingZeromqConsumer(ZeroMqConsumerProperties properties, ZContext zContext,
+			@Autowired(required = false) Consumer<ZMQ.Socket> socketConfigurer,
+			@Autowired(required = false) OutboundMessageMapper<byte[]> messageMapper, BeanFactory beanFactory,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return new ZeroMqBatchingConsumer(zContext, properties, socketConfigurer(properties, socketConfigurer),
+				messageMapper, IntegrationContextUtils.getEvaluationContext(beanFactory),
+				meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
+	private static Consumer<ZMQ.Socket> socketConfigurer(ZeroMqConsumerProperties properties,
+			@Nullable Consumer<ZMQ.Socket> socketConfigurer) {
+
+		Consumer<ZMQ.Socket> socketOptions = (socket) -> JavaUtils.INSTANCE
+			.acceptIfNotNull(properties.getSendHighWaterMark(), socket::setSndHWM)
+			.acceptIfNotNull(properties.getSendTimeout(), (timeout) -> socket.setSendTimeOut((int) timeout.toMillis()))
+			.acceptIfNotNull(properties.getLinger(), (linger) -> socket.setLinger((int) linger.toMillis()));
+
+		return (socketConfigurer != null) ? socketOptions.andThen(socketConfigurer) : socketOptions;
+	}
+
 }
@@ -16,6 +16,10 @@
 
 package org.springframework.cloud.fn.consumer.zeromq;
 
+import java.time.Duration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import org.zeromq.SocketType;
@@ -49,6 +53,36 @@ public class ZeroMqConsumerProperties {
 	 */
 	private Expression topic;
 
+	/**
+	 * The max number of messages, or batches, sent to the ZeroMQ socket at the same time.
+	 */
+	@Min(1)
+	private int concurrency = 256;
+
+	/**
+	 * The ZMQ_SNDHWM option of the socket: the max number of outstanding messages queued
+	 * for every peer. The ZeroMQ default is used if not set.
+	 */
+	private Integer sendHighWaterMark;
+
+	/**
+	 * The ZMQ_SNDTIMEO option of the socket: how long to wait for a send when the queue is
+	 * full. The message is dropped after this timeout. Blocks forever if not set.
+	 */
+	private Duration sendTimeout;
+
+	/**
+	 * The ZMQ_LINGER option of the socket: how long the pending messages are kept after
+	 * the socket is closed. The ZeroMQ default is used if not set.
+	 */
+	private Duration linger;
+
+	/**
+	 * The options for the batching of messages into multipart ZeroMQ messages.
+	 */
+	@Valid
+	private final Batch batch = new Batch();
+
 	@NotNull(message = "'socketType' is required")
 	public SocketType getSocketType() {
 		return this.socketType;
@@ -75,4 +109,85 @@ public class ZeroMqConsumerProperties {
 		this.topic = topic;
 	}
 
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	public Integer getSendHighWaterMark() {
+		return this.sendHighWaterMark;
+	}
+
+	public void setSendHighWaterMark(Integer sendHighWaterMark) {
+		this.sendHighWaterMark = sendHighWaterMark;
+	}
+
+	public Duration getSendTimeout() {
+		return this.sendTimeout;
+	}
+
+	public void setSendTimeout(Duration sendTimeout) {
+		this.sendTimeout = sendTimeout;
+	}
+
+	public Duration getLinger() {
+		return this.linger;
+	}
+
+	public void setLinger(Duration linger) {
+		this.linger = linger;
+	}
+
+	public Batch getBatch() {
+		return this.batch;
+	}
+
+	public static class Batch {
+
+		/**
+		 * Whether to send the messages in multipart ZeroMQ messages: the topic frame, an
+		 * empty delimiter frame, and a frame for every message with this topic.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max number of messages in one multipart ZeroMQ message.
+		 */
+		@Min(1)
+		private int maxSize = 100;
+
+		/**
+		 * The max time to wait for the batch to be filled before sending it.
+		 */
+		private Duration maxDelay = Duration.ofMillis(10);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Duration getMaxDelay() {
+			return this.maxDelay;
+		}
+
+		public void setMaxDelay(Duration maxDelay) {
+			this.maxDelay = maxDelay;
+		}
+
+	}
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.consumer.zeromq;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMsg;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = { "zeromq.consumer.topic=headers.topic", "zeromq.consumer.batch.enabled=true",
+		"zeromq.consumer.batch.max-size=3", "zeromq.consumer.batch.max-delay=1s",
+		"zeromq.consumer.send-high-water-mark=10000", "zeromq.consumer.linger=0" })
+@DirtiesContext
+public class ZeroMqBatchingConsumerTests {
+
+	private static final ZContext CONTEXT = new ZContext();
+
+	private static ZMQ.Socket socket;
+
+	private static int bindPort;
+
+	@Autowired
+	Function<Flux<Message<?>>, Mono<Void>> subject;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@BeforeAll
+	static void setup() {
+		socket = CONTEXT.createSocket(SocketType.SUB);
+		socket.setReceiveTimeOut(1000);
+		bindPort = socket.bindToRandomPort("tcp://*");
+	}
+
+	@DynamicPropertySource
+	static void zeromqConnectUrl(DynamicPropertyRegistry dynamicPropertyRegistry) {
+		dynamicPropertyRegistry.add("zeromq.consumer.connectUrl", () -> "tcp://localhost:" + bindPort);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		socket.close();
+		CONTEXT.close();
+	}
+
+	@Test
+	void messagesOfSameTopicAreSentInOneMultipartMessage() {
+		assertThat(this.subject).isInstanceOf(ZeroMqBatchingConsumer.class);
+
+		Flux<Message<?>> messages = Flux.just("one", "two", "three")
+			.map((payload) -> MessageBuilder.withPayload(payload).setHeader("topic", "test-topic").build());
+
+		await().atMost(Duration.ofSeconds(20)).pollDelay(Duration.ofMillis(100)).untilAsserted(() -> {
+			socket.subscribe("test-topic");
+			// Give it a chance to subscribe
+			Thread.sleep(200);
+			this.subject.apply(messages).subscribe();
+			ZMsg multipart = ZMsg.recvMsg(socket);
+			assertThat(multipart).isNotNull();
+			assertThat(multipart.popString()).isEqualTo("test-topic");
+			assertThat(multipart.popString()).isEmpty();
+			assertThat(multipart.popString()).isEqualTo("one");
+			assertThat(multipart.popString()).isEqualTo("two");
+			assertThat(multipart.popString()).isEqualTo("three");
+			assertThat(multipart).isEmpty();
+		});
+
+		assertThat(this.meterRegistry.get("zeromq.consumer.messages").tag("result", "sent").counter().count())
+			.isGreaterThanOrEqualTo(3);
+	}
+
+	@SpringBootApplication
+	public static class ZeroMqBatchingConsumerTestApplication {
+
+		@Bean
+		SimpleMeterRegistry simpleMeterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
@@ -16,11 +16,23 @@
 
 package org.springframework.cloud.fn.http.request;
 
+import java.net.InetSocketAddress;
+import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
 import java.util.function.Function;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.convert.converter.Converter;
@@ -28,9 +40,13 @@ import org.springframework.expression.Expression;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.integration.config.IntegrationConverter;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.springframework.web.util.UriBuilderFactory;
@@ -48,10 +64,59 @@ import org.springframework.web.util.UriBuilderFactory;
 public class HttpRequestFunctionConfiguration {
 
 	@Bean
+	@ConditionalOnProperty(prefix = "http.request.reactive", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public HttpRequestFunction httpRequestFunction(WebClient.Builder webClientBuilder,
-			HttpRequestFunctionProperties properties) {
+			HttpRequestFunctionProperties properties, ObjectProvider<HttpResponseCache> httpResponseCache) {
+
+		return new HttpRequestFunction(webClientBuilder.build(), properties, httpResponseCache.getIfAvailable());
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "http.request.cache", name = "enabled")
+	public HttpResponseCache httpResponseCache(HttpRequestFunctionProperties properties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
 
-		return new HttpRequestFunction(webClientBuilder.build(), properties);
+		return new HttpResponseCache(properties.getCache(), meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
+	@Bean(destroyMethod = "dispose")
+	@ConditionalOnProperty(prefix = "http.request.reactive", name = "enabled")
+	public ConnectionProvider httpRequestConnectionProvider(HttpRequestFunctionProperties properties) {
+		HttpRequestFunctionProperties.Reactive reactive = properties.getReactive();
+		ConnectionProvider.Builder builder = ConnectionProvider.builder("httpRequestFunction")
+			.maxConnections(reactive.getMaxConnections())
+			.pendingAcquireMaxCount(reactive.getPendingAcquireMaxCount())
+			.pendingAcquireTimeout(reactive.getPendingAcquireTimeout())
+			.maxIdleTime(reactive.getMaxIdleTime());
+		reactive.getHostMaxConnections().forEach((hostAndPort, maxConnections) -> {
+			int colon = hostAndPort.lastIndexOf(':');
+			Assert.isTrue(colon > 0, () -> "The host must be in 'host:port' format, not: " + hostAndPort);
+			InetSocketAddress address = InetSocketAddress.createUnresolved(hostAndPort.substring(0, colon),
+					Integer.parseInt(hostAndPort.substring(colon + 1)));
+			builder.forRemoteHost(address, (spec) -> spec.maxConnections(maxConnections));
+		});
+		return builder.build();
+	}
+
+	@Bean("httpRequestFunction")
+	@ConditionalOnProperty(prefix = "http.request.reactive", name = "enabled")
+	public ReactiveHttpRequestFunction reactiveHttpRequestFunction(WebClient.Builder webClientBuilder,
+			HttpRequestFunctionProperties properties, ConnectionProvider httpRequestConnectionProvider,
+			ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<HttpResponseCache> httpResponseCache,
+			BeanFactory beanFactory) {
+
+		WebClient webClient = webClientBuilder
+			.clientConnector(new ReactorClientHttpConnector(HttpClient.create(httpRequestConnectionProvider)))
+			.build();
+		ReactiveHttpRequestFunction reactiveHttpRequestFunction = new ReactiveHttpRequestFunction(webClient,
+				properties, meterRegistry.getIfUnique(() -> Metrics.globalRegistry),
+				httpResponseCache.getIfAvailable());
+		String errorChannel = properties.getReactive().getErrorChannel();
+		if (StringUtils.hasText(errorChannel)) {
+			reactiveHttpRequestFunction.setErrorChannel(beanFactory.getBean(errorChannel, MessageChannel.class));
+		}
+		return reactiveHttpRequestFunction;
 	}
 
 	@Bean
@@ -72,24 +137,52 @@ public class HttpRequestFunctionConfiguration {
 
 		private final HttpRequestFunctionProperties properties;
 
+		private final @Nullable HttpResponseCache responseCache;
+
 		public HttpRequestFunction(WebClient webClient, HttpRequestFunctionProperties properties) {
+			this(webClient, properties, null);
+		}
+
+		public HttpRequestFunction(WebClient webClient, HttpRequestFunctionProperties properties,
+				@Nullable HttpResponseCache responseCache) {
+
 			this.webClient = webClient;
 			this.properties = properties;
+			this.responseCache = responseCache;
 		}
 
 		@Override
 		public Object apply(Message<?> message) {
-			return this.webClient.method(resolveHttpMethod(message))
-				.uri(this.uriBuilderFactory.uriString(resolveUrl(message)).build())
-				.bodyValue(resolveBody(message))
-				.headers((httpHeaders) -> httpHeaders.addAll(resolveHeaders(message)))
-				.retrieve()
-				.toEntity(this.properties.getExpectedResponseType())
-				.map((responseEntity) -> this.properties.getReplyExpression().getValue(responseEntity))
+			HttpMethod method = resolveHttpMethod(message);
+			URI uri = this.uriBuilderFactory.uriString(resolveUrl(message)).build();
+			Object body = resolveBody(message);
+			HttpHeaders headers = resolveHeaders(message);
+			Mono<ResponseEntity<?>> response = (this.responseCache != null)
+					? this.responseCache.get(this.responseCache.key(message, method, uri, body),
+							(etag) -> exchange(method, uri, body, headers, etag))
+					: exchange(method, uri, body, headers, null);
+			return response.map((responseEntity) -> this.properties.getReplyExpression().getValue(responseEntity))
 				.timeout(Duration.ofMillis(this.properties.getTimeout()))
 				.block();
 		}
 
+		private Mono<ResponseEntity<?>> exchange(HttpMethod method, URI uri, Object body, HttpHeaders headers,
+				@Nullable String etag) {
+
+			return this.webClient.method(method)
+				.uri(uri)
+				.bodyValue(body)
+				.headers((httpHeaders) -> {
+					httpHeaders.addAll(headers);
+					if (etag != null) {
+						httpHeaders.setIfNoneMatch(etag);
+					}
+				})
+				.retrieve()
+				.toEntity(this.properties.getExpectedResponseType())
+				.map((responseEntity) -> responseEntity);
+		}
+
 		private String resolveUrl(Message<?> message) {
 			return this.properties.getUrlExpression().getValue(message, String.class);
 		}
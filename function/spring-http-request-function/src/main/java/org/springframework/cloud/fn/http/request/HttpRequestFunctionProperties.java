@@ -16,6 +16,12 @@
 
 package org.springframework.cloud.fn.http.request;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -78,6 +84,18 @@ public class HttpRequestFunctionProperties {
 	 */
 	private Expression replyExpression = new FunctionExpression<ResponseEntity<?>>(ResponseEntity::getBody);
 
+	/**
+	 * Options for the response cache.
+	 */
+	@Valid
+	private Cache cache = new Cache();
+
+	/**
+	 * Options for the non-blocking function variant.
+	 */
+	@Valid
+	private Reactive reactive = new Reactive();
+
 	@NotNull
 	public Expression getUrlExpression() {
 		return this.urlExpression;
@@ -137,4 +155,206 @@ public class HttpRequestFunctionProperties {
 		this.replyExpression = replyExpression;
 	}
 
+	public Cache getCache() {
+		return this.cache;
+	}
+
+	public void setCache(Cache cache) {
+		this.cache = cache;
+	}
+
+	public Reactive getReactive() {
+		return this.reactive;
+	}
+
+	public void setReactive(Reactive reactive) {
+		this.reactive = reactive;
+	}
+
+	public static class Cache {
+
+		/**
+		 * Whether to cache the responses and coalesce the concurrent requests with the
+		 * same key into one upstream call.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The time to keep a response when it has no 'Cache-Control' max-age.
+		 */
+		private Duration ttl = Duration.ofMinutes(1);
+
+		/**
+		 * The max number of cached responses; the least recently used are evicted.
+		 */
+		@Min(1)
+		private int maxSize = 10_000;
+
+		/**
+		 * A SpEL expression against the request message to compute the cache key;
+		 * defaults to the request method, URL and body.
+		 */
+		private Expression keyExpression;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTtl() {
+			return this.ttl;
+		}
+
+		public void setTtl(Duration ttl) {
+			this.ttl = ttl;
+		}
+
+		public int getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Expression getKeyExpression() {
+			return this.keyExpression;
+		}
+
+		public void setKeyExpression(Expression keyExpression) {
+			this.keyExpression = keyExpression;
+		}
+
+	}
+
+	public static class Reactive {
+
+		/**
+		 * Whether to provide the non-blocking {@code Function<Flux<Message<?>>,
+		 * Flux<Message<?>>>} variant instead of the blocking function.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max number of requests in flight.
+		 */
+		@Min(1)
+		private int concurrency = 256;
+
+		/**
+		 * Whether to emit the replies in the order of the request messages, instead of
+		 * the order of completion.
+		 */
+		private boolean ordered = true;
+
+		/**
+		 * The max number of connections to a remote host.
+		 */
+		@Min(1)
+		private int maxConnections = 500;
+
+		/**
+		 * The max number of connections to specific remote hosts, by 'host:port'.
+		 */
+		private Map<String, Integer> hostMaxConnections = new HashMap<>();
+
+		/**
+		 * The max number of requests waiting for a connection to a remote host; -1 for
+		 * no limit.
+		 */
+		private int pendingAcquireMaxCount = 1000;
+
+		/**
+		 * The max time to wait for a connection.
+		 */
+		private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+		/**
+		 * The max time a connection can stay idle in the pool.
+		 */
+		private Duration maxIdleTime = Duration.ofSeconds(30);
+
+		/**
+		 * The name of the channel to send an error message for a failed request to;
+		 * when empty, the failure terminates the reply stream.
+		 */
+		private String errorChannel = "errorChannel";
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		public boolean isOrdered() {
+			return this.ordered;
+		}
+
+		public void setOrdered(boolean ordered) {
+			this.ordered = ordered;
+		}
+
+		public int getMaxConnections() {
+			return this.maxConnections;
+		}
+
+		public void setMaxConnections(int maxConnections) {
+			this.maxConnections = maxConnections;
+		}
+
+		public Map<String, Integer> getHostMaxConnections() {
+			return this.hostMaxConnections;
+		}
+
+		public void setHostMaxConnections(Map<String, Integer> hostMaxConnections) {
+			this.hostMaxConnections = hostMaxConnections;
+		}
+
+		public int getPendingAcquireMaxCount() {
+			return this.pendingAcquireMaxCount;
+		}
+
+		public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+			this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+		}
+
+		public Duration getPendingAcquireTimeout() {
+			return this.pendingAcquireTimeout;
+		}
+
+		public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+			this.pendingAcquireTimeout = pendingAcquireTimeout;
+		}
+
+		public Duration getMaxIdleTime() {
+			return this.maxIdleTime;
+		}
+
+		public void setMaxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+		}
+
+		public String getErrorChannel() {
+			return this.errorChannel;
+		}
+
+		public void setErrorChannel(String errorChannel) {
+			this.errorChannel = errorChannel;
+		}
+
+	}
+
 }
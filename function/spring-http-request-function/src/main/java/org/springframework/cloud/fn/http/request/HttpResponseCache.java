@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.http.request;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.expression.Expression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.Message;
+import org.springframework.util.StringUtils;
+
+/**
+ * A cache of the HTTP responses of the request functions, which also coalesces the
+ * concurrent requests for the same key into a single upstream call.
+ * <p>
+ * Only the {@code 2xx} responses are cached, for the
+ * {@link HttpRequestFunctionProperties.Cache#getTtl()} or the {@code max-age} of the
+ * {@code Cache-Control} response header; a {@code no-store} response is not cached. An
+ * expired response with an {@code ETag} is kept for revalidation: the next request for
+ * the key is sent with the {@code If-None-Match} header, and the cached response is
+ * reused on {@code 304 Not Modified}. The least recently used responses are evicted
+ * over {@link HttpRequestFunctionProperties.Cache#getMaxSize()}.
+ * <p>
+ * The lookups are counted in the {@code http.request.function.cache} counter with the
+ * {@code result} tag of {@code hit}, {@code miss}, {@code coalesced} or
+ * {@code revalidated}.
+ *
+ * @since 6.0.1
+ */
+public class HttpResponseCache {
+
+	private static final String METER_NAME = "http.request.function.cache";
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Map<Object, CachedResponse> responses;
+
+	private final ConcurrentMap<Object, Mono<ResponseEntity<?>>> inFlight = new ConcurrentHashMap<>();
+
+	private final long ttl;
+
+	private final @Nullable Expression keyExpression;
+
+	private final Counter hits;
+
+	private final Counter misses;
+
+	private final Counter coalesced;
+
+	private final Counter revalidated;
+
+	public HttpResponseCache(HttpRequestFunctionProperties.Cache cache, MeterRegistry meterRegistry) {
+		int maxSize = cache.getMaxSize();
+		this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, CachedResponse> eldest) {
+				return size() > maxSize;
+			}
+
+		};
+		this.ttl = cache.getTtl().toMillis();
+		this.keyExpression = cache.getKeyExpression();
+		this.hits = counter(meterRegistry, "hit");
+		this.misses = counter(meterRegistry, "miss");
+		this.coalesced = counter(meterRegistry, "coalesced");
+		this.revalidated = counter(meterRegistry, "revalidated");
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(METER_NAME)
+			.description("The HTTP response cache lookups")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Compute the cache key of the request: the result of the
+	 * {@link HttpRequestFunctionProperties.Cache#getKeyExpression()} if provided, or the
+	 * method, URL and body of the request.
+	 * @param message the request message.
+	 * @param method the request method.
+	 * @param uri the request URL.
+	 * @param body the request body.
+	 * @return the cache key.
+	 */
+	public Object key(Message<?> message, HttpMethod method, URI uri, @Nullable Object body) {
+		if (this.keyExpression != null) {
+			Object key = this.keyExpression.getValue(message);
+			if (key != null) {
+				return key;
+			}
+		}
+		return new RequestKey(method, uri, (body instanceof byte[] bytes) ? ByteBuffer.wrap(bytes) : body);
+	}
+
+	/**
+	 * Return the cached response for the key, join the request in flight for the key, or
+	 * perform a new request.
+	 * @param key the cache key.
+	 * @param exchange the function to perform the request with the {@code If-None-Match}
+	 * value, if any.
+	 * @return the response.
+	 */
+	public Mono<ResponseEntity<?>> get(Object key, Function<@Nullable String, Mono<ResponseEntity<?>>> exchange) {
+		return Mono.defer(() -> {
+			CachedResponse cached = cached(key);
+			if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+				this.hits.increment();
+				return Mono.just(cached.response);
+			}
+			Mono<ResponseEntity<?>> request = this.inFlight.get(key);
+			if (request != null) {
+				this.coalesced.increment();
+				return request;
+			}
+			Sinks.One<ResponseEntity<?>> result = Sinks.one();
+			Mono<ResponseEntity<?>> candidate = result.asMono();
+			request = this.inFlight.putIfAbsent(key, candidate);
+			if (request != null) {
+				this.coalesced.increment();
+				return request;
+			}
+			fetch(key, cached, exchange).doFinally((signal) -> this.inFlight.remove(key, candidate))
+				.subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty);
+			return candidate;
+		});
+	}
+
+	private Mono<ResponseEntity<?>> fetch(Object key, @Nullable CachedResponse stale,
+			Function<@Nullable String, Mono<ResponseEntity<?>>> exchange) {
+
+		String etag = (stale != null) ? stale.etag : null;
+		if (etag == null) {
+			this.misses.increment();
+		}
+		return exchange.apply(etag).map((response) -> {
+			if (stale != null && etag != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+				this.revalidated.increment();
+				store(key, stale.response, response.getHeaders());
+				return stale.response;
+			}
+			if (etag != null) {
+				this.misses.increment();
+			}
+			if (response.getStatusCode().is2xxSuccessful()) {
+				store(key, response, response.getHeaders());
+			}
+			return response;
+		});
+	}
+
+	private @Nullable CachedResponse cached(Object key) {
+		this.lock.lock();
+		try {
+			CachedResponse cached = this.responses.get(key);
+			if (cached != null && cached.etag == null && cached.expiresAt <= System.currentTimeMillis()) {
+				this.responses.remove(key);
+				return null;
+			}
+			return cached;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void store(Object key, ResponseEntity<?> response, HttpHeaders headers) {
+		long ttl = this.ttl;
+		boolean noCache = false;
+		String cacheControl = headers.getCacheControl();
+		if (StringUtils.hasText(cacheControl)) {
+			for (String directive : StringUtils.commaDelimitedListToStringArray(cacheControl)) {
+				String value = directive.trim().toLowerCase(Locale.ROOT);
+				if (value.equals("no-store")) {
+					return;
+				}
+				else if (value.equals("no-cache")) {
+					noCache = true;
+				}
+				else if (value.startsWith("max-age=")) {
+					try {
+						ttl = Long.parseLong(value.substring("max-age=".length())) * 1000;
+					}
+					catch (NumberFormatException ex) {
+						// keep the configured TTL
+					}
+				}
+			}
+		}
+		if (noCache) {
+			ttl = 0;
+		}
+		String etag = StringUtils.hasText(headers.getETag()) ? headers.getETag()
+				: response.getHeaders().getETag();
+		if (ttl <= 0 && etag == null) {
+			return;
+		}
+		CachedResponse cached = new CachedResponse(response, System.currentTimeMillis() + ttl,
+				StringUtils.hasText(etag) ? etag : null);
+		this.lock.lock();
+		try {
+			this.responses.put(key, cached);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private record CachedResponse(ResponseEntity<?> response, long expiresAt, @Nullable String etag) {
+
+	}
+
+	private record RequestKey(HttpMethod method, URI uri, @Nullable Object body) {
+
+	}
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.http.request;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.expression.Expression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+
+/**
+ * The non-blocking variant of the
+ * {@link HttpRequestFunctionConfiguration.HttpRequestFunction}: the requests for the
+ * incoming messages are in flight at the same time, up to
+ * {@link HttpRequestFunctionProperties.Reactive#getConcurrency()}, and the replies are
+ * emitted in the order of the messages or as they complete.
+ * <p>
+ * A reply is emitted as a message with the result of the
+ * {@link HttpRequestFunctionProperties#getReplyExpression()} as payload and the headers
+ * of the request message; a {@code null} result has no reply. A failed request has no
+ * reply either and is sent as an {@link ErrorMessage} to the
+ * {@link #setErrorChannel(MessageChannel) error channel}, so it does not terminate the
+ * stream, or the failure is propagated to the subscriber when there is no error channel.
+ * <p>
+ * The request durations are recorded with a histogram in the
+ * {@code http.request.function} timer, tagged with the {@code method}, {@code host} and
+ * response {@code status}, or {@code IO_ERROR} when there is no response.
+ * <p>
+ * The responses are cached when an {@link HttpResponseCache} is provided; only the
+ * upstream requests are recorded in the timer.
+ * <p>
+ * The headers are computed again only when the
+ * {@link HttpRequestFunctionProperties#getHeadersExpression()} evaluates to a new map:
+ * a constant map, such as a SpEL inline map, is converted into HTTP headers once.
+ *
+ * @since 6.0.1
+ */
+public class ReactiveHttpRequestFunction implements Function<Flux<Message<?>>, Flux<Message<?>>> {
+
+	private static final Log LOGGER = LogFactory.getLog(ReactiveHttpRequestFunction.class);
+
+	private static final String TIMER_NAME = "http.request.function";
+
+	private final WebClient webClient;
+
+	private final UriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory();
+
+	private final HttpRequestFunctionProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Meter.MeterProvider<Timer> requestTimer;
+
+	private final Duration timeout;
+
+	private final @Nullable HttpResponseCache responseCache;
+
+	private @Nullable MessageChannel errorChannel;
+
+	private volatile HeadersCache headersCache = new HeadersCache(null, HttpHeaders.EMPTY);
+
+	public ReactiveHttpRequestFunction(WebClient webClient, HttpRequestFunctionProperties properties,
+			MeterRegistry meterRegistry) {
+
+		this(webClient, properties, meterRegistry, null);
+	}
+
+	public ReactiveHttpRequestFunction(WebClient webClient, HttpRequestFunctionProperties properties,
+			MeterRegistry meterRegistry, @Nullable HttpResponseCache responseCache) {
+
+		this.webClient = webClient;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.requestTimer = Timer.builder(TIMER_NAME)
+			.description("The duration of the HTTP requests")
+			.publishPercentileHistogram()
+			.withRegistry(meterRegistry);
+		this.timeout = Duration.ofMillis(properties.getTimeout());
+		this.responseCache = responseCache;
+	}
+
+	/**
+	 * Set the channel to send an {@link ErrorMessage} for a failed request to, instead of
+	 * terminating the reply stream with the failure.
+	 * @param errorChannel the error channel.
+	 */
+	public void setErrorChannel(@Nullable MessageChannel errorChannel) {
+		this.errorChannel = errorChannel;
+	}
+
+	@Override
+	public Flux<Message<?>> apply(Flux<Message<?>> messages) {
+		HttpRequestFunctionProperties.Reactive reactive = this.properties.getReactive();
+		return reactive.isOrdered() ? messages.flatMapSequential(this::request, reactive.getConcurrency())
+				: messages.flatMap(this::request, reactive.getConcurrency());
+	}
+
+	private Mono<Message<?>> request(Message<?> message) {
+		HttpMethod method;
+		URI uri;
+		Object body;
+		HttpHeaders headers;
+		Object cacheKey;
+		try {
+			method = this.properties.getHttpMethodExpression().getValue(message, HttpMethod.class);
+			uri = this.uriBuilderFactory
+				.uriString(this.properties.getUrlExpression().getValue(message, String.class))
+				.build();
+			body = (this.properties.getBodyExpression() != null)
+					? this.properties.getBodyExpression().getValue(message) : message.getPayload();
+			headers = resolveHeaders(message);
+			cacheKey = (this.responseCache != null) ? this.responseCache.key(message, method, uri, body) : null;
+		}
+		catch (RuntimeException ex) {
+			return failed(message, "Failed to resolve HTTP request", ex);
+		}
+
+		Mono<ResponseEntity<?>> response = (this.responseCache != null && cacheKey != null)
+				? this.responseCache.get(cacheKey, (etag) -> exchange(method, uri, body, headers, etag))
+				: exchange(method, uri, body, headers, null);
+		return response.mapNotNull((responseEntity) -> this.properties.getReplyExpression().getValue(responseEntity))
+			.<Message<?>>map((reply) -> MessageBuilder.withPayload(reply).copyHeaders(message.getHeaders()).build())
+			.onErrorResume((ex) -> failed(message, "Failed to perform HTTP request " + method + " " + uri, ex));
+	}
+
+	private Mono<Message<?>> failed(Message<?> message, String description, Throwable cause) {
+		MessageHandlingException failure = new MessageHandlingException(message, description, cause);
+		MessageChannel errorChannel = this.errorChannel;
+		if (errorChannel == null) {
+			return Mono.error(failure);
+		}
+		if (!errorChannel.send(new ErrorMessage(failure))) {
+			LOGGER.error("Failed to send the error message for: " + message, failure);
+		}
+		return Mono.empty();
+	}
+
+	private Mono<ResponseEntity<?>> exchange(HttpMethod method, URI uri, Object body, HttpHeaders headers,
+			@Nullable String etag) {
+
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start(this.meterRegistry);
+			return this.webClient.method(method)
+				.uri(uri)
+				.bodyValue(body)
+				.headers((httpHeaders) -> {
+					httpHeaders.addAll(headers);
+					if (etag != null) {
+						httpHeaders.setIfNoneMatch(etag);
+					}
+				})
+				.retrieve()
+				.toEntity(this.properties.getExpectedResponseType())
+				.timeout(this.timeout)
+				.<ResponseEntity<?>>map((responseEntity) -> responseEntity)
+				.doOnNext((responseEntity) -> stopTimer(sample, method, uri,
+						String.valueOf(responseEntity.getStatusCode().value())))
+				.doOnError((ex) -> stopTimer(sample, method, uri,
+						(ex instanceof WebClientResponseException responseException)
+								? String.valueOf(responseException.getStatusCode().value()) : "IO_ERROR"));
+		});
+	}
+
+	private void stopTimer(Timer.Sample sample, HttpMethod method, URI uri, String status) {
+		sample.stop(this.requestTimer.withTags("method", method.name(), "host",
+				(uri.getHost() != null) ? uri.getHost() : "none", "status", status));
+	}
+
+	private HttpHeaders resolveHeaders(Message<?> message) {
+		Expression headersExpression = this.properties.getHeadersExpression();
+		if (headersExpression == null) {
+			return HttpHeaders.EMPTY;
+		}
+		Map<?, ?> headersMap = headersExpression.getValue(message, Map.class);
+		HeadersCache cache = this.headersCache;
+		if (headersMap == cache.source) {
+			return cache.headers;
+		}
+		HttpHeaders headers = new HttpHeaders();
+		if (!CollectionUtils.isEmpty(headersMap)) {
+			headersMap.entrySet()
+				.stream()
+				.filter((entry) -> entry.getKey() != null && entry.getValue() != null)
+				.forEach((entry) -> headers.add(entry.getKey().toString(), entry.getValue().toString()));
+		}
+		HttpHeaders readOnlyHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+		this.headersCache = new HeadersCache(headersMap, readOnlyHeaders);
+		return readOnlyHeaders;
+	}
+
+	private record HeadersCache(@Nullable Map<?, ?> source, HttpHeaders headers) {
+
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.http.request;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.fn.http.request.HttpRequestFunctionConfiguration.HttpRequestFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpResponseCacheTests {
+
+	private final MockWebServer server = new MockWebServer();
+
+	private final AtomicInteger requests = new AtomicInteger();
+
+	private ApplicationContextRunner runner;
+
+	@BeforeEach
+	void setup() {
+		this.server.setDispatcher(new Dispatcher() {
+
+			@Override
+			public MockResponse dispatch(RecordedRequest recordedRequest) {
+				int request = HttpResponseCacheTests.this.requests.incrementAndGet();
+				if ("/etag".equals(recordedRequest.getPath())) {
+					if ("\"v1\"".equals(recordedRequest.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+						return new MockResponse().setResponseCode(HttpStatus.NOT_MODIFIED.value());
+					}
+					return new MockResponse().setBody("etag")
+						.setHeader(HttpHeaders.ETAG, "\"v1\"")
+						.setHeader(HttpHeaders.CACHE_CONTROL, "max-age=0");
+				}
+				return new MockResponse().setBody("response" + request)
+					.setBodyDelay(300, TimeUnit.MILLISECONDS)
+					.setResponseCode(HttpStatus.OK.value());
+			}
+
+		});
+		this.runner = new ApplicationContextRunner().withUserConfiguration(HttpResponseCacheTestApplication.class)
+			.withPropertyValues("http.request.cache.enabled=true",
+					"http.request.url-expression='http://localhost:" + this.server.getPort() + "' + payload");
+	}
+
+	@Test
+	void responsesAreCachedAndRevalidated() {
+		this.runner.run((context) -> {
+			HttpRequestFunction function = context.getBean(HttpRequestFunction.class);
+			assertThat(function.apply(new GenericMessage<>("/cached"))).isEqualTo("response1");
+			assertThat(function.apply(new GenericMessage<>("/cached"))).isEqualTo("response1");
+
+			assertThat(function.apply(new GenericMessage<>("/etag"))).isEqualTo("etag");
+			assertThat(function.apply(new GenericMessage<>("/etag"))).isEqualTo("etag");
+			assertThat(this.requests).hasValue(3);
+
+			MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+			assertThat(meterRegistry.get("http.request.function.cache").tag("result", "hit").counter().count())
+				.isEqualTo(1);
+			assertThat(meterRegistry.get("http.request.function.cache").tag("result", "revalidated").counter().count())
+				.isEqualTo(1);
+		});
+	}
+
+	@Test
+	void concurrentRequestsAreCoalesced() {
+		this.runner.withPropertyValues("http.request.reactive.enabled=true", "http.request.reactive.ordered=false")
+			.run((context) -> {
+				ReactiveHttpRequestFunction function = context.getBean(ReactiveHttpRequestFunction.class);
+				Flux<Message<?>> messages = Flux.just("/same", "/same", "/same").map(GenericMessage::new);
+
+				StepVerifier.create(function.apply(messages).map(Message::getPayload))
+					.expectNext("response1", "response1", "response1")
+					.expectComplete()
+					.verify(Duration.ofSeconds(10));
+
+				assertThat(this.requests).hasValue(1);
+				MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+				assertThat(
+						meterRegistry.get("http.request.function.cache").tag("result", "coalesced").counter().count())
+					.isEqualTo(2);
+			});
+	}
+
+	@SpringBootApplication
+	static class HttpResponseCacheTestApplication {
+
+		@Bean
+		SimpleMeterRegistry simpleMeterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.http.request;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactiveHttpRequestFunctionTests {
+
+	private final MockWebServer server = new MockWebServer();
+
+	private ApplicationContextRunner runner;
+
+	@BeforeEach
+	void setup() {
+		this.server.setDispatcher(new Dispatcher() {
+
+			@Override
+			public MockResponse dispatch(RecordedRequest recordedRequest) {
+				String path = recordedRequest.getPath();
+				if ("/fail".equals(path)) {
+					return new MockResponse().setResponseCode(HttpStatus.NOT_FOUND.value());
+				}
+				return new MockResponse().setBody(path)
+					.setBodyDelay("/slow".equals(path) ? 300 : 0, TimeUnit.MILLISECONDS)
+					.setResponseCode(HttpStatus.OK.value());
+			}
+
+		});
+		this.runner = new ApplicationContextRunner()
+			.withUserConfiguration(ReactiveHttpRequestFunctionTestApplication.class)
+			.withPropertyValues("http.request.reactive.enabled=true", "http.request.reactive.concurrency=4",
+					"http.request.reactive.host-max-connections[localhost:" + this.server.getPort() + "]=2",
+					"http.request.url-expression='" + url() + "' + payload",
+					"http.request.headers-expression={'X-Test':'test'}");
+	}
+
+	@Test
+	void repliesAreEmittedInOrder() {
+		this.runner.run((context) -> {
+			ReactiveHttpRequestFunction function = context.getBean(ReactiveHttpRequestFunction.class);
+			Flux<Message<?>> requests = Flux.just("/slow", "/fail", "/fast")
+				.map((path) -> MessageBuilder.withPayload(path).setHeader("path", path).build());
+
+			StepVerifier.create(function.apply(requests))
+				.assertNext((reply) -> {
+					assertThat(reply.getPayload()).isEqualTo("/slow");
+					assertThat(reply.getHeaders()).containsEntry("path", "/slow");
+				})
+				.assertNext((reply) -> assertThat(reply.getPayload()).isEqualTo("/fast"))
+				.expectComplete()
+				.verify(Duration.ofSeconds(10));
+
+			assertThat(this.server.takeRequest().getHeader("X-Test")).isEqualTo("test");
+			MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+			assertThat(meterRegistry.get("http.request.function").tag("status", "200").timer().count())
+				.isEqualTo(2);
+			assertThat(meterRegistry.get("http.request.function").tag("status", "404").timer().count())
+				.isEqualTo(1);
+		});
+	}
+
+	@Test
+	void repliesAreEmittedAsTheyComplete() {
+		this.runner.withPropertyValues("http.request.reactive.ordered=false").run((context) -> {
+			ReactiveHttpRequestFunction function = context.getBean(ReactiveHttpRequestFunction.class);
+			Flux<Message<?>> requests = Flux.just("/slow", "/fast")
+				.map((path) -> MessageBuilder.withPayload(path).build());
+
+			StepVerifier.create(function.apply(requests).map(Message::getPayload))
+				.expectNext("/fast", "/slow")
+				.expectComplete()
+				.verify(Duration.ofSeconds(10));
+		});
+	}
+
+	@Test
+	void failedRequestsAreSentToErrorChannel() {
+		this.runner.run((context) -> {
+			ReactiveHttpRequestFunction function = context.getBean(ReactiveHttpRequestFunction.class);
+			SubscribableChannel errorChannel = context.getBean("errorChannel", SubscribableChannel.class);
+			BlockingQueue<Message<?>> errors = new LinkedBlockingQueue<>();
+			MessageHandler errorHandler = errors::add;
+			errorChannel.subscribe(errorHandler);
+			try {
+				Message<?> request = MessageBuilder.withPayload("/fail").build();
+
+				StepVerifier.create(function.apply(Flux.just(request))).expectComplete().verify(Duration.ofSeconds(10));
+
+				Message<?> error = errors.poll(10, TimeUnit.SECONDS);
+				assertThat(error).isInstanceOf(ErrorMessage.class);
+				assertThat(((ErrorMessage) error).getPayload()).isInstanceOf(MessageHandlingException.class)
+					.extracting((ex) -> ((MessageHandlingException) ex).getFailedMessage())
+					.isSameAs(request);
+			}
+			finally {
+				errorChannel.unsubscribe(errorHandler);
+			}
+		});
+	}
+
+	@Test
+	void failuresArePropagatedWithoutErrorChannel() {
+		this.runner.withPropertyValues("http.request.reactive.error-channel=").run((context) -> {
+			ReactiveHttpRequestFunction function = context.getBean(ReactiveHttpRequestFunction.class);
+			Flux<Message<?>> requests = Flux.just("/fast", "/fail")
+				.map((path) -> MessageBuilder.withPayload(path).build());
+
+			StepVerifier.create(function.apply(requests).map(Message::getPayload))
+				.expectNext("/fast")
+				.expectError(MessageHandlingException.class)
+				.verify(Duration.ofSeconds(10));
+		});
+	}
+
+	private String url() {
+		return String.format("http://localhost:%d", this.server.getPort());
+	}
+
+	@SpringBootApplication
+	static class ReactiveHttpRequestFunctionTestApplication {
+
+		@Bean
+		SimpleMeterRegistry simpleMeterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
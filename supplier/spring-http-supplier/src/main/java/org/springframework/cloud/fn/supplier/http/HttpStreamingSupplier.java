@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.integration.mapping.HeaderMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * The {@link Supplier} which splits the request bodies into records as they are
+ * received, instead of aggregating each body into a single message.
+ * <p>
+ * A JSON body is split into the elements of its top-level array; other bodies, such as
+ * NDJSON, are split into lines. Each record is emitted as a {@code byte[]} message with
+ * the mapped request headers. The body is read only as the downstream requests records,
+ * and the {@code 202 Accepted} response is sent once all the records of the body have
+ * been emitted. A body larger than {@link HttpSupplierProperties.Streaming#getMaxBodySize()}
+ * is rejected with {@code 413}, and a request over
+ * {@link HttpSupplierProperties.Streaming#getMaxInFlightRequests()} with {@code 429}.
+ * <p>
+ * The requests are merged into a single {@link Flux}, so the supplier can be subscribed
+ * only once.
+ *
+ * @since 6.0.1
+ */
+public class HttpStreamingSupplier implements Supplier<Flux<Message<byte[]>>> {
+
+	/**
+	 * The number of body buffers read ahead of the records requested by the downstream.
+	 */
+	private static final int BODY_PREFETCH = 2;
+
+	private final Sinks.Many<Flux<Message<byte[]>>> requests = Sinks.many().unicast().onBackpressureBuffer();
+
+	private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+	private final HeaderMapper<HttpHeaders> headerMapper;
+
+	private final long maxBodySize;
+
+	private final int maxInFlightRequests;
+
+	public HttpStreamingSupplier(HttpSupplierProperties.Streaming streaming, HeaderMapper<HttpHeaders> headerMapper) {
+		this.headerMapper = headerMapper;
+		this.maxBodySize = streaming.getMaxBodySize().toBytes();
+		this.maxInFlightRequests = streaming.getMaxInFlightRequests();
+	}
+
+	@Override
+	public Flux<Message<byte[]>> get() {
+		return this.requests.asFlux().flatMap((records) -> records, this.maxInFlightRequests);
+	}
+
+	/**
+	 * Handle the request by emitting its records.
+	 * @param request the request.
+	 * @return the response, once the records have been emitted.
+	 */
+	public Mono<ServerResponse> handle(ServerRequest request) {
+		if (request.headers().contentLength().orElse(0) > this.maxBodySize) {
+			return ServerResponse.status(HttpStatus.CONTENT_TOO_LARGE).build();
+		}
+		if (this.inFlightRequests.incrementAndGet() > this.maxInFlightRequests) {
+			this.inFlightRequests.decrementAndGet();
+			return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS).build();
+		}
+
+		MediaType contentType = request.headers().contentType().orElse(MediaType.APPLICATION_OCTET_STREAM);
+		boolean json = MediaType.APPLICATION_JSON.isCompatibleWith(contentType);
+		RecordSplitter splitter = json ? RecordSplitter.jsonArray(this.maxBodySize)
+				: RecordSplitter.lines(this.maxBodySize);
+		Map<String, Object> headers = requestHeaders(request,
+				(json || MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) ? MediaType.APPLICATION_JSON
+						: contentType);
+
+		Sinks.Empty<Void> accepted = Sinks.empty();
+		Flux<Message<byte[]>> records = request.bodyToFlux(DataBuffer.class)
+			.concatMapIterable(splitter::split, BODY_PREFETCH)
+			.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+			.concatWith(Flux.defer(() -> Flux.fromIterable(splitter.finish())))
+			.<Message<byte[]>>map((record) -> new GenericMessage<>(record, headers))
+			.doOnComplete(accepted::tryEmitEmpty)
+			.onErrorResume((ex) -> {
+				accepted.tryEmitError(ex);
+				return Flux.empty();
+			})
+			.doOnCancel(() -> accepted
+				.tryEmitError(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The supplier is cancelled")))
+			.doFinally((signal) -> this.inFlightRequests.decrementAndGet());
+
+		this.requests.emitNext(records, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+		return accepted.asMono().then(ServerResponse.accepted().build());
+	}
+
+	private Map<String, Object> requestHeaders(ServerRequest request, MediaType contentType) {
+		Map<String, Object> headers = new HashMap<>(this.headerMapper.toHeaders(request.headers().asHttpHeaders()));
+		headers.put(org.springframework.integration.http.HttpHeaders.REQUEST_URL, request.uri().toString());
+		headers.put(org.springframework.integration.http.HttpHeaders.REQUEST_METHOD, request.method().name());
+		headers.put(MessageHeaders.CONTENT_TYPE, contentType);
+		return headers;
+	}
+
+}
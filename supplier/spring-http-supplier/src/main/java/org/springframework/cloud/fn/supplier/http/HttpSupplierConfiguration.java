@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.fn.supplier.http;
 
+import java.util.Arrays;
 import java.util.function.Supplier;
 
 import org.reactivestreams.Publisher;
@@ -24,10 +25,12 @@ import reactor.core.publisher.Flux;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.webflux.autoconfigure.WebFluxAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerCodecConfigurer;
@@ -38,6 +41,13 @@ import org.springframework.integration.mapping.HeaderMapper;
 import org.springframework.integration.webflux.dsl.WebFlux;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
 
 /**
  * The auto-configuration for the HTTP Supplier.
@@ -57,6 +67,8 @@ public class HttpSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "http.supplier.streaming", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Publisher<Message<byte[]>> httpSupplierFlow(HttpSupplierProperties httpSupplierProperties,
 			HeaderMapper<HttpHeaders> httpHeaderMapper, ServerCodecConfigurer serverCodecConfigurer) {
 
@@ -81,10 +93,45 @@ public class HttpSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "http.supplier.streaming", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Supplier<Flux<Message<byte[]>>> httpSupplier(
 			@Qualifier("httpSupplierFlow") Publisher<Message<byte[]>> httpSupplierFlow) {
 
 		return () -> Flux.from(httpSupplierFlow);
 	}
 
+	@Bean("httpSupplier")
+	@ConditionalOnProperty(prefix = "http.supplier.streaming", name = "enabled")
+	public HttpStreamingSupplier httpStreamingSupplier(HttpSupplierProperties httpSupplierProperties,
+			HeaderMapper<HttpHeaders> httpHeaderMapper) {
+
+		return new HttpStreamingSupplier(httpSupplierProperties.getStreaming(), httpHeaderMapper);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "http.supplier.streaming", name = "enabled")
+	public RouterFunction<ServerResponse> httpSupplierStreamingRoute(HttpSupplierProperties httpSupplierProperties,
+			@Qualifier("httpSupplier") HttpStreamingSupplier httpStreamingSupplier) {
+
+		return RouterFunctions.route(RequestPredicates.POST(httpSupplierProperties.getPathPattern()),
+				httpStreamingSupplier::handle);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "http.supplier.streaming", name = "enabled")
+	public CorsWebFilter httpSupplierStreamingCorsFilter(HttpSupplierProperties httpSupplierProperties) {
+		// The same CORS configuration as the 'crossOrigin' of the 'httpSupplierFlow'
+		HttpSupplierProperties.Cors cors = httpSupplierProperties.getCors();
+		CorsConfiguration corsConfiguration = new CorsConfiguration();
+		corsConfiguration.setAllowedOrigins(Arrays.asList(cors.getAllowedOrigins()));
+		corsConfiguration.setAllowedHeaders(Arrays.asList(cors.getAllowedHeaders()));
+		corsConfiguration.setAllowCredentials(cors.getAllowCredentials());
+		corsConfiguration.addAllowedMethod(HttpMethod.POST);
+		corsConfiguration.setMaxAge(1800L);
+		UrlBasedCorsConfigurationSource corsConfigurationSource = new UrlBasedCorsConfigurationSource();
+		corsConfigurationSource.registerCorsConfiguration(httpSupplierProperties.getPathPattern(), corsConfiguration);
+		return new CorsWebFilter(corsConfigurationSource);
+	}
+
 }
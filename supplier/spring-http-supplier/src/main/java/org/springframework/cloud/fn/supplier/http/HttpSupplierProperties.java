@@ -16,10 +16,13 @@
 
 package org.springframework.cloud.fn.supplier.http;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.cors.CorsConfiguration;
 
@@ -47,6 +50,12 @@ public class HttpSupplierProperties {
 	 */
 	private Cors cors = new Cors();
 
+	/**
+	 * Options for splitting request bodies into records while they are received.
+	 */
+	@Valid
+	private Streaming streaming = new Streaming();
+
 	@NotEmpty
 	public String getPathPattern() {
 		return this.pathPattern;
@@ -72,6 +81,14 @@ public class HttpSupplierProperties {
 		this.cors = cors;
 	}
 
+	public Streaming getStreaming() {
+		return this.streaming;
+	}
+
+	public void setStreaming(Streaming streaming) {
+		this.streaming = streaming;
+	}
+
 	public static class Cors {
 
 		/**
@@ -118,4 +135,50 @@ public class HttpSupplierProperties {
 
 	}
 
+	public static class Streaming {
+
+		/**
+		 * Whether to split the POST request bodies into records (lines, or elements of a
+		 * JSON array) while they are received, instead of emitting a message per body.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max size of a request body.
+		 */
+		private DataSize maxBodySize = DataSize.ofMegabytes(100);
+
+		/**
+		 * The max number of requests being read at the same time; more requests are
+		 * rejected with 429.
+		 */
+		@Min(1)
+		private int maxInFlightRequests = 64;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMaxBodySize() {
+			return this.maxBodySize;
+		}
+
+		public void setMaxBodySize(DataSize maxBodySize) {
+			this.maxBodySize = maxBodySize;
+		}
+
+		public int getMaxInFlightRequests() {
+			return this.maxInFlightRequests;
+		}
+
+		public void setMaxInFlightRequests(int maxInFlightRequests) {
+			this.maxInFlightRequests = maxInFlightRequests;
+		}
+
+	}
+
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Splits a request body into records as its {@link DataBuffer}s arrive: either lines,
+ * or the elements of a top-level JSON array. A JSON body which is not an array is a
+ * single record. The state is kept across the buffers, so an instance serves a single
+ * request.
+ *
+ * @since 6.0.1
+ */
+final class RecordSplitter {
+
+	private final boolean json;
+
+	private final long maxBodySize;
+
+	private long bodySize;
+
+	private byte[] pending = new byte[256];
+
+	private int pendingLength;
+
+	private JsonState jsonState = JsonState.BEFORE;
+
+	private int depth;
+
+	private boolean inString;
+
+	private boolean escaped;
+
+	private RecordSplitter(boolean json, long maxBodySize) {
+		this.json = json;
+		this.maxBodySize = maxBodySize;
+	}
+
+	/**
+	 * Create a splitter of the lines of the body.
+	 * @param maxBodySize the max body size.
+	 * @return the splitter.
+	 */
+	static RecordSplitter lines(long maxBodySize) {
+		return new RecordSplitter(false, maxBodySize);
+	}
+
+	/**
+	 * Create a splitter of the elements of a JSON array body.
+	 * @param maxBodySize the max body size.
+	 * @return the splitter.
+	 */
+	static RecordSplitter jsonArray(long maxBodySize) {
+		return new RecordSplitter(true, maxBodySize);
+	}
+
+	/**
+	 * Consume the buffer and release it.
+	 * @param buffer the next body buffer.
+	 * @return the records completed by the buffer.
+	 */
+	List<byte[]> split(DataBuffer buffer) {
+		try {
+			this.bodySize += buffer.readableByteCount();
+			if (this.bodySize > this.maxBodySize) {
+				throw new ResponseStatusException(HttpStatus.CONTENT_TOO_LARGE,
+						"The request body exceeds " + this.maxBodySize + " bytes");
+			}
+			List<byte[]> records = new ArrayList<>();
+			for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+				byte b = buffer.getByte(i);
+				if (this.json) {
+					json(b, records);
+				}
+				else {
+					line(b, records);
+				}
+			}
+			return records;
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	/**
+	 * Complete the body.
+	 * @return the last record, if any.
+	 */
+	List<byte[]> finish() {
+		if (this.json && this.jsonState == JsonState.ARRAY) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The JSON array is not terminated");
+		}
+		if (!this.json && this.pendingLength > 0 && this.pending[this.pendingLength - 1] == '\r') {
+			this.pendingLength--;
+		}
+		List<byte[]> records = new ArrayList<>(1);
+		flush(records);
+		return records;
+	}
+
+	private void line(byte b, List<byte[]> records) {
+		if (b == '\n') {
+			if (this.pendingLength > 0 && this.pending[this.pendingLength - 1] == '\r') {
+				this.pendingLength--;
+			}
+			flush(records);
+		}
+		else {
+			append(b);
+		}
+	}
+
+	private void json(byte b, List<byte[]> records) {
+		switch (this.jsonState) {
+			case BEFORE -> {
+				if (!isWhitespace(b)) {
+					if (b == '[') {
+						this.jsonState = JsonState.ARRAY;
+					}
+					else {
+						this.jsonState = JsonState.SINGLE;
+						append(b);
+					}
+				}
+			}
+			case ARRAY -> arrayElement(b, records);
+			case SINGLE -> append(b);
+			case AFTER -> {
+				if (!isWhitespace(b)) {
+					throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unexpected content after JSON array");
+				}
+			}
+		}
+	}
+
+	private void arrayElement(byte b, List<byte[]> records) {
+		if (this.inString) {
+			append(b);
+			if (this.escaped) {
+				this.escaped = false;
+			}
+			else if (b == '\\') {
+				this.escaped = true;
+			}
+			else if (b == '"') {
+				this.inString = false;
+			}
+		}
+		else if (this.depth == 0 && (b == ',' || b == ']')) {
+			if (this.pendingLength == 0 && b == ',') {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty JSON array element");
+			}
+			flush(records);
+			if (b == ']') {
+				this.jsonState = JsonState.AFTER;
+			}
+		}
+		else if (this.depth > 0 || !isWhitespace(b)) {
+			if (b == '"') {
+				this.inString = true;
+			}
+			else if (b == '{' || b == '[') {
+				this.depth++;
+			}
+			else if (b == '}' || b == ']') {
+				this.depth--;
+			}
+			append(b);
+		}
+	}
+
+	private void append(byte b) {
+		if (this.pendingLength == this.pending.length) {
+			this.pending = Arrays.copyOf(this.pending, this.pending.length * 2);
+		}
+		this.pending[this.pendingLength++] = b;
+	}
+
+	private void flush(List<byte[]> records) {
+		if (this.pendingLength > 0) {
+			records.add(Arrays.copyOf(this.pending, this.pendingLength));
+			this.pendingLength = 0;
+		}
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+	}
+
+	private enum JsonState {
+
+		BEFORE, ARRAY, SINGLE, AFTER
+
+	}
+
+}
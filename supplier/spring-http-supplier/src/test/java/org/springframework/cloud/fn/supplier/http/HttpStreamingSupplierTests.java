@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.http;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = { "http.supplier.streaming.enabled = true", "http.supplier.streaming.max-body-size = 1KB" })
+@DirtiesContext
+public class HttpStreamingSupplierTests {
+
+	@Autowired
+	private Supplier<Flux<Message<byte[]>>> httpSupplier;
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	public void bodiesAreSplitIntoRecords() {
+		StepVerifier stepVerifier = StepVerifier.create(this.httpSupplier.get())
+			.assertNext((message) -> {
+				assertThat(message.getPayload()).isEqualTo("{\"id\":1}".getBytes());
+				assertThat(message.getHeaders()).containsEntry(MessageHeaders.CONTENT_TYPE,
+						MediaType.APPLICATION_JSON);
+			})
+			.assertNext((message) -> assertThat(message.getPayload()).isEqualTo("{\"id\":2}".getBytes()))
+			.assertNext((message) -> assertThat(message.getPayload()).isEqualTo("{\"id\":[3,\"],\"]}".getBytes()))
+			.assertNext((message) -> assertThat(message.getPayload()).isEqualTo("4".getBytes()))
+			.thenCancel()
+			.verifyLater();
+
+		WebClient webClient = WebClient.create("http://localhost:" + this.port);
+
+		HttpStatusCode status = webClient.post()
+			.uri("/")
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.bodyValue("{\"id\":1}\r\n{\"id\":2}\n\n")
+			.retrieve()
+			.toBodilessEntity()
+			.map((entity) -> entity.getStatusCode())
+			.block(Duration.ofSeconds(10));
+		assertThat(status).isEqualTo(HttpStatus.ACCEPTED);
+
+		status = webClient.post()
+			.uri("/")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(" [ {\"id\":[3,\"],\"]} , 4 ] ")
+			.retrieve()
+			.toBodilessEntity()
+			.map((entity) -> entity.getStatusCode())
+			.block(Duration.ofSeconds(10));
+		assertThat(status).isEqualTo(HttpStatus.ACCEPTED);
+
+		stepVerifier.verify(Duration.ofSeconds(10));
+
+		status = webClient.post()
+			.uri("/")
+			.contentType(MediaType.TEXT_PLAIN)
+			.bodyValue("x".repeat(2048))
+			.exchangeToMono((response) -> response.releaseBody().thenReturn(response.statusCode()))
+			.block(Duration.ofSeconds(10));
+		assertThat(status).isEqualTo(HttpStatus.CONTENT_TOO_LARGE);
+	}
+
+	@SpringBootApplication
+	static class HttpSupplierTestApplication {
+
+	}
+
+	@Test
+	public void corsPreflightIsAccepted() {
+		ResponseEntity<Void> response = WebClient.create("http://localhost:" + this.port)
+			.options()
+			.uri("/")
+			.header(HttpHeaders.ORIGIN, "https://example.com")
+			.header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpMethod.POST.name())
+			.retrieve()
+			.toBodilessEntity()
+			.block(Duration.ofSeconds(10));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getAccessControlAllowOrigin()).isEqualTo("*");
+		assertThat(response.getHeaders().getAccessControlAllowMethods()).containsExactly(HttpMethod.POST);
+	}
+
+}
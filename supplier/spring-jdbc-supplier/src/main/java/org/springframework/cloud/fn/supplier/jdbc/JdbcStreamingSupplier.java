@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.jdbc;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.fn.common.metadata.store.MetadataStorePartitionLeases;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link Supplier} which streams rows of the {@link JdbcSupplierProperties#getQuery()}
+ * from a forward-only cursor as individual messages. The rows are fetched from the
+ * database in chunks of the {@link JdbcSupplierProperties.Streaming#getFetchSize()} as
+ * the downstream requests them, so the whole result set is never materialized in memory.
+ * <p>
+ * The value of the {@link JdbcSupplierProperties.Streaming#getKeyColumn()} in the last
+ * delivered row is a high-water mark persisted in the {@link ConcurrentMetadataStore},
+ * and it is bound to the {@code :lastKey} parameter of the query on the next cursor
+ * with the {@link JdbcSupplierProperties.Streaming#getKeyType()}. A
+ * row is delivered when the subscriber returns from its {@code onNext()} without an error,
+ * so the row being handled when the stream fails or is cancelled is emitted again from
+ * the next cursor (at-least-once delivery). With an asynchronous subscriber (e.g. after
+ * {@code publishOn()}), the row is delivered as soon as it is queued by the subscriber. When the
+ * cursor is exhausted, a new one is opened from the high-water mark, after
+ * {@link JdbcSupplierProperties.Streaming#getIdleInterval()} if the previous one was
+ * empty. The optional {@link JdbcSupplierProperties#getUpdate()} statement is executed
+ * as a JDBC batch for every {@link JdbcSupplierProperties.Streaming#getBatchSize()}
+ * delivered rows.
+ * <p>
+ * With more than one {@link JdbcSupplierProperties.Partitioning#getCount()} the key
+ * space is split into partitions streamed concurrently, each with its own high-water
+ * mark, and merged into the result {@link Flux}. The partition is bound to the
+ * {@code :partition} and {@code :partitionCount}, or {@code :rangeStart} and
+ * {@code :rangeEnd} query parameters. When
+ * {@link JdbcSupplierProperties.Partitioning#isCoordinate()}, an instance streams only
+ * partitions it holds a lease for in the {@link MetadataStorePartitionLeases}, and
+ * releases them when the {@link Flux} is cancelled.
+ *
+ * @since 6.0.1
+ */
+public class JdbcStreamingSupplier implements Supplier<Flux<Message<?>>> {
+
+	/**
+	 * The query parameter for the high-water mark.
+	 */
+	public static final String LAST_KEY_PARAMETER = "lastKey";
+
+	/**
+	 * The query parameter for the partition number.
+	 */
+	public static final String PARTITION_PARAMETER = "partition";
+
+	/**
+	 * The query parameter for the number of partitions.
+	 */
+	public static final String PARTITION_COUNT_PARAMETER = "partitionCount";
+
+	/**
+	 * The query parameter for the first key of the partition range.
+	 */
+	public static final String RANGE_START_PARAMETER = "rangeStart";
+
+	/**
+	 * The query parameter for the key after the partition range.
+	 */
+	public static final String RANGE_END_PARAMETER = "rangeEnd";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final ConcurrentMetadataStore metadataStore;
+
+	private final String query;
+
+	private final @Nullable String update;
+
+	private final JdbcSupplierProperties.Streaming streaming;
+
+	private final JdbcSupplierProperties.Partitioning partitioning;
+
+	private final @Nullable MetadataStorePartitionLeases partitionLeases;
+
+	public JdbcStreamingSupplier(DataSource dataSource, ConcurrentMetadataStore metadataStore,
+			JdbcSupplierProperties properties) {
+
+		this.streaming = properties.getStreaming();
+		Assert.hasText(this.streaming.getKeyColumn(), "'keyColumn' must be provided for streaming mode");
+		JdbcTemplate streamingJdbcTemplate = new JdbcTemplate(dataSource);
+		streamingJdbcTemplate.setFetchSize(this.streaming.getFetchSize());
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(streamingJdbcTemplate);
+		this.metadataStore = metadataStore;
+		this.query = properties.getQuery();
+		this.update = StringUtils.hasText(properties.getUpdate()) ? properties.getUpdate() : null;
+		this.partitioning = this.streaming.getPartitioning();
+		this.partitionLeases = (this.partitioning.getCount() > 1 && this.partitioning.isCoordinate())
+				? new MetadataStorePartitionLeases(metadataStore, this.streaming.getMetadataKey() + ".lease.",
+						this.partitioning.getLeaseTimeout())
+				: null;
+	}
+
+	@Override
+	public Flux<Message<?>> get() {
+		int partitionCount = this.partitioning.getCount();
+		if (partitionCount == 1) {
+			return partition(0);
+		}
+		// Request one row per partition, so the next one is fetched only when the previous one is delivered
+		return Flux.range(0, partitionCount).flatMap(this::partition, partitionCount, 1);
+	}
+
+	private Flux<Message<?>> partition(int partition) {
+		return Flux
+			.defer(() -> isOwned(partition) ? streamFromHighWaterMark(partition) : Flux.<Message<?>>empty())
+			.switchIfEmpty(Mono.delay(this.streaming.getIdleInterval()).then(Mono.<Message<?>>empty()))
+			.repeat()
+			.doFinally((signal) -> release(partition));
+	}
+
+	private boolean isOwned(int partition) {
+		return this.partitionLeases == null || this.partitionLeases.tryAcquire(partition);
+	}
+
+	private void release(int partition) {
+		if (this.partitionLeases != null) {
+			this.partitionLeases.release(partition);
+		}
+	}
+
+	private Flux<Message<?>> streamFromHighWaterMark(int partition) {
+		String metadataKey = this.streaming.getMetadataKey();
+		if (this.partitioning.getCount() > 1) {
+			metadataKey += "." + partition;
+		}
+		CursorState cursorState = new CursorState(metadataKey, partition);
+		SqlParameterSource parameters = queryParameters(partition, highWaterMark(metadataKey));
+		return Flux
+			.fromStream(() -> this.jdbcTemplate.queryForStream(this.query, parameters, new ColumnMapRowMapper()))
+			.subscribeOn(Schedulers.boundedElastic())
+			.takeWhile((row) -> cursorState.isOwned())
+			// The row is delivered when the next one is requested, or the cursor is completed
+			.doOnNext(cursorState::emitting)
+			.doOnComplete(cursorState::completed)
+			.doFinally((signal) -> cursorState.flush())
+			.<Message<?>>map((row) -> MessageBuilder.withPayload(row).build());
+	}
+
+	private SqlParameterSource queryParameters(int partition, String highWaterMark) {
+		// The driver converts the persisted string to the type of the key column
+		return new MapSqlParameterSource()
+			.addValue(LAST_KEY_PARAMETER, highWaterMark, this.streaming.getKeyType().getVendorTypeNumber())
+			.addValue(PARTITION_PARAMETER, partition)
+			.addValue(PARTITION_COUNT_PARAMETER, this.partitioning.getCount())
+			.addValue(RANGE_START_PARAMETER, rangeBound(partition))
+			.addValue(RANGE_END_PARAMETER, rangeBound(partition + 1));
+	}
+
+	/**
+	 * Calculate the first key of the range partition, or the key after the last partition,
+	 * in {@link BigInteger} since the key space may be wider than {@code long} can hold.
+	 */
+	private long rangeBound(int partition) {
+		BigInteger rangeMin = BigInteger.valueOf(this.partitioning.getRangeMin());
+		BigInteger rangeEnd = BigInteger.valueOf(this.partitioning.getRangeMax()).add(BigInteger.ONE);
+		BigInteger span = rangeEnd.subtract(rangeMin)
+			.add(BigInteger.valueOf(this.partitioning.getCount() - 1))
+			.divide(BigInteger.valueOf(this.partitioning.getCount()));
+		return rangeMin.add(span.multiply(BigInteger.valueOf(partition))).min(rangeEnd).longValueExact();
+	}
+
+	private String highWaterMark(String metadataKey) {
+		String highWaterMark = this.metadataStore.get(metadataKey);
+		return (highWaterMark != null) ? highWaterMark : this.streaming.getInitialKey();
+	}
+
+	/**
+	 * Resolve parameters of the update statement against the row columns ignoring the
+	 * case, the way the {@link ColumnMapRowMapper} exposes them.
+	 */
+	private static SqlParameterSource rowParameterSource(Map<String, Object> row) {
+		return new AbstractSqlParameterSource() {
+
+			@Override
+			public boolean hasValue(String paramName) {
+				return row.containsKey(paramName);
+			}
+
+			@Override
+			public @Nullable Object getValue(String paramName) {
+				Assert.isTrue(hasValue(paramName), () -> "No column for parameter '" + paramName + "'");
+				return row.get(paramName);
+			}
+
+		};
+	}
+
+	/**
+	 * The per-cursor state of delivered rows which are not yet acknowledged in the database
+	 * and metadata store. The stream of the cursor is advanced to the next row only on a
+	 * new request, after the subscriber has returned from {@code onNext()} for the current
+	 * row; so reading the next row, or the end of the cursor, marks the current one as
+	 * delivered.
+	 */
+	private final class CursorState {
+
+		private final String metadataKey;
+
+		private final int partition;
+
+		private final List<SqlParameterSource> pendingUpdates = new ArrayList<>();
+
+		private int pendingRows;
+
+		private @Nullable Object lastKey;
+
+		private @Nullable Map<String, Object> inFlightRow;
+
+		private volatile boolean owned = true;
+
+		CursorState(String metadataKey, int partition) {
+			this.metadataKey = metadataKey;
+			this.partition = partition;
+		}
+
+		boolean isOwned() {
+			return this.owned;
+		}
+
+		synchronized void emitting(Map<String, Object> row) {
+			if (this.inFlightRow != null) {
+				delivered(this.inFlightRow);
+			}
+			this.inFlightRow = row;
+		}
+
+		synchronized void completed() {
+			if (this.inFlightRow != null) {
+				delivered(this.inFlightRow);
+				this.inFlightRow = null;
+			}
+		}
+
+		private void delivered(Map<String, Object> row) {
+			this.lastKey = row.get(JdbcStreamingSupplier.this.streaming.getKeyColumn());
+			if (JdbcStreamingSupplier.this.update != null) {
+				this.pendingUpdates.add(rowParameterSource(row));
+			}
+			if (++this.pendingRows >= JdbcStreamingSupplier.this.streaming.getBatchSize()) {
+				flush();
+			}
+		}
+
+		synchronized void flush() {
+			if (this.pendingRows > 0) {
+				if (!this.pendingUpdates.isEmpty()) {
+					JdbcStreamingSupplier.this.jdbcTemplate.batchUpdate(JdbcStreamingSupplier.this.update,
+							this.pendingUpdates.toArray(new SqlParameterSource[0]));
+					this.pendingUpdates.clear();
+				}
+				if (this.lastKey != null) {
+					JdbcStreamingSupplier.this.metadataStore.put(this.metadataKey, this.lastKey.toString());
+				}
+				this.pendingRows = 0;
+				// Renew the lease while streaming, or stop the cursor if taken over by another instance
+				this.owned = JdbcStreamingSupplier.this.isOwned(this.partition);
+			}
+		}
+
+	}
+
+}
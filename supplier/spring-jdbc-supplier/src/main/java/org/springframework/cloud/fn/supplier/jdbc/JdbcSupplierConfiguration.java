@@ -34,6 +34,7 @@ import org.springframework.cloud.fn.splitter.SplitterFunctionConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.integration.core.MessageSource;
 import org.springframework.integration.jdbc.inbound.JdbcPollingChannelAdapter;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
 import org.springframework.integration.util.IntegrationReactiveUtils;
 import org.springframework.messaging.Message;
 
@@ -63,6 +64,8 @@ public class JdbcSupplierConfiguration {
 
 	@Bean(name = "jdbcSupplier")
 	@ConditionalOnProperty(prefix = "jdbc.supplier", name = "split", matchIfMissing = true)
+	@ConditionalOnProperty(prefix = "jdbc.supplier.streaming", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Supplier<Flux<Message<?>>> splittedSupplier(JdbcPollingChannelAdapter jdbcMessageSource,
 			Function<Flux<Message<Object>>, Flux<Message<?>>> splitterFunction) {
 
@@ -71,8 +74,18 @@ public class JdbcSupplierConfiguration {
 
 	@Bean
 	@ConditionalOnProperty(prefix = "jdbc.supplier", name = "split", havingValue = "false")
+	@ConditionalOnProperty(prefix = "jdbc.supplier.streaming", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Supplier<Message<?>> jdbcSupplier(@Qualifier("jdbcMessageSource") MessageSource<Object> jdbcMessageSource) {
 		return jdbcMessageSource::receive;
 	}
 
+	@Bean(name = "jdbcSupplier")
+	@ConditionalOnProperty(prefix = "jdbc.supplier.streaming", name = "enabled")
+	public Supplier<Flux<Message<?>>> streamingSupplier(JdbcSupplierProperties properties, DataSource dataSource,
+			ConcurrentMetadataStore metadataStore) {
+
+		return new JdbcStreamingSupplier(dataSource, metadataStore, properties);
+	}
+
 }
@@ -16,9 +16,16 @@
 
 package org.springframework.cloud.fn.supplier.jdbc;
 
+import java.sql.JDBCType;
+import java.time.Duration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -51,6 +58,12 @@ public class JdbcSupplierProperties {
 	 */
 	private int maxRows = 0;
 
+	/**
+	 * Options for streaming rows from a cursor with keyset pagination.
+	 */
+	@Valid
+	private Streaming streaming = new Streaming();
+
 	@NotNull
 	public String getQuery() {
 		return this.query;
@@ -84,4 +97,258 @@ public class JdbcSupplierProperties {
 		this.maxRows = maxRows;
 	}
 
+	public Streaming getStreaming() {
+		return this.streaming;
+	}
+
+	public void setStreaming(Streaming streaming) {
+		this.streaming = streaming;
+	}
+
+	public static class Streaming {
+
+		/**
+		 * Whether to stream rows from a forward-only cursor instead of polling pages of
+		 * 'maxRows'. The query must select rows with the key column greater than the
+		 * ':lastKey' parameter ordered by that column.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The number of rows fetched from the database per round trip.
+		 */
+		@Min(1)
+		private int fetchSize = 1000;
+
+		/**
+		 * The column with monotonically increasing values to track the high-water mark.
+		 */
+		private String keyColumn;
+
+		/**
+		 * The JDBC type of the key column to bind the ':lastKey' parameter with.
+		 */
+		@NotNull
+		private JDBCType keyType = JDBCType.BIGINT;
+
+		/**
+		 * The ':lastKey' parameter value when there is no high-water mark in the metadata
+		 * store yet.
+		 */
+		private String initialKey = "0";
+
+		/**
+		 * The metadata store key to persist the high-water mark.
+		 */
+		private String metadataKey = "jdbc-supplier-high-water-mark";
+
+		/**
+		 * The number of emitted rows to execute the 'update' statement as a batch for,
+		 * and to persist the high-water mark after.
+		 */
+		@Min(1)
+		private int batchSize = 100;
+
+		/**
+		 * The time to wait before the next query after an empty cursor.
+		 */
+		private Duration idleInterval = Duration.ofSeconds(1);
+
+		/**
+		 * Options for streaming partitions of the key space concurrently.
+		 */
+		@Valid
+		private Partitioning partitioning = new Partitioning();
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getFetchSize() {
+			return this.fetchSize;
+		}
+
+		public void setFetchSize(int fetchSize) {
+			this.fetchSize = fetchSize;
+		}
+
+		public String getKeyColumn() {
+			return this.keyColumn;
+		}
+
+		public void setKeyColumn(String keyColumn) {
+			this.keyColumn = keyColumn;
+		}
+
+		public JDBCType getKeyType() {
+			return this.keyType;
+		}
+
+		public void setKeyType(JDBCType keyType) {
+			this.keyType = keyType;
+		}
+
+		public String getInitialKey() {
+			return this.initialKey;
+		}
+
+		public void setInitialKey(String initialKey) {
+			this.initialKey = initialKey;
+		}
+
+		public String getMetadataKey() {
+			return this.metadataKey;
+		}
+
+		public void setMetadataKey(String metadataKey) {
+			this.metadataKey = metadataKey;
+		}
+
+		public int getBatchSize() {
+			return this.batchSize;
+		}
+
+		public void setBatchSize(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		public Duration getIdleInterval() {
+			return this.idleInterval;
+		}
+
+		public void setIdleInterval(Duration idleInterval) {
+			this.idleInterval = idleInterval;
+		}
+
+		public Partitioning getPartitioning() {
+			return this.partitioning;
+		}
+
+		public void setPartitioning(Partitioning partitioning) {
+			this.partitioning = partitioning;
+		}
+
+		@AssertTrue(message = "The 'keyColumn' is required for streaming mode")
+		boolean isKeyColumnProvided() {
+			return !this.enabled || StringUtils.hasText(this.keyColumn);
+		}
+
+	}
+
+	public static class Partitioning {
+
+		/**
+		 * The number of partitions to split the key space into and stream concurrently.
+		 */
+		@Min(1)
+		private int count = 1;
+
+		/**
+		 * How the key space is split into partitions. With 'modulo' the query must
+		 * select rows by the ':partition' and ':partitionCount' parameters, e.g. 'mod(id,
+		 * :partitionCount) = :partition'. With 'range' the query must select rows by the
+		 * ':rangeStart' (inclusive) and ':rangeEnd' (exclusive) parameters.
+		 */
+		private PartitionStrategy strategy = PartitionStrategy.MODULO;
+
+		/**
+		 * The lowest key of the 'range' strategy.
+		 */
+		private long rangeMin;
+
+		/**
+		 * The highest key of the 'range' strategy; must be less than Long.MAX_VALUE.
+		 */
+		private long rangeMax = Long.MAX_VALUE - 1;
+
+		/**
+		 * Whether to coordinate the ownership of partitions across application instances
+		 * through the metadata store, so that replicas share the partitions.
+		 */
+		private boolean coordinate;
+
+		/**
+		 * The time after which a partition not renewed by its owner is taken over by
+		 * another instance.
+		 */
+		private Duration leaseTimeout = Duration.ofSeconds(30);
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public PartitionStrategy getStrategy() {
+			return this.strategy;
+		}
+
+		public void setStrategy(PartitionStrategy strategy) {
+			this.strategy = strategy;
+		}
+
+		public long getRangeMin() {
+			return this.rangeMin;
+		}
+
+		public void setRangeMin(long rangeMin) {
+			this.rangeMin = rangeMin;
+		}
+
+		public long getRangeMax() {
+			return this.rangeMax;
+		}
+
+		public void setRangeMax(long rangeMax) {
+			this.rangeMax = rangeMax;
+		}
+
+		public boolean isCoordinate() {
+			return this.coordinate;
+		}
+
+		public void setCoordinate(boolean coordinate) {
+			this.coordinate = coordinate;
+		}
+
+		public Duration getLeaseTimeout() {
+			return this.leaseTimeout;
+		}
+
+		public void setLeaseTimeout(Duration leaseTimeout) {
+			this.leaseTimeout = leaseTimeout;
+		}
+
+		@AssertTrue(message = "The 'rangeMax' must not be less than 'rangeMin'")
+		boolean isRangeValid() {
+			return this.rangeMax >= this.rangeMin;
+		}
+
+		@AssertTrue(message = "The 'rangeMax' must be less than Long.MAX_VALUE")
+		boolean isRangeMaxValid() {
+			return this.rangeMax < Long.MAX_VALUE;
+		}
+
+	}
+
+	public enum PartitionStrategy {
+
+		/**
+		 * Partition by the key modulo the number of partitions.
+		 */
+		MODULO,
+
+		/**
+		 * Partition by equal ranges of keys between 'rangeMin' and 'rangeMax'.
+		 */
+		RANGE
+
+	}
+
 }
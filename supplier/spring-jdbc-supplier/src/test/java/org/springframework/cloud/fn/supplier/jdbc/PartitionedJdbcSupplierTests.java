@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.jdbc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class PartitionedJdbcSupplierTests {
+
+	private static final String METADATA_KEY = "jdbc-supplier-high-water-mark";
+
+	private final SimpleMetadataStore metadataStore = new SimpleMetadataStore();
+
+	private EmbeddedDatabase dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		this.dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.build();
+		this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+		this.jdbcTemplate.execute("create table items(id bigint, name varchar(100))");
+		for (long id = -5; id <= 4; id++) {
+			this.jdbcTemplate.update("insert into items values (?, ?)", id, "item" + id);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.dataSource.shutdown();
+	}
+
+	@Test
+	void moduloPartitionsHaveOwnHighWaterMarks() {
+		JdbcSupplierProperties properties = properties(
+				"select id, name from items where id > :lastKey and mod(id, :partitionCount) = :partition "
+						+ "order by id");
+		properties.getStreaming().setInitialKey("0");
+		properties.getStreaming().getPartitioning().setCount(2);
+
+		JdbcStreamingSupplier supplier = new JdbcStreamingSupplier(this.dataSource, this.metadataStore, properties);
+
+		StepVerifier.create(supplier.get().map(PartitionedJdbcSupplierTests::id))
+			.recordWith(CopyOnWriteArrayList::new)
+			.expectNextCount(4)
+			.consumeRecordedWith((ids) -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L, 4L))
+			.then(() -> await().untilAsserted(() -> {
+				assertThat(this.metadataStore.get(METADATA_KEY + ".0")).isEqualTo("4");
+				assertThat(this.metadataStore.get(METADATA_KEY + ".1")).isEqualTo("3");
+			}))
+			.then(() -> this.jdbcTemplate.update("insert into items values (5, 'item5')"))
+			.assertNext((id) -> assertThat(id).isEqualTo(5L))
+			.then(() -> await()
+				.untilAsserted(() -> assertThat(this.metadataStore.get(METADATA_KEY + ".1")).isEqualTo("5")))
+			.thenCancel()
+			.verify(Duration.ofSeconds(10));
+
+		assertThat(this.metadataStore.get(METADATA_KEY + ".0")).isEqualTo("4");
+	}
+
+	@Test
+	void rangePartitionsCoverWholeKeySpace() {
+		JdbcSupplierProperties properties = properties(
+				"select id, name from items where id > :lastKey and id >= :rangeStart and id < :rangeEnd order by id");
+		JdbcSupplierProperties.Partitioning partitioning = properties.getStreaming().getPartitioning();
+		partitioning.setCount(4);
+		partitioning.setStrategy(JdbcSupplierProperties.PartitionStrategy.RANGE);
+		partitioning.setRangeMin(Long.MIN_VALUE);
+		partitioning.setRangeMax(Long.MAX_VALUE - 1);
+		properties.getStreaming().setInitialKey(Long.toString(Long.MIN_VALUE));
+
+		JdbcStreamingSupplier supplier = new JdbcStreamingSupplier(this.dataSource, this.metadataStore, properties);
+
+		StepVerifier.create(supplier.get().map(PartitionedJdbcSupplierTests::id))
+			.recordWith(CopyOnWriteArrayList::new)
+			.expectNextCount(10)
+			.consumeRecordedWith((ids) -> assertThat(ids).containsExactlyInAnyOrder(-5L, -4L, -3L, -2L, -1L, 0L, 1L,
+					2L, 3L, 4L))
+			// The negative keys are in the second quarter of the key space, the rest in the third one
+			.then(() -> await().untilAsserted(() -> {
+				assertThat(this.metadataStore.get(METADATA_KEY + ".1")).isEqualTo("-1");
+				assertThat(this.metadataStore.get(METADATA_KEY + ".2")).isEqualTo("4");
+			}))
+			.thenCancel()
+			.verify(Duration.ofSeconds(10));
+
+		assertThat(this.metadataStore.get(METADATA_KEY + ".0")).isNull();
+		assertThat(this.metadataStore.get(METADATA_KEY + ".3")).isNull();
+	}
+
+	@Test
+	void partitionsAreTakenOverFromStoppedInstance() {
+		JdbcSupplierProperties properties = properties(
+				"select id, name from items where id > :lastKey and mod(id, :partitionCount) = :partition "
+						+ "order by id");
+		properties.getStreaming().setInitialKey("0");
+		properties.getStreaming().setIdleInterval(Duration.ofMillis(50));
+		JdbcSupplierProperties.Partitioning partitioning = properties.getStreaming().getPartitioning();
+		partitioning.setCount(2);
+		partitioning.setCoordinate(true);
+		// Longer than the test, so the partitions are taken over only if released
+		partitioning.setLeaseTimeout(Duration.ofMinutes(1));
+
+		JdbcStreamingSupplier first = new JdbcStreamingSupplier(this.dataSource, this.metadataStore, properties);
+		JdbcStreamingSupplier second = new JdbcStreamingSupplier(this.dataSource, this.metadataStore, properties);
+
+		List<Long> firstIds = new CopyOnWriteArrayList<>();
+		List<Long> secondIds = new CopyOnWriteArrayList<>();
+
+		Disposable firstSubscription = first.get().map(PartitionedJdbcSupplierTests::id).subscribe(firstIds::add);
+		await().untilAsserted(() -> assertThat(firstIds).containsExactlyInAnyOrder(1L, 2L, 3L, 4L));
+
+		Disposable secondSubscription = second.get()
+			.map(PartitionedJdbcSupplierTests::id)
+			.subscribe(secondIds::add);
+		try {
+			this.jdbcTemplate.update("insert into items values (5, 'item5')");
+			await().untilAsserted(() -> assertThat(this.metadataStore.get(METADATA_KEY + ".1")).isEqualTo("5"));
+			assertThat(firstIds).contains(5L);
+			assertThat(secondIds).isEmpty();
+
+			firstSubscription.dispose();
+
+			this.jdbcTemplate.update("insert into items values (6, 'item6')");
+			this.jdbcTemplate.update("insert into items values (7, 'item7')");
+			// The second instance takes over the released leases from the high-water marks of the first one
+			await().atMost(Duration.ofSeconds(10))
+				.untilAsserted(() -> assertThat(secondIds).containsExactlyInAnyOrder(6L, 7L));
+			assertThat(firstIds).doesNotContain(6L, 7L);
+		}
+		finally {
+			firstSubscription.dispose();
+			secondSubscription.dispose();
+		}
+	}
+
+	private static JdbcSupplierProperties properties(String query) {
+		JdbcSupplierProperties properties = new JdbcSupplierProperties();
+		properties.setQuery(query);
+		properties.getStreaming().setEnabled(true);
+		properties.getStreaming().setKeyColumn("id");
+		properties.getStreaming().setBatchSize(1);
+		properties.getStreaming().setIdleInterval(Duration.ofMillis(50));
+		return properties;
+	}
+
+	private static Long id(Message<?> message) {
+		return (Long) ((Map<?, ?>) message.getPayload()).get("ID");
+	}
+
+}
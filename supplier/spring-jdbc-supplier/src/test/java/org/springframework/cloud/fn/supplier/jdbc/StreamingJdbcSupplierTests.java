@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.jdbc;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = { "jdbc.supplier.query=select id, name from test where id > :lastKey order by id",
+		"jdbc.supplier.update=update test set tag = '1' where id = :id", "jdbc.supplier.streaming.enabled=true",
+		"jdbc.supplier.streaming.key-column=id", "jdbc.supplier.streaming.fetch-size=2",
+		"jdbc.supplier.streaming.batch-size=2" })
+@DirtiesContext
+public class StreamingJdbcSupplierTests {
+
+	@Autowired
+	Supplier<Flux<Message<?>>> jdbcSupplier;
+
+	@Autowired
+	ConcurrentMetadataStore metadataStore;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	DataSource dataSource;
+
+	@Test
+	void rowsAreStreamedFromHighWaterMark() {
+		StepVerifier.create(this.jdbcSupplier.get().map(Message::getPayload).cast(Map.class))
+			.assertNext((row) -> assertThat(row.get("NAME")).isEqualTo("Bob"))
+			.assertNext((row) -> assertThat(row.get("NAME")).isEqualTo("Jane"))
+			.assertNext((row) -> assertThat(row.get("NAME")).isEqualTo("John"))
+			.then(() -> this.jdbcTemplate.update("insert into test values (4, 'Jill', NULL)"))
+			.assertNext((row) -> assertThat(row.get("NAME")).isEqualTo("Jill"))
+			.thenCancel()
+			.verify(Duration.ofSeconds(10));
+
+		// The row in flight on cancel is not delivered
+		await().untilAsserted(() -> assertThat(this.metadataStore.get("jdbc-supplier-high-water-mark")).isEqualTo("3"));
+		assertThat(this.jdbcTemplate.queryForObject("select count(*) from test where tag = '1'", Integer.class))
+			.isEqualTo(3);
+
+		StepVerifier.create(this.jdbcSupplier.get().map(Message::getPayload).cast(Map.class))
+			.assertNext((row) -> assertThat(row.get("NAME")).isEqualTo("Jill"))
+			.thenCancel()
+			.verify(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void highWaterMarkIsBoundWithKeyType() {
+		this.jdbcTemplate.execute("create table codes (code varchar(10))");
+		this.jdbcTemplate.update("insert into codes values ('00123'), ('00124'), ('0099')");
+		SimpleMetadataStore metadataStore = new SimpleMetadataStore();
+		metadataStore.put("codes-high-water-mark", "00123");
+
+		JdbcSupplierProperties properties = new JdbcSupplierProperties();
+		properties.setQuery("select code from codes where code > :lastKey order by code");
+		properties.getStreaming().setKeyColumn("code");
+		properties.getStreaming().setKeyType(JDBCType.VARCHAR);
+		properties.getStreaming().setMetadataKey("codes-high-water-mark");
+		JdbcStreamingSupplier supplier = new JdbcStreamingSupplier(this.dataSource, metadataStore, properties);
+
+		// The leading zeros are significant for the varchar key
+		StepVerifier.create(supplier.get().map(Message::getPayload).cast(Map.class))
+			.assertNext((row) -> assertThat(row.get("CODE")).isEqualTo("00124"))
+			.assertNext((row) -> assertThat(row.get("CODE")).isEqualTo("0099"))
+			.thenCancel()
+			.verify(Duration.ofSeconds(10));
+	}
+
+	@SpringBootApplication
+	static class JdbcSupplierTestApplication {
+
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.mongo;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.integration.mongodb.support.MongoHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link Supplier} which emits inserted, updated and replaced documents of the
+ * {@link MongodbSupplierProperties#getCollection()} from a MongoDB change stream as
+ * they happen, instead of polling the collection with a query.
+ * <p>
+ * The resume token of the last delivered event is persisted in the
+ * {@link ConcurrentMetadataStore} every
+ * {@link MongodbSupplierProperties.ChangeStream#getCheckpointEvery()} events and when
+ * the {@link Flux} is terminated, so the change stream resumes from there on restart or
+ * after a failure. An event counts as delivered when the subscriber has returned from
+ * its {@code onNext()}: the next event is emitted, so the event in flight on a failure or
+ * cancellation is emitted again on resume (at-least-once delivery).
+ * <p>
+ * The change stream is resumed with an exponential backoff, from the
+ * {@link MongodbSupplierProperties.ChangeStream#getRetryBackoff()} up to the
+ * {@link MongodbSupplierProperties.ChangeStream#getMaxRetryBackoff()}, up to
+ * {@link MongodbSupplierProperties.ChangeStream#getMaxRetries()} times, if set; every
+ * attempt is logged and counted in the {@code mongodb.supplier.change.stream.resumes}
+ * counter tagged with the {@code collection}. The other events, e.g. {@code delete} or
+ * {@code invalidate}, are filtered out on the server, as well as the events not matching
+ * the optional {@link MongodbSupplierProperties.ChangeStream#getFilter()} aggregation
+ * pipeline.
+ *
+ * @since 6.0.1
+ */
+public class MongodbChangeStreamSupplier implements Supplier<Flux<Message<?>>> {
+
+	private static final Log LOGGER = LogFactory.getLog(MongodbChangeStreamSupplier.class);
+
+	private static final Document OPERATION_TYPE_MATCH = new Document("$match",
+			new Document("operationType", new Document("$in", List.of("insert", "update", "replace"))));
+
+	private final ReactiveMongoTemplate mongoTemplate;
+
+	private final ConcurrentMetadataStore metadataStore;
+
+	private final String collection;
+
+	private final MongodbSupplierProperties.ChangeStream changeStream;
+
+	private final Document[] filter;
+
+	private final Counter resumes;
+
+	public MongodbChangeStreamSupplier(ReactiveMongoTemplate mongoTemplate, ConcurrentMetadataStore metadataStore,
+			MongodbSupplierProperties properties, MeterRegistry meterRegistry) {
+
+		this.mongoTemplate = mongoTemplate;
+		this.metadataStore = metadataStore;
+		this.collection = properties.getCollection();
+		this.changeStream = properties.getChangeStream();
+		this.filter = pipeline(this.changeStream.getFilter());
+		this.resumes = Counter.builder("mongodb.supplier.change.stream.resumes")
+			.description("The attempts to resume the change stream after a failure")
+			.tag("collection", this.collection)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Flux<Message<?>> get() {
+		Integer maxRetries = this.changeStream.getMaxRetries();
+		return Flux.defer(this::changeStreamFromResumeToken)
+			.retryWhen(Retry
+				.backoff((maxRetries != null) ? maxRetries : Long.MAX_VALUE, this.changeStream.getRetryBackoff())
+				.maxBackoff(this.changeStream.getMaxRetryBackoff())
+				// The attempts are counted from the last emitted event
+				.transientErrors(true)
+				.doBeforeRetry((signal) -> {
+					this.resumes.increment();
+					LOGGER.warn("Resuming change stream for '" + this.collection + "' after failure (attempt "
+							+ (signal.totalRetriesInARow() + 1) + "): " + signal.failure().getMessage());
+				}));
+	}
+
+	private Flux<Message<?>> changeStreamFromResumeToken() {
+		ChangeStreamOptions.ChangeStreamOptionsBuilder options = ChangeStreamOptions.builder();
+		if (this.changeStream.isFullDocumentLookup()) {
+			options.fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+		}
+		options.filter(this.filter);
+		String resumeToken = this.metadataStore.get(this.changeStream.getMetadataKey());
+		if (resumeToken != null) {
+			options.resumeAfter(BsonDocument.parse(resumeToken));
+		}
+
+		ResumeTokenCheckpoint checkpoint = new ResumeTokenCheckpoint();
+		return this.mongoTemplate.changeStream(this.collection, options.build(), Document.class)
+			.doOnNext(checkpoint::emitting)
+			.doOnComplete(checkpoint::completed)
+			.doFinally((signal) -> checkpoint.flush())
+			.map(MongodbChangeStreamSupplier::toMessage);
+	}
+
+	private static Message<?> toMessage(ChangeStreamEvent<Document> event) {
+		Document body = event.getBody();
+		ChangeStreamDocument<Document> raw = event.getRaw();
+		String payload;
+		if (body != null) {
+			payload = body.toJson();
+		}
+		else {
+			BsonDocument documentKey = (raw != null) ? raw.getDocumentKey() : null;
+			payload = (documentKey != null) ? documentKey.toJson() : "{}";
+		}
+		return MessageBuilder.withPayload(payload)
+			.setHeader(MongoHeaders.COLLECTION_NAME, event.getCollectionName())
+			.setHeader(MongoHeaders.CHANGE_STREAM_OPERATION_TYPE, event.getOperationType())
+			.setHeader(MongoHeaders.CHANGE_STREAM_TIMESTAMP, event.getTimestamp())
+			.setHeader(MongoHeaders.CHANGE_STREAM_RESUME_TOKEN, event.getResumeToken())
+			.build();
+	}
+
+	private static Document[] pipeline(@Nullable String filter) {
+		if (!StringUtils.hasText(filter)) {
+			return new Document[] { OPERATION_TYPE_MATCH };
+		}
+		BsonArray stages = BsonArray.parse(filter);
+		Document[] pipeline = new Document[stages.size() + 1];
+		pipeline[0] = OPERATION_TYPE_MATCH;
+		for (int i = 0; i < stages.size(); i++) {
+			pipeline[i + 1] = Document.parse(stages.get(i).asDocument().toJson());
+		}
+		return pipeline;
+	}
+
+	/**
+	 * Tracks the resume token of the last delivered event of a change stream
+	 * subscription. The events are emitted one after another on the same subscription,
+	 * so the subscriber has returned from {@code onNext()} for the previous event when
+	 * the next one is emitted, and the change stream can be resumed after its token.
+	 */
+	private final class ResumeTokenCheckpoint {
+
+		private @Nullable BsonValue resumeToken;
+
+		private @Nullable ChangeStreamEvent<Document> inFlightEvent;
+
+		private int pendingEvents;
+
+		synchronized void emitting(ChangeStreamEvent<Document> event) {
+			if (this.inFlightEvent != null) {
+				delivered(this.inFlightEvent);
+			}
+			this.inFlightEvent = event;
+		}
+
+		synchronized void completed() {
+			if (this.inFlightEvent != null) {
+				delivered(this.inFlightEvent);
+				this.inFlightEvent = null;
+			}
+		}
+
+		private void delivered(ChangeStreamEvent<Document> event) {
+			this.resumeToken = event.getResumeToken();
+			if (++this.pendingEvents >= MongodbChangeStreamSupplier.this.changeStream.getCheckpointEvery()) {
+				flush();
+			}
+		}
+
+		synchronized void flush() {
+			if (this.pendingEvents > 0 && this.resumeToken instanceof BsonDocument token) {
+				MongodbChangeStreamSupplier.this.metadataStore
+					.put(MongodbChangeStreamSupplier.this.changeStream.getMetadataKey(), token.toJson());
+				this.pendingEvents = 0;
+			}
+		}
+
+	}
+
+}
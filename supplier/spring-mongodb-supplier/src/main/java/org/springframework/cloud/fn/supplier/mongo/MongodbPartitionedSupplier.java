@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.mongo;
+
+import java.math.BigInteger;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.fn.common.metadata.store.MetadataStorePartitionLeases;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link Supplier} which splits the key space of the
+ * {@link MongodbSupplierProperties.Partitioning#getKeyField()} into partitions and polls
+ * them concurrently with keyset pagination, merging the documents into the result
+ * {@link Flux}.
+ * <p>
+ * Each partition pages through documents matching the
+ * {@link MongodbSupplierProperties#getQuery()} in the key order, and the key of the last
+ * delivered document is a high-water mark of the partition persisted in the
+ * {@link ConcurrentMetadataStore}, so the documents fetched but not yet delivered when
+ * the {@link Flux} is cancelled are polled again (at-least-once delivery). The
+ * {@link MongodbSupplierProperties.PartitionStrategy#MODULO} strategy relies on the
+ * {@code $mod} operator, which matches only numeric keys, so the documents with other
+ * types of the key, e.g. {@code ObjectId} or string, are never polled with it; the
+ * {@link MongodbSupplierProperties.PartitionStrategy#RANGE} strategy is for numeric keys
+ * as well. When
+ * {@link MongodbSupplierProperties.Partitioning#isCoordinate()}, an instance polls only
+ * partitions it holds a lease for in the {@link MetadataStorePartitionLeases}, and
+ * releases them when the {@link Flux} is cancelled.
+ *
+ * @since 6.0.1
+ */
+public class MongodbPartitionedSupplier implements Supplier<Flux<Message<?>>> {
+
+	private static final String KEY_VALUE = "value";
+
+	private final ReactiveMongoTemplate mongoTemplate;
+
+	private final ConcurrentMetadataStore metadataStore;
+
+	private final String collection;
+
+	private final String query;
+
+	private final MongodbSupplierProperties.Partitioning partitioning;
+
+	private final @Nullable MetadataStorePartitionLeases partitionLeases;
+
+	public MongodbPartitionedSupplier(ReactiveMongoTemplate mongoTemplate, ConcurrentMetadataStore metadataStore,
+			MongodbSupplierProperties properties) {
+
+		this.partitioning = properties.getPartitioning();
+		Assert.hasText(this.partitioning.getKeyField(), "'keyField' must be provided for partitioned mode");
+		this.mongoTemplate = mongoTemplate;
+		this.metadataStore = metadataStore;
+		this.collection = properties.getCollection();
+		this.query = properties.getQuery();
+		this.partitionLeases = this.partitioning.isCoordinate()
+				? new MetadataStorePartitionLeases(metadataStore, this.partitioning.getMetadataKey() + ".lease.",
+						this.partitioning.getLeaseTimeout())
+				: null;
+	}
+
+	@Override
+	public Flux<Message<?>> get() {
+		int partitionCount = this.partitioning.getCount();
+		// Request one document per partition, so the next one is fetched only when the previous one is delivered
+		return Flux.range(0, partitionCount).flatMap(this::partition, partitionCount, 1);
+	}
+
+	private Flux<Message<?>> partition(int partition) {
+		return Flux.defer(() -> isOwned(partition) ? nextPage(partition) : Flux.<Message<?>>empty())
+			.switchIfEmpty(Mono.delay(this.partitioning.getIdleInterval()).then(Mono.<Message<?>>empty()))
+			.repeat()
+			.doFinally((signal) -> release(partition));
+	}
+
+	private boolean isOwned(int partition) {
+		return this.partitionLeases == null || this.partitionLeases.tryAcquire(partition);
+	}
+
+	private void release(int partition) {
+		if (this.partitionLeases != null) {
+			this.partitionLeases.release(partition);
+		}
+	}
+
+	private Flux<Message<?>> nextPage(int partition) {
+		String keyField = this.partitioning.getKeyField();
+		String metadataKey = this.partitioning.getMetadataKey() + "." + partition;
+		Object lastKey = lastKey(metadataKey);
+		Criteria criteria = partitionCriteria(partition);
+		if (lastKey != null) {
+			criteria = new Criteria().andOperator(criteria, Criteria.where(keyField).gt(lastKey));
+		}
+		Query pageQuery = new BasicQuery(this.query).addCriteria(criteria)
+			.with(Sort.by(Sort.Direction.ASC, keyField))
+			.limit(this.partitioning.getPageSize());
+
+		HighWaterMark highWaterMark = new HighWaterMark(metadataKey);
+		return this.mongoTemplate.find(pageQuery, Document.class, this.collection)
+			.doOnNext(highWaterMark::emitting)
+			.doOnComplete(highWaterMark::completed)
+			.doFinally((signal) -> highWaterMark.flush())
+			.map((document) -> MessageBuilder.withPayload(document.toJson()).build());
+	}
+
+	private Criteria partitionCriteria(int partition) {
+		String keyField = this.partitioning.getKeyField();
+		int partitionCount = this.partitioning.getCount();
+		if (this.partitioning.getStrategy() == MongodbSupplierProperties.PartitionStrategy.MODULO) {
+			return Criteria.where(keyField).mod(partitionCount, partition);
+		}
+		// The key space may be wider than long can hold, e.g. from Long.MIN_VALUE to Long.MAX_VALUE
+		BigInteger rangeMin = BigInteger.valueOf(this.partitioning.getRangeMin());
+		BigInteger rangeMax = BigInteger.valueOf(this.partitioning.getRangeMax());
+		BigInteger count = BigInteger.valueOf(partitionCount);
+		BigInteger span = rangeMax.subtract(rangeMin).add(count).divide(count);
+		BigInteger start = rangeMin.add(span.multiply(BigInteger.valueOf(partition)));
+		BigInteger end = start.add(span);
+		if (start.compareTo(rangeMax) > 0) {
+			// More partitions than keys in the range
+			return Criteria.where(keyField).in();
+		}
+		Criteria criteria = Criteria.where(keyField).gte(start.longValueExact());
+		return (end.compareTo(rangeMax) > 0) ? criteria.lte(rangeMax.longValueExact())
+				: criteria.lt(end.longValueExact());
+	}
+
+	private @Nullable Object lastKey(String metadataKey) {
+		String lastKey = this.metadataStore.get(metadataKey);
+		return (lastKey != null) ? Document.parse(lastKey).get(KEY_VALUE) : null;
+	}
+
+	/**
+	 * Tracks the key of the last delivered document of a partition page. The partitions
+	 * are merged with a prefetch of one, so the page cursor is asked for the next document
+	 * only after the previous one has been passed to the subscriber, and the last one is
+	 * delivered when the page is completed.
+	 */
+	private final class HighWaterMark {
+
+		private final String metadataKey;
+
+		private @Nullable Object lastKey;
+
+		private @Nullable Document inFlightDocument;
+
+		HighWaterMark(String metadataKey) {
+			this.metadataKey = metadataKey;
+		}
+
+		synchronized void emitting(Document document) {
+			if (this.inFlightDocument != null) {
+				delivered(this.inFlightDocument);
+			}
+			this.inFlightDocument = document;
+		}
+
+		synchronized void completed() {
+			if (this.inFlightDocument != null) {
+				delivered(this.inFlightDocument);
+				this.inFlightDocument = null;
+			}
+		}
+
+		private void delivered(Document document) {
+			this.lastKey = document.get(MongodbPartitionedSupplier.this.partitioning.getKeyField());
+		}
+
+		synchronized void flush() {
+			if (this.lastKey != null) {
+				// Keep the BSON type of the key, e.g. ObjectId or Date, in its JSON representation
+				MongodbPartitionedSupplier.this.metadataStore.put(this.metadataKey,
+						new Document(KEY_VALUE, this.lastKey).toJson());
+			}
+		}
+
+	}
+
+}
@@ -19,38 +19,52 @@ package org.springframework.cloud.fn.supplier.mongo;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.mongodb.autoconfigure.MongoAutoConfiguration;
+import org.springframework.boot.mongodb.autoconfigure.MongoReactiveAutoConfiguration;
 import org.springframework.cloud.fn.common.config.ComponentCustomizer;
 import org.springframework.cloud.fn.splitter.SplitterFunctionConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
 import org.springframework.integration.mongodb.inbound.MongoDbMessageSource;
 import org.springframework.integration.util.IntegrationReactiveUtils;
 import org.springframework.messaging.Message;
 
 /**
  * Auto-configuration for MongoDB supplier. Produces {@link MongoDbMessageSource} which
- * polls collection with the query after startup according to the polling properties.
+ * polls collection with the query after startup according to the polling properties, or
+ * a {@link MongodbChangeStreamSupplier} when {@code mongodb.supplier.change-stream.enabled}
+ * is set, or a {@link MongodbPartitionedSupplier} when
+ * {@code mongodb.supplier.partitioning.enabled} is set.
  *
  * @author Adam Zwickey
  * @author Artem Bilan
  * @author David Turanski
  */
-@AutoConfiguration(after = { MongoAutoConfiguration.class, SplitterFunctionConfiguration.class })
+@AutoConfiguration(after = { MongoAutoConfiguration.class, MongoReactiveAutoConfiguration.class,
+		SplitterFunctionConfiguration.class })
 @EnableConfigurationProperties({ MongodbSupplierProperties.class })
 public class MongodbSupplierConfiguration {
 
 	@Bean(name = "mongodbSupplier")
 	@ConditionalOnProperty(prefix = "mongodb", name = "split", matchIfMissing = true)
+	@ConditionalOnProperty(prefix = "mongodb.supplier.change-stream", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
+	@ConditionalOnProperty(prefix = "mongodb.supplier.partitioning", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Supplier<Flux<Message<?>>> splittedSupplier(@Qualifier("mongoDbSource") MongoDbMessageSource mongoDbSource,
 			Function<Flux<Message<Object>>, Flux<Message<?>>> splitterFunction) {
 
@@ -59,11 +73,39 @@ public class MongodbSupplierConfiguration {
 
 	@Bean
 	@ConditionalOnProperty(prefix = "mongodb", name = "split", havingValue = "false")
+	@ConditionalOnProperty(prefix = "mongodb.supplier.change-stream", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
+	@ConditionalOnProperty(prefix = "mongodb.supplier.partitioning", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Supplier<Message<?>> mongodbSupplier(@Qualifier("mongoDbSource") MongoDbMessageSource mongoDbSource) {
 		return mongoDbSource::receive;
 	}
 
+	@Bean(name = "mongodbSupplier")
+	@ConditionalOnProperty(prefix = "mongodb.supplier.change-stream", name = "enabled")
+	@ConditionalOnProperty(prefix = "mongodb.supplier.partitioning", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
+	public Supplier<Flux<Message<?>>> changeStreamSupplier(MongodbSupplierProperties properties,
+			ReactiveMongoTemplate reactiveMongoTemplate, ConcurrentMetadataStore metadataStore,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return new MongodbChangeStreamSupplier(reactiveMongoTemplate, metadataStore, properties,
+				meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
+	@Bean(name = "mongodbSupplier")
+	@ConditionalOnProperty(prefix = "mongodb.supplier.partitioning", name = "enabled")
+	public Supplier<Flux<Message<?>>> partitionedSupplier(MongodbSupplierProperties properties,
+			ReactiveMongoTemplate reactiveMongoTemplate, ConcurrentMetadataStore metadataStore) {
+
+		return new MongodbPartitionedSupplier(reactiveMongoTemplate, metadataStore, properties);
+	}
+
 	@Bean
+	@ConditionalOnProperty(prefix = "mongodb.supplier.change-stream", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
+	@ConditionalOnProperty(prefix = "mongodb.supplier.partitioning", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public MongoDbMessageSource mongoDbSource(MongodbSupplierProperties properties, MongoTemplate mongoTemplate,
 			@Nullable ComponentCustomizer<MongoDbMessageSource> mongoDbMessageSourceCustomizer) {
 
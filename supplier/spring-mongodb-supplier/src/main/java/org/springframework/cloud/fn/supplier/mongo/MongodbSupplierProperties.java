@@ -16,11 +16,17 @@
 
 package org.springframework.cloud.fn.supplier.mongo;
 
+import java.time.Duration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.expression.Expression;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -60,6 +66,18 @@ public class MongodbSupplierProperties {
 	 */
 	private boolean split = true;
 
+	/**
+	 * Options for emitting documents from a change stream instead of polling the query.
+	 */
+	@Valid
+	private ChangeStream changeStream = new ChangeStream();
+
+	/**
+	 * Options for polling partitions of the key space concurrently.
+	 */
+	@Valid
+	private Partitioning partitioning = new Partitioning();
+
 	@NotEmpty(message = "Query is required")
 	public String getQuery() {
 		return this.query;
@@ -102,4 +120,314 @@ public class MongodbSupplierProperties {
 		this.updateExpression = updateExpression;
 	}
 
+	public ChangeStream getChangeStream() {
+		return this.changeStream;
+	}
+
+	public void setChangeStream(ChangeStream changeStream) {
+		this.changeStream = changeStream;
+	}
+
+	public Partitioning getPartitioning() {
+		return this.partitioning;
+	}
+
+	public void setPartitioning(Partitioning partitioning) {
+		this.partitioning = partitioning;
+	}
+
+	public static class ChangeStream {
+
+		/**
+		 * Whether to emit changed documents from a change stream instead of polling the
+		 * collection with the query. Requires a replica set or a sharded cluster.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The aggregation pipeline as a JSON array of stages to filter change events on
+		 * the server, e.g. '[{ $match: { operationType: "insert" } }]'.
+		 */
+		private String filter;
+
+		/**
+		 * Whether to look up the current state of the full document for update events.
+		 */
+		private boolean fullDocumentLookup = true;
+
+		/**
+		 * The metadata store key to persist the resume token.
+		 */
+		private String metadataKey = "mongodb-supplier-resume-token";
+
+		/**
+		 * The number of emitted events to persist the resume token after.
+		 */
+		@Min(1)
+		private int checkpointEvery = 10;
+
+		/**
+		 * The initial backoff to resume the change stream after a failure.
+		 */
+		private Duration retryBackoff = Duration.ofSeconds(1);
+
+		/**
+		 * The max backoff to resume the change stream after consecutive failures.
+		 */
+		private Duration maxRetryBackoff = Duration.ofSeconds(30);
+
+		/**
+		 * The max number of attempts to resume the change stream after consecutive
+		 * failures, before the failure is propagated to the subscriber. Not limited if not
+		 * set.
+		 */
+		@Min(0)
+		private Integer maxRetries;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getFilter() {
+			return this.filter;
+		}
+
+		public void setFilter(String filter) {
+			this.filter = filter;
+		}
+
+		public boolean isFullDocumentLookup() {
+			return this.fullDocumentLookup;
+		}
+
+		public void setFullDocumentLookup(boolean fullDocumentLookup) {
+			this.fullDocumentLookup = fullDocumentLookup;
+		}
+
+		public String getMetadataKey() {
+			return this.metadataKey;
+		}
+
+		public void setMetadataKey(String metadataKey) {
+			this.metadataKey = metadataKey;
+		}
+
+		public int getCheckpointEvery() {
+			return this.checkpointEvery;
+		}
+
+		public void setCheckpointEvery(int checkpointEvery) {
+			this.checkpointEvery = checkpointEvery;
+		}
+
+		public Duration getRetryBackoff() {
+			return this.retryBackoff;
+		}
+
+		public void setRetryBackoff(Duration retryBackoff) {
+			this.retryBackoff = retryBackoff;
+		}
+
+		public Duration getMaxRetryBackoff() {
+			return this.maxRetryBackoff;
+		}
+
+		public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+			this.maxRetryBackoff = maxRetryBackoff;
+		}
+
+		public Integer getMaxRetries() {
+			return this.maxRetries;
+		}
+
+		public void setMaxRetries(Integer maxRetries) {
+			this.maxRetries = maxRetries;
+		}
+
+	}
+
+	public static class Partitioning {
+
+		/**
+		 * Whether to poll partitions of the key space concurrently with keyset pagination
+		 * instead of one query per poll.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The number of partitions to split the key space into and poll concurrently.
+		 */
+		@Min(1)
+		private int count = 4;
+
+		/**
+		 * The document field with monotonically increasing values to partition and page
+		 * by.
+		 */
+		private String keyField;
+
+		/**
+		 * How the key space is split into partitions: 'modulo' for a numeric key modulo
+		 * the number of partitions, or 'range' for equal ranges between 'rangeMin' and
+		 * 'rangeMax'. Both strategies support only numeric keys: the documents with
+		 * other types of the key are not polled.
+		 */
+		private PartitionStrategy strategy = PartitionStrategy.MODULO;
+
+		/**
+		 * The lowest key of the 'range' strategy.
+		 */
+		private long rangeMin;
+
+		/**
+		 * The highest key of the 'range' strategy.
+		 */
+		private long rangeMax = Long.MAX_VALUE;
+
+		/**
+		 * The max number of documents to fetch per partition query.
+		 */
+		@Min(1)
+		private int pageSize = 1000;
+
+		/**
+		 * The time to wait before polling a partition again after an empty page.
+		 */
+		private Duration idleInterval = Duration.ofSeconds(1);
+
+		/**
+		 * The metadata store key prefix to persist the high-water marks of partitions.
+		 */
+		private String metadataKey = "mongodb-supplier-high-water-mark";
+
+		/**
+		 * Whether to coordinate the ownership of partitions across application instances
+		 * through the metadata store, so that replicas share the partitions.
+		 */
+		private boolean coordinate;
+
+		/**
+		 * The time after which a partition not renewed by its owner is taken over by
+		 * another instance.
+		 */
+		private Duration leaseTimeout = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public String getKeyField() {
+			return this.keyField;
+		}
+
+		public void setKeyField(String keyField) {
+			this.keyField = keyField;
+		}
+
+		public PartitionStrategy getStrategy() {
+			return this.strategy;
+		}
+
+		public void setStrategy(PartitionStrategy strategy) {
+			this.strategy = strategy;
+		}
+
+		public long getRangeMin() {
+			return this.rangeMin;
+		}
+
+		public void setRangeMin(long rangeMin) {
+			this.rangeMin = rangeMin;
+		}
+
+		public long getRangeMax() {
+			return this.rangeMax;
+		}
+
+		public void setRangeMax(long rangeMax) {
+			this.rangeMax = rangeMax;
+		}
+
+		public int getPageSize() {
+			return this.pageSize;
+		}
+
+		public void setPageSize(int pageSize) {
+			this.pageSize = pageSize;
+		}
+
+		public Duration getIdleInterval() {
+			return this.idleInterval;
+		}
+
+		public void setIdleInterval(Duration idleInterval) {
+			this.idleInterval = idleInterval;
+		}
+
+		public String getMetadataKey() {
+			return this.metadataKey;
+		}
+
+		public void setMetadataKey(String metadataKey) {
+			this.metadataKey = metadataKey;
+		}
+
+		public boolean isCoordinate() {
+			return this.coordinate;
+		}
+
+		public void setCoordinate(boolean coordinate) {
+			this.coordinate = coordinate;
+		}
+
+		public Duration getLeaseTimeout() {
+			return this.leaseTimeout;
+		}
+
+		public void setLeaseTimeout(Duration leaseTimeout) {
+			this.leaseTimeout = leaseTimeout;
+		}
+
+		@AssertTrue(message = "The 'keyField' is required for partitioned mode")
+		boolean isKeyFieldProvided() {
+			return !this.enabled || StringUtils.hasText(this.keyField);
+		}
+
+		@AssertTrue(message = "The 'rangeMax' must not be less than 'rangeMin'")
+		boolean isRangeValid() {
+			return this.rangeMax >= this.rangeMin;
+		}
+
+	}
+
+	public enum PartitionStrategy {
+
+		/**
+		 * Partition by the key modulo the number of partitions.
+		 */
+		MODULO,
+
+		/**
+		 * Partition by equal ranges of keys between 'rangeMin' and 'rangeMax'.
+		 */
+		RANGE
+
+	}
+
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.mongo;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.fn.consumer.mongo.MongoDbTestContainerSupport;
+import org.springframework.context.ApplicationContext;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.integration.mongodb.inbound.MongoDbMessageSource;
+import org.springframework.integration.mongodb.support.MongoHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = { "mongodb.supplier.collection=changes", "mongodb.supplier.change-stream.enabled=true",
+		"mongodb.supplier.change-stream.filter=[{ $match: { 'fullDocument.greeting': { $ne: 'skip' } } }]",
+		"mongodb.supplier.change-stream.checkpoint-every=1" })
+@DirtiesContext
+class MongodbChangeStreamSupplierTests implements MongoDbTestContainerSupport {
+
+	@Autowired
+	private Supplier<Flux<Message<?>>> mongodbSupplier;
+
+	@Autowired
+	private MongoClient mongo;
+
+	@Autowired
+	private ConcurrentMetadataStore metadataStore;
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Test
+	void pollingMessageSourceIsNotCreated() {
+		assertThat(this.applicationContext.getBeanNamesForType(MongoDbMessageSource.class)).isEmpty();
+	}
+
+	@Test
+	void changedDocumentsAreEmittedAndResumeTokenIsPersisted() {
+		MongoCollection<Document> collection = this.mongo.getDatabase("test").getCollection("changes");
+
+		StepVerifier.create(this.mongodbSupplier.get())
+			.thenAwait(Duration.ofSeconds(1))
+			.then(() -> {
+				collection.insertOne(new Document("greeting", "skip"));
+				collection.insertOne(new Document("greeting", "hello"));
+				// The delete event is not emitted
+				collection.deleteOne(new Document("greeting", "skip"));
+				collection.insertOne(new Document("greeting", "world"));
+			})
+			.assertNext((message) -> {
+				assertThat(message.getPayload().toString()).contains("\"greeting\": \"hello\"");
+				assertThat(message.getHeaders()).containsKey(MongoHeaders.CHANGE_STREAM_RESUME_TOKEN);
+			})
+			.assertNext((message) -> assertThat(message.getPayload().toString()).contains("\"greeting\": \"world\""))
+			.thenCancel()
+			.verify(Duration.ofSeconds(30));
+
+		// Only the 'hello' event is known to be delivered: the 'world' one was in flight
+		assertThat(this.metadataStore.get("mongodb-supplier-resume-token")).isNotNull();
+
+		StepVerifier.create(this.mongodbSupplier.get())
+			.assertNext((message) -> assertThat(message.getPayload().toString()).contains("\"greeting\": \"world\""))
+			.thenCancel()
+			.verify(Duration.ofSeconds(30));
+	}
+
+	@SpringBootApplication
+	static class MongoDbChangeStreamSupplierTestApplication {
+
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.mongo;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.fn.consumer.mongo.MongoDbTestContainerSupport;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class MongodbPartitionedSupplierTests implements MongoDbTestContainerSupport {
+
+	private static final String METADATA_KEY = "mongodb-supplier-high-water-mark";
+
+	private final SimpleMetadataStore metadataStore = new SimpleMetadataStore();
+
+	private MongoClient mongoClient;
+
+	private ReactiveMongoTemplate mongoTemplate;
+
+	@BeforeEach
+	void setUp() {
+		this.mongoClient = MongoClients.create(MongoDbTestContainerSupport.mongoDbUri());
+		this.mongoTemplate = new ReactiveMongoTemplate(this.mongoClient, "test");
+		this.mongoTemplate.dropCollection("partitioned").block();
+		insert(LongStream.rangeClosed(-5, 4));
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.mongoClient.close();
+	}
+
+	@Test
+	void moduloPartitionsHaveOwnHighWaterMarks() {
+		MongodbSupplierProperties properties = properties();
+		properties.setQuery("{ seq: { $gt: 0 } }");
+		properties.getPartitioning().setCount(2);
+
+		MongodbPartitionedSupplier supplier = new MongodbPartitionedSupplier(this.mongoTemplate, this.metadataStore,
+				properties);
+
+		StepVerifier.create(supplier.get().map(MongodbPartitionedSupplierTests::seq))
+			.recordWith(CopyOnWriteArrayList::new)
+			.expectNextCount(4)
+			.consumeRecordedWith((keys) -> assertThat(keys).containsExactlyInAnyOrder(1L, 2L, 3L, 4L))
+			.then(() -> await().untilAsserted(() -> {
+				assertThat(highWaterMark(0)).isEqualTo(4L);
+				assertThat(highWaterMark(1)).isEqualTo(3L);
+			}))
+			.then(() -> insert(LongStream.of(5)))
+			.assertNext((key) -> assertThat(key).isEqualTo(5L))
+			.then(() -> await().untilAsserted(() -> assertThat(highWaterMark(1)).isEqualTo(5L)))
+			.thenCancel()
+			.verify(Duration.ofSeconds(30));
+
+		assertThat(highWaterMark(0)).isEqualTo(4L);
+	}
+
+	@Test
+	void documentsNotDeliveredBeforeCancelArePolledAgain() {
+		MongodbSupplierProperties properties = properties();
+		properties.setQuery("{ seq: { $gt: 0 } }");
+		properties.getPartitioning().setCount(1);
+
+		MongodbPartitionedSupplier supplier = new MongodbPartitionedSupplier(this.mongoTemplate, this.metadataStore,
+				properties);
+
+		StepVerifier.create(supplier.get().map(MongodbPartitionedSupplierTests::seq), 2)
+			.expectNext(1L, 2L)
+			.thenCancel()
+			.verify(Duration.ofSeconds(30));
+
+		assertThat(highWaterMark(0)).isEqualTo(2L);
+
+		StepVerifier.create(supplier.get().map(MongodbPartitionedSupplierTests::seq))
+			.expectNext(3L, 4L)
+			.thenCancel()
+			.verify(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void rangePartitionsCoverWholeKeySpace() {
+		MongodbSupplierProperties properties = properties();
+		MongodbSupplierProperties.Partitioning partitioning = properties.getPartitioning();
+		partitioning.setCount(4);
+		partitioning.setStrategy(MongodbSupplierProperties.PartitionStrategy.RANGE);
+		partitioning.setRangeMin(Long.MIN_VALUE);
+		partitioning.setRangeMax(Long.MAX_VALUE);
+
+		MongodbPartitionedSupplier supplier = new MongodbPartitionedSupplier(this.mongoTemplate, this.metadataStore,
+				properties);
+
+		StepVerifier.create(supplier.get().map(MongodbPartitionedSupplierTests::seq))
+			.recordWith(CopyOnWriteArrayList::new)
+			.expectNextCount(10)
+			.consumeRecordedWith((keys) -> assertThat(keys).containsExactlyInAnyOrder(-5L, -4L, -3L, -2L, -1L, 0L, 1L,
+					2L, 3L, 4L))
+			// The negative keys are in the second quarter of the key space, the rest in the third one
+			.then(() -> await().untilAsserted(() -> {
+				assertThat(highWaterMark(1)).isEqualTo(-1L);
+				assertThat(highWaterMark(2)).isEqualTo(4L);
+			}))
+			.thenCancel()
+			.verify(Duration.ofSeconds(30));
+
+		assertThat(this.metadataStore.get(METADATA_KEY + ".0")).isNull();
+		assertThat(this.metadataStore.get(METADATA_KEY + ".3")).isNull();
+	}
+
+	@Test
+	void partitionsAreTakenOverFromStoppedInstance() {
+		MongodbSupplierProperties properties = properties();
+		properties.setQuery("{ seq: { $gt: 0 } }");
+		MongodbSupplierProperties.Partitioning partitioning = properties.getPartitioning();
+		partitioning.setCount(2);
+		partitioning.setCoordinate(true);
+		// Longer than the test, so the partitions are taken over only if released
+		partitioning.setLeaseTimeout(Duration.ofMinutes(1));
+
+		MongodbPartitionedSupplier first = new MongodbPartitionedSupplier(this.mongoTemplate, this.metadataStore,
+				properties);
+		MongodbPartitionedSupplier second = new MongodbPartitionedSupplier(this.mongoTemplate, this.metadataStore,
+				properties);
+
+		List<Long> firstKeys = new CopyOnWriteArrayList<>();
+		List<Long> secondKeys = new CopyOnWriteArrayList<>();
+
+		Disposable firstSubscription = first.get().map(MongodbPartitionedSupplierTests::seq).subscribe(firstKeys::add);
+		await().untilAsserted(() -> assertThat(firstKeys).containsExactlyInAnyOrder(1L, 2L, 3L, 4L));
+
+		Disposable secondSubscription = second.get()
+			.map(MongodbPartitionedSupplierTests::seq)
+			.subscribe(secondKeys::add);
+		try {
+			insert(LongStream.of(5));
+			await().untilAsserted(() -> assertThat(highWaterMark(1)).isEqualTo(5L));
+			assertThat(firstKeys).contains(5L);
+			assertThat(secondKeys).isEmpty();
+
+			firstSubscription.dispose();
+
+			insert(LongStream.of(6, 7));
+			// The second instance takes over the released leases from the high-water marks of the first one
+			await().atMost(Duration.ofSeconds(10))
+				.untilAsserted(() -> assertThat(secondKeys).containsExactlyInAnyOrder(6L, 7L));
+			assertThat(firstKeys).doesNotContain(6L, 7L);
+		}
+		finally {
+			firstSubscription.dispose();
+			secondSubscription.dispose();
+		}
+	}
+
+	private void insert(LongStream keys) {
+		Flux.fromStream(keys.boxed())
+			.concatMap((key) -> this.mongoTemplate.insert(new Document("seq", key), "partitioned"))
+			.blockLast();
+	}
+
+	private long highWaterMark(int partition) {
+		String highWaterMark = this.metadataStore.get(METADATA_KEY + "." + partition);
+		assertThat(highWaterMark).isNotNull();
+		return ((Number) Document.parse(highWaterMark).get("value")).longValue();
+	}
+
+	private static MongodbSupplierProperties properties() {
+		MongodbSupplierProperties properties = new MongodbSupplierProperties();
+		properties.setCollection("partitioned");
+		properties.getPartitioning().setEnabled(true);
+		properties.getPartitioning().setKeyField("seq");
+		properties.getPartitioning().setIdleInterval(Duration.ofMillis(50));
+		return properties;
+	}
+
+	private static Long seq(Message<?> message) {
+		return ((Number) Document.parse(message.getPayload().toString()).get("seq")).longValue();
+	}
+
+}
@@ -16,8 +16,12 @@
 
 package org.springframework.cloud.fn.supplier.mqtt;
 
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.function.Supplier;
 
+import org.eclipse.paho.mqttv5.client.MqttClientPersistence;
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -25,15 +29,20 @@ import reactor.core.publisher.Flux;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.fn.common.config.ComponentCustomizer;
 import org.springframework.cloud.fn.common.mqtt.MqttConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.integration.endpoint.MessageProducerSupport;
 import org.springframework.integration.mqtt.core.MqttPahoClientFactory;
 import org.springframework.integration.mqtt.inbound.MqttPahoMessageDrivenChannelAdapter;
+import org.springframework.integration.mqtt.inbound.Mqttv5PahoMessageDrivenChannelAdapter;
 import org.springframework.integration.mqtt.support.DefaultPahoMessageConverter;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.util.StringUtils;
 
 /**
  * A supplier that receives data from MQTT.
@@ -54,12 +63,13 @@ public class MqttSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "mqtt.v5", name = "enabled", havingValue = "false", matchIfMissing = true)
 	public MqttPahoMessageDrivenChannelAdapter mqttInbound(MqttSupplierProperties properties,
 			MqttPahoClientFactory mqttClientFactory, BeanFactory beanFactory,
 			@Nullable ComponentCustomizer<MqttPahoMessageDrivenChannelAdapter> mqttMessageProducerCustomizer) {
 
 		MqttPahoMessageDrivenChannelAdapter adapter = new MqttPahoMessageDrivenChannelAdapter(properties.getClientId(),
-				mqttClientFactory, properties.getTopics());
+				mqttClientFactory, topics(properties));
 		adapter.setQos(properties.getQos());
 		adapter.setConverter(pahoMessageConverter(properties, beanFactory));
 
@@ -70,13 +80,44 @@ public class MqttSupplierConfiguration {
 		return adapter;
 	}
 
+	@Bean(name = "mqttInbound")
+	@ConditionalOnProperty(prefix = "mqtt.v5", name = "enabled")
+	public Mqttv5PahoMessageDrivenChannelAdapter mqttv5Inbound(MqttSupplierProperties properties,
+			MqttConnectionOptions mqttConnectionOptions, MqttClientPersistence mqttClientPersistence,
+			@Nullable ComponentCustomizer<Mqttv5PahoMessageDrivenChannelAdapter> mqttv5MessageProducerCustomizer) {
+
+		Mqttv5PahoMessageDrivenChannelAdapter adapter = new Mqttv5PahoMessageDrivenChannelAdapter(
+				mqttConnectionOptions, properties.getClientId(), topics(properties));
+		adapter.setQos(properties.getQos());
+		adapter.setPersistence(mqttClientPersistence);
+		if (!properties.isBinary()) {
+			adapter.setPayloadType(String.class);
+			adapter.setMessageConverter(new StringMessageConverter(Charset.forName(properties.getCharset())));
+		}
+
+		if (mqttv5MessageProducerCustomizer != null) {
+			mqttv5MessageProducerCustomizer.customize(adapter);
+		}
+
+		return adapter;
+	}
+
 	@Bean
-	public Publisher<Message<byte[]>> mqttPublisher(
-			@Qualifier("mqttInbound") MqttPahoMessageDrivenChannelAdapter mqttInbound) {
+	public Publisher<Message<byte[]>> mqttPublisher(@Qualifier("mqttInbound") MessageProducerSupport mqttInbound) {
 
 		return IntegrationFlow.from(mqttInbound).toReactivePublisher(true);
 	}
 
+	private static String[] topics(MqttSupplierProperties properties) {
+		String sharedGroup = properties.getSharedGroup();
+		if (StringUtils.hasText(sharedGroup)) {
+			return Arrays.stream(properties.getTopics())
+				.map((topic) -> "$share/" + sharedGroup + "/" + topic)
+				.toArray(String[]::new);
+		}
+		return properties.getTopics();
+	}
+
 	private static DefaultPahoMessageConverter pahoMessageConverter(MqttSupplierProperties properties,
 			BeanFactory beanFactory) {
 
@@ -59,6 +59,13 @@ public class MqttSupplierProperties {
 	 */
 	private String charset = "UTF-8";
 
+	/**
+	 * The shared subscription group; the topics are subscribed to as
+	 * '$share/{shared-group}/{topic}', so the messages are distributed between the
+	 * clients of the group instead of each client receiving every message.
+	 */
+	private String sharedGroup;
+
 	@NotBlank
 	@Size(min = 1, max = 23)
 	public String getClientId() {
@@ -93,6 +100,14 @@ public class MqttSupplierProperties {
 		this.charset = charset;
 	}
 
+	public String getSharedGroup() {
+		return this.sharedGroup;
+	}
+
+	public void setSharedGroup(String sharedGroup) {
+		this.sharedGroup = sharedGroup;
+	}
+
 	public boolean isBinary() {
 		return this.binary;
 	}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.mqtt;
+
+import java.util.function.Supplier;
+
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.fn.test.support.mqtt.MosquittoContainerTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.integration.mqtt.inbound.Mqttv5PahoMessageDrivenChannelAdapter;
+import org.springframework.integration.mqtt.outbound.Mqttv5PahoMessageHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = { "mqtt.v5.enabled=true", "mqtt.supplier.topics=test-v5", "mqtt.supplier.qos=1",
+		"mqtt.supplier.shared-group=replicas" })
+@DirtiesContext
+public class MqttV5SupplierTests implements MosquittoContainerTest {
+
+	@DynamicPropertySource
+	static void mqttConnectionProperties(DynamicPropertyRegistry registry) {
+		registry.add("mqtt.url", MosquittoContainerTest::mqttUrl);
+	}
+
+	@Autowired
+	private Supplier<Flux<Message<?>>> mqttSupplier;
+
+	@Autowired
+	private Mqttv5PahoMessageDrivenChannelAdapter mqttInbound;
+
+	@Autowired
+	private Mqttv5PahoMessageHandler mqttv5Outbound;
+
+	@Test
+	public void testSharedSubscription() {
+		assertThat(this.mqttInbound.getTopic()).containsExactly("$share/replicas/test-v5");
+
+		StepVerifier.create(this.mqttSupplier.get())
+			.then(() -> this.mqttv5Outbound.handleMessage(MessageBuilder.withPayload("hello v5").build()))
+			.assertNext((message) -> assertThat(message.getPayload()).isEqualTo("hello v5"))
+			.thenCancel()
+			.verify();
+	}
+
+	@SpringBootApplication
+	static class MqttV5SupplierTestApplication {
+
+		@Bean
+		Mqttv5PahoMessageHandler mqttv5Outbound(MqttConnectionOptions mqttConnectionOptions) {
+			Mqttv5PahoMessageHandler messageHandler = new Mqttv5PahoMessageHandler(mqttConnectionOptions,
+					"testV5Publisher");
+			messageHandler.setDefaultTopic("test-v5");
+			messageHandler.setDefaultQos(1);
+			return messageHandler;
+		}
+
+	}
+
+}
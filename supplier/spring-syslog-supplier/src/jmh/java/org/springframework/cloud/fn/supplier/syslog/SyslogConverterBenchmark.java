@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.syslog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.syslog.DefaultMessageConverter;
+import org.springframework.integration.syslog.MessageConverter;
+import org.springframework.integration.syslog.RFC5424MessageConverter;
+import org.springframework.integration.syslog.SyslogHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * Compares the {@link LazySyslogMessageConverter} with the Spring Integration syslog
+ * converters, for a filter reading only the severity and for a consumer reading the
+ * whole map.
+ * <p>
+ * Run with {@code ./gradlew :spring-syslog-supplier:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyslogConverterBenchmark {
+
+	private static final String RFC3164_LINE = "<157>JUL 26 22:08:35 WEBERN TESTING[70729]: TEST SYSLOG MESSAGE";
+
+	private static final String RFC5424_LINE = "<14>1 2014-06-20T09:14:07.123+00:00 loggregator "
+			+ "d0602076-b14a-4c55-852a-981e7afeed38 DEA - "
+			+ "[exampleSDID@32473 iut=\"3\" eventSource=\"Application\" eventID=\"1011\"] Removing instance";
+
+	@Param({ "3164", "5424" })
+	public String rfc;
+
+	private Message<byte[]> line;
+
+	private MessageConverter eagerConverter;
+
+	private MessageConverter lazyConverter;
+
+	@Setup
+	public void setup() {
+		boolean rfc5424 = "5424".equals(this.rfc);
+		this.line = new GenericMessage<>(
+				(rfc5424 ? RFC5424_LINE : RFC3164_LINE).getBytes(StandardCharsets.UTF_8));
+		this.eagerConverter = rfc5424 ? new RFC5424MessageConverter() : new DefaultMessageConverter();
+		this.lazyConverter = new LazySyslogMessageConverter(rfc5424);
+	}
+
+	@Benchmark
+	public Object eagerSeverity() {
+		return ((Map<?, ?>) this.eagerConverter.fromSyslog(this.line).getPayload()).get(SyslogHeaders.SEVERITY);
+	}
+
+	@Benchmark
+	public Object lazySeverity() {
+		return ((Map<?, ?>) this.lazyConverter.fromSyslog(this.line).getPayload()).get(SyslogHeaders.SEVERITY);
+	}
+
+	@Benchmark
+	public int eagerAllFields() {
+		return ((Map<?, ?>) this.eagerConverter.fromSyslog(this.line).getPayload()).hashCode();
+	}
+
+	@Benchmark
+	public int lazyAllFields() {
+		return ((Map<?, ?>) this.lazyConverter.fromSyslog(this.line).getPayload()).hashCode();
+	}
+
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.syslog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.syslog.RFC5424SyslogParser;
+import org.springframework.integration.syslog.SyslogHeaders;
+
+/**
+ * A read-only syslog message view over the raw bytes of an RFC 5424 or RFC 3164 line.
+ * <p>
+ * The line is scanned once: the facility, severity and timestamp are decoded into
+ * primitives, and only the offsets of the other fields are recorded. The fields are
+ * exposed by the {@link SyslogHeaders} keys, like the map payloads of the Spring
+ * Integration syslog converters, but the strings and the structured data are decoded
+ * when the key is accessed. A nil RFC 5424 field has no entry.
+ *
+ * @since 6.0.1
+ */
+public final class LazySyslogMessage extends AbstractMap<String, Object> {
+
+	/**
+	 * The {@link #getTimestamp()} value of a message with a nil timestamp.
+	 */
+	public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+	private static final byte SP = ' ';
+
+	private static final byte NIL = '-';
+
+	private static final byte[] MONTHS = "janfebmaraprmayjunjulaugsepoctnovdec".getBytes(StandardCharsets.US_ASCII);
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private final byte[] data;
+
+	private final boolean rfc5424;
+
+	private int facility;
+
+	private int severity;
+
+	private int version;
+
+	private long timestamp = NO_TIMESTAMP;
+
+	private int timestampStart = -1;
+
+	private int timestampEnd;
+
+	private int hostStart = -1;
+
+	private int hostEnd;
+
+	private int appNameStart = -1;
+
+	private int appNameEnd;
+
+	private int procIdStart = -1;
+
+	private int procIdEnd;
+
+	private int msgIdStart = -1;
+
+	private int msgIdEnd;
+
+	private int tagStart = -1;
+
+	private int tagEnd;
+
+	private int structuredDataStart = -1;
+
+	private int structuredDataEnd;
+
+	private int messageStart = -1;
+
+	private @Nullable Map<String, Object> materialized;
+
+	private LazySyslogMessage(byte[] data, boolean rfc5424) {
+		this.data = data;
+		this.rfc5424 = rfc5424;
+	}
+
+	/**
+	 * Parse an RFC 5424 syslog line.
+	 * @param data the line bytes.
+	 * @return the message view.
+	 * @throws IllegalArgumentException if the line is not a valid RFC 5424 message.
+	 */
+	public static LazySyslogMessage parseRfc5424(byte[] data) {
+		LazySyslogMessage message = new LazySyslogMessage(data, true);
+		int pos = message.parsePriority();
+		int end = fieldEnd(data, pos);
+		message.version = parseDigits(data, pos, end);
+		pos = end + 1;
+		end = fieldEnd(data, pos);
+		if (!isNil(data, pos, end)) {
+			message.timestamp = parseRfc5424Timestamp(data, pos, end);
+			message.timestampStart = pos;
+			message.timestampEnd = end;
+		}
+		pos = end + 1;
+		end = fieldEnd(data, pos);
+		if (!isNil(data, pos, end)) {
+			message.hostStart = pos;
+			message.hostEnd = end;
+		}
+		pos = end + 1;
+		end = fieldEnd(data, pos);
+		if (!isNil(data, pos, end)) {
+			message.appNameStart = pos;
+			message.appNameEnd = end;
+		}
+		pos = end + 1;
+		end = fieldEnd(data, pos);
+		if (!isNil(data, pos, end)) {
+			message.procIdStart = pos;
+			message.procIdEnd = end;
+		}
+		pos = end + 1;
+		end = fieldEnd(data, pos);
+		if (!isNil(data, pos, end)) {
+			message.msgIdStart = pos;
+			message.msgIdEnd = end;
+		}
+		pos = end + 1;
+		end = structuredDataEnd(data, pos);
+		if (!isNil(data, pos, end)) {
+			message.structuredDataStart = pos;
+			message.structuredDataEnd = end;
+		}
+		if (end < data.length) {
+			check(data[end] == SP, "Expected a space after the structured data");
+			pos = end + 1;
+			if (pos + 2 < data.length && (data[pos] & 0xff) == 0xef && (data[pos + 1] & 0xff) == 0xbb
+					&& (data[pos + 2] & 0xff) == 0xbf) {
+
+				pos += 3;
+			}
+			message.messageStart = pos;
+		}
+		return message;
+	}
+
+	/**
+	 * Parse an RFC 3164 (BSD) syslog line; the timestamp is in the current year of the
+	 * default time zone.
+	 * @param data the line bytes.
+	 * @return the message view.
+	 * @throws IllegalArgumentException if the line is not a valid RFC 3164 message.
+	 */
+	public static LazySyslogMessage parseRfc3164(byte[] data) {
+		LazySyslogMessage message = new LazySyslogMessage(data, false);
+		int pos = message.parsePriority();
+		check(pos + 15 < data.length && data[pos + 3] == SP && data[pos + 6] == SP && data[pos + 15] == SP,
+				"Expected an 'Mmm dd hh:mm:ss' timestamp");
+		int month = parseMonth(data, pos);
+		int day = (data[pos + 4] == SP) ? parseDigits(data, pos + 5, pos + 6) : parseDigits(data, pos + 4, pos + 6);
+		LocalTime time = LocalTime.ofSecondOfDay(parseSecondOfDay(data, pos + 7));
+		message.timestamp = LocalDateTime.of(LocalDate.of(LocalDate.now(ZONE).getYear(), month, day), time)
+			.atZone(ZONE)
+			.toInstant()
+			.toEpochMilli();
+		message.timestampStart = pos;
+		message.timestampEnd = pos + 15;
+		pos += 15;
+		while (pos < data.length && data[pos] == SP) {
+			pos++;
+		}
+		int end = fieldEnd(data, pos);
+		check(end > pos, "Expected a host");
+		message.hostStart = pos;
+		message.hostEnd = end;
+		pos = end + 1;
+		end = pos;
+		while (end < data.length && end - pos < 32 && isAlphanumeric(data[end])) {
+			end++;
+		}
+		message.tagStart = pos;
+		message.tagEnd = end;
+		message.messageStart = end;
+		return message;
+	}
+
+	public int getFacility() {
+		return this.facility;
+	}
+
+	public int getSeverity() {
+		return this.severity;
+	}
+
+	/**
+	 * Return the timestamp in milliseconds since the epoch.
+	 * @return the timestamp, or {@link #NO_TIMESTAMP} if the timestamp is nil.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	@Override
+	public @Nullable Object get(@Nullable Object key) {
+		if (!(key instanceof String name)) {
+			return null;
+		}
+		return switch (name) {
+			case SyslogHeaders.FACILITY -> this.facility;
+			case SyslogHeaders.SEVERITY -> this.severity;
+			case SyslogHeaders.SEVERITY_TEXT -> RFC5424SyslogParser.Severity.parseInt(this.severity).label();
+			case SyslogHeaders.TIMESTAMP -> timestampValue();
+			case SyslogHeaders.HOST -> ascii(this.hostStart, this.hostEnd);
+			case SyslogHeaders.TAG -> (this.rfc5424 || this.tagEnd == this.tagStart) ? null
+					: ascii(this.tagStart, this.tagEnd);
+			case SyslogHeaders.VERSION -> this.rfc5424 ? this.version : null;
+			case SyslogHeaders.APP_NAME -> ascii(this.appNameStart, this.appNameEnd);
+			case SyslogHeaders.PROCID -> ascii(this.procIdStart, this.procIdEnd);
+			case SyslogHeaders.MSGID -> ascii(this.msgIdStart, this.msgIdEnd);
+			case SyslogHeaders.STRUCTURED_DATA -> structuredData();
+			case SyslogHeaders.MESSAGE -> (this.messageStart < 0) ? null
+					: new String(this.data, this.messageStart, this.data.length - this.messageStart,
+							StandardCharsets.UTF_8);
+			default -> null;
+		};
+	}
+
+	@Override
+	public boolean containsKey(@Nullable Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		Map<String, Object> materialized = this.materialized;
+		if (materialized == null) {
+			materialized = new LinkedHashMap<>();
+			String[] keys = this.rfc5424
+					? new String[] { SyslogHeaders.FACILITY, SyslogHeaders.SEVERITY, SyslogHeaders.SEVERITY_TEXT,
+							SyslogHeaders.VERSION, SyslogHeaders.TIMESTAMP, SyslogHeaders.HOST,
+							SyslogHeaders.APP_NAME, SyslogHeaders.PROCID, SyslogHeaders.MSGID,
+							SyslogHeaders.STRUCTURED_DATA, SyslogHeaders.MESSAGE }
+					: new String[] { SyslogHeaders.FACILITY, SyslogHeaders.SEVERITY, SyslogHeaders.SEVERITY_TEXT,
+							SyslogHeaders.TIMESTAMP, SyslogHeaders.HOST, SyslogHeaders.TAG, SyslogHeaders.MESSAGE };
+			for (String key : keys) {
+				Object value = get(key);
+				if (value != null) {
+					materialized.put(key, value);
+				}
+			}
+			materialized = Collections.unmodifiableMap(materialized);
+			this.materialized = materialized;
+		}
+		return materialized.entrySet();
+	}
+
+	private @Nullable Object timestampValue() {
+		if (this.timestampStart < 0) {
+			return null;
+		}
+		return this.rfc5424 ? ascii(this.timestampStart, this.timestampEnd) : new Date(this.timestamp);
+	}
+
+	private @Nullable String ascii(int start, int end) {
+		return (start < 0) ? null : new String(this.data, start, end - start, StandardCharsets.US_ASCII);
+	}
+
+	private @Nullable List<String> structuredData() {
+		if (this.structuredDataStart < 0) {
+			return null;
+		}
+		List<String> elements = new ArrayList<>();
+		int start = this.structuredDataStart;
+		while (start < this.structuredDataEnd) {
+			int end = elementEnd(this.data, start);
+			elements.add(new String(this.data, start, end - start, StandardCharsets.UTF_8));
+			start = end;
+		}
+		return elements;
+	}
+
+	private int parsePriority() {
+		check(this.data.length > 2 && this.data[0] == '<', "Expected '<' to begin the priority");
+		int end = 1;
+		while (end < this.data.length && end < 5 && this.data[end] != '>') {
+			end++;
+		}
+		check(end < this.data.length && this.data[end] == '>', "Expected '>' to end the priority");
+		int priority = parseDigits(this.data, 1, end);
+		check(priority <= 191, "The priority must not be greater than 191");
+		this.facility = priority >> 3;
+		this.severity = priority & 0x7;
+		return end + 1;
+	}
+
+	private static int fieldEnd(byte[] data, int pos) {
+		int end = pos;
+		while (end < data.length && data[end] != SP) {
+			end++;
+		}
+		check(end > pos && end < data.length, "Unexpected end of the header");
+		return end;
+	}
+
+	private static int structuredDataEnd(byte[] data, int pos) {
+		check(pos < data.length, "Expected the structured data");
+		if (data[pos] == NIL) {
+			return pos + 1;
+		}
+		check(data[pos] == '[', "Expected '[' to begin the structured data");
+		int end = pos;
+		while (end < data.length && data[end] == '[') {
+			end = elementEnd(data, end);
+		}
+		return end;
+	}
+
+	private static int elementEnd(byte[] data, int start) {
+		boolean quoted = false;
+		for (int i = start + 1; i < data.length; i++) {
+			byte b = data[i];
+			if (b == '\\') {
+				i++;
+			}
+			else if (b == '"') {
+				quoted = !quoted;
+			}
+			else if (b == ']' && !quoted) {
+				return i + 1;
+			}
+		}
+		throw new IllegalArgumentException("Expected ']' to end the structured data element");
+	}
+
+	private static boolean isNil(byte[] data, int start, int end) {
+		return end - start == 1 && data[start] == NIL;
+	}
+
+	private static long parseRfc5424Timestamp(byte[] data, int start, int end) {
+		check(end - start >= 20 && data[start + 4] == '-' && data[start + 7] == '-' && data[start + 10] == 'T',
+				"Expected a 'YYYY-MM-DDThh:mm:ss' timestamp");
+		long epochDay = LocalDate
+			.of(parseDigits(data, start, start + 4), parseDigits(data, start + 5, start + 7),
+					parseDigits(data, start + 8, start + 10))
+			.toEpochDay();
+		int secondOfDay = parseSecondOfDay(data, start + 11);
+		int pos = start + 19;
+		int millis = 0;
+		if (data[pos] == '.') {
+			int scale = 100;
+			pos++;
+			while (pos < end && isDigit(data[pos])) {
+				millis += (data[pos] - '0') * scale;
+				scale /= 10;
+				pos++;
+			}
+		}
+		check(pos < end, "Expected a time zone offset");
+		int offsetSeconds = 0;
+		if (data[pos] == 'Z') {
+			check(pos + 1 == end, "Unexpected characters after the timestamp");
+		}
+		else {
+			check(end - pos == 6 && (data[pos] == '+' || data[pos] == '-') && data[pos + 3] == ':',
+					"Expected a '+hh:mm' time zone offset");
+			offsetSeconds = parseDigits(data, pos + 1, pos + 3) * 3600 + parseDigits(data, pos + 4, pos + 6) * 60;
+			if (data[pos] == '-') {
+				offsetSeconds = -offsetSeconds;
+			}
+		}
+		long seconds = epochDay * 86400 + secondOfDay - offsetSeconds;
+		return seconds * 1000 + millis;
+	}
+
+	private static int parseSecondOfDay(byte[] data, int pos) {
+		check(data[pos + 2] == ':' && data[pos + 5] == ':', "Expected an 'hh:mm:ss' time");
+		int hour = parseDigits(data, pos, pos + 2);
+		int minute = parseDigits(data, pos + 3, pos + 5);
+		int second = parseDigits(data, pos + 6, pos + 8);
+		check(hour < 24 && minute < 60 && second < 60, "Invalid time of day");
+		return hour * 3600 + minute * 60 + second;
+	}
+
+	private static int parseMonth(byte[] data, int pos) {
+		for (int month = 0; month < 12; month++) {
+			int index = month * 3;
+			if ((data[pos] | 0x20) == MONTHS[index] && (data[pos + 1] | 0x20) == MONTHS[index + 1]
+					&& (data[pos + 2] | 0x20) == MONTHS[index + 2]) {
+
+				return month + 1;
+			}
+		}
+		throw new IllegalArgumentException("Expected a month name");
+	}
+
+	private static int parseDigits(byte[] data, int start, int end) {
+		check(end > start, "Expected digits");
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			check(isDigit(data[i]), "Expected a digit");
+			value = value * 10 + (data[i] - '0');
+		}
+		return value;
+	}
+
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	private static boolean isAlphanumeric(byte b) {
+		return isDigit(b) || (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+}
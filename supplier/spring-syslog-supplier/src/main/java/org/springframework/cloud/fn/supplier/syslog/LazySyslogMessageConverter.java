@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.syslog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.syslog.MessageConverter;
+import org.springframework.integration.syslog.SyslogHeaders;
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link MessageConverter} which converts the syslog line into a
+ * {@link LazySyslogMessage} payload.
+ * <p>
+ * A line which cannot be parsed is converted into a map with the
+ * {@link SyslogHeaders#UNDECODED} line, and the {@link SyslogHeaders#DECODE_ERRORS} and
+ * {@link SyslogHeaders#ERRORS} entries for RFC 5424. A {@link Map} payload, already
+ * decoded by the RFC 6587 TCP deserializer, is passed through as is.
+ *
+ * @since 6.0.1
+ */
+public class LazySyslogMessageConverter implements MessageConverter {
+
+	private final boolean rfc5424;
+
+	/**
+	 * Create a converter for the syslog format.
+	 * @param rfc5424 true for RFC 5424 lines, false for RFC 3164 lines.
+	 */
+	public LazySyslogMessageConverter(boolean rfc5424) {
+		this.rfc5424 = rfc5424;
+	}
+
+	@Override
+	public Message<?> fromSyslog(Message<?> message) {
+		Object payload = message.getPayload();
+		if (payload instanceof Map) {
+			return message;
+		}
+		byte[] data = (payload instanceof byte[] bytes) ? bytes : payload.toString().getBytes(StandardCharsets.UTF_8);
+		Map<String, Object> syslog;
+		try {
+			syslog = this.rfc5424 ? LazySyslogMessage.parseRfc5424(data) : LazySyslogMessage.parseRfc3164(data);
+		}
+		catch (IllegalArgumentException | DateTimeException ex) {
+			syslog = undecoded(data, ex);
+		}
+		return MessageBuilder.withPayload(syslog).copyHeaders(message.getHeaders()).build();
+	}
+
+	private Map<String, Object> undecoded(byte[] data, RuntimeException ex) {
+		Map<String, Object> syslog = new HashMap<>();
+		syslog.put(SyslogHeaders.UNDECODED, new String(data, StandardCharsets.UTF_8));
+		if (this.rfc5424) {
+			syslog.put(SyslogHeaders.DECODE_ERRORS, "true");
+			syslog.put(SyslogHeaders.ERRORS, ex.getMessage());
+		}
+		return syslog;
+	}
+
+}
@@ -18,9 +18,12 @@ package org.springframework.cloud.fn.supplier.syslog;
 
 import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -60,12 +63,16 @@ public class SyslogSupplierConfiguration {
 	@Bean
 	public Supplier<Flux<Message<?>>> syslogSupplier(
 			@Qualifier("udpSyslogReceivingChannelAdapter") @Nullable UdpSyslogReceivingChannelAdapter udpSyslogReceivingChannelAdapter,
-			@Qualifier("tcpSyslogReceivingChannelAdapter") @Nullable TcpSyslogReceivingChannelAdapter tcpSyslogReceivingChannelAdapter) {
+			@Qualifier("tcpSyslogReceivingChannelAdapter") @Nullable TcpSyslogReceivingChannelAdapter tcpSyslogReceivingChannelAdapter,
+			@Qualifier("udpSyslogReceiver") @Nullable UdpSyslogReceiver udpSyslogReceiver) {
 
 		return () -> Flux.from(this.syslogInputChannel).doOnRequest((l) -> {
 			if (udpSyslogReceivingChannelAdapter != null) {
 				udpSyslogReceivingChannelAdapter.start();
 			}
+			if (udpSyslogReceiver != null) {
+				udpSyslogReceiver.start();
+			}
 			if (tcpSyslogReceivingChannelAdapter != null) {
 				tcpSyslogReceivingChannelAdapter.start();
 			}
@@ -74,12 +81,16 @@ public class SyslogSupplierConfiguration {
 
 	@Bean("udpSyslogReceivingChannelAdapter")
 	@ConditionalOnProperty(name = "syslog.supplier.protocol", havingValue = "udp")
+	@ConditionalOnProperty(prefix = "syslog.supplier.udp", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public UdpSyslogReceivingChannelAdapter udpAdapter(@Qualifier("syslogConverter") MessageConverter syslogConverter) {
 		return createUdpAdapter(syslogConverter);
 	}
 
 	@Bean("udpSyslogReceivingChannelAdapter")
 	@ConditionalOnProperty(name = "syslog.supplier.protocol", havingValue = "both")
+	@ConditionalOnProperty(prefix = "syslog.supplier.udp", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public UdpSyslogReceivingChannelAdapter udpBothAdapter(
 			@Qualifier("syslogConverter") MessageConverter syslogConverter) {
 		return createUdpAdapter(syslogConverter);
@@ -91,6 +102,31 @@ public class SyslogSupplierConfiguration {
 		return adapter;
 	}
 
+	@Bean("udpSyslogReceiver")
+	@ConditionalOnProperty(name = "syslog.supplier.protocol", havingValue = "udp")
+	@ConditionalOnProperty(prefix = "syslog.supplier.udp", name = "enabled")
+	public UdpSyslogReceiver udpReceiver(@Qualifier("syslogConverter") MessageConverter syslogConverter,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return createUdpReceiver(syslogConverter, meterRegistry);
+	}
+
+	@Bean("udpSyslogReceiver")
+	@ConditionalOnProperty(name = "syslog.supplier.protocol", havingValue = "both")
+	@ConditionalOnProperty(prefix = "syslog.supplier.udp", name = "enabled")
+	public UdpSyslogReceiver udpBothReceiver(@Qualifier("syslogConverter") MessageConverter syslogConverter,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return createUdpReceiver(syslogConverter, meterRegistry);
+	}
+
+	private UdpSyslogReceiver createUdpReceiver(MessageConverter syslogConverter,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return new UdpSyslogReceiver(this.properties, syslogConverter, this.syslogInputChannel,
+				meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
 	@Bean("tcpSyslogReceivingChannelAdapter")
 	@ConditionalOnProperty(name = "syslog.supplier.protocol", havingValue = "tcp", matchIfMissing = true)
 	public TcpSyslogReceivingChannelAdapter tcpAdapter(
@@ -111,7 +147,10 @@ public class SyslogSupplierConfiguration {
 
 	@Bean
 	public MessageConverter syslogConverter() {
-		if (this.properties.getRfc().equals("5424")) {
+		if (this.properties.isLazyParsing()) {
+			return new LazySyslogMessageConverter(this.properties.getRfc().equals("5424"));
+		}
+		else if (this.properties.getRfc().equals("5424")) {
 			return new RFC5424MessageConverter();
 		}
 		else {
@@ -16,7 +16,9 @@
 
 package org.springframework.cloud.fn.supplier.syslog;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -67,6 +69,18 @@ public class SyslogSupplierProperties {
 	 */
 	private String rfc = "3164";
 
+	/**
+	 * Whether to parse the lines into lazily decoded map payloads, with only the
+	 * facility, severity and timestamp decoded up front.
+	 */
+	private boolean lazyParsing;
+
+	/**
+	 * Options for the multi-threaded UDP receiver.
+	 */
+	@Valid
+	private Udp udp = new Udp();
+
 	public int getBufferSize() {
 		return this.bufferSize;
 	}
@@ -124,11 +138,103 @@ public class SyslogSupplierProperties {
 		this.rfc = rfc;
 	}
 
+	public boolean isLazyParsing() {
+		return this.lazyParsing;
+	}
+
+	public void setLazyParsing(boolean lazyParsing) {
+		this.lazyParsing = lazyParsing;
+	}
+
+	public Udp getUdp() {
+		return this.udp;
+	}
+
+	public void setUdp(Udp udp) {
+		this.udp = udp;
+	}
+
 	@AssertTrue(message = "rfc must be 5424 or 3164")
 	public boolean isSupportedRfc() {
 		return "5424".equals(this.rfc) || "3164".equals(this.rfc);
 	}
 
+	public static class Udp {
+
+		/**
+		 * Whether to receive UDP datagrams with several reader threads and convert them on
+		 * a worker pool instead of the Spring Integration UDP adapter.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The number of reader threads; each one binds its own socket with SO_REUSEPORT
+		 * where supported.
+		 */
+		@Min(1)
+		private int receivers = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * The socket receive buffer size (SO_RCVBUF) of each reader socket.
+		 */
+		@Min(1)
+		private int receiveBufferSize = 4 * 1024 * 1024;
+
+		/**
+		 * The number of worker threads converting the datagrams.
+		 */
+		@Min(1)
+		private int workers = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * The max number of datagrams waiting for a worker; datagrams are dropped when
+		 * reached.
+		 */
+		@Min(1)
+		private int queueCapacity = 10000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getReceivers() {
+			return this.receivers;
+		}
+
+		public void setReceivers(int receivers) {
+			this.receivers = receivers;
+		}
+
+		public int getReceiveBufferSize() {
+			return this.receiveBufferSize;
+		}
+
+		public void setReceiveBufferSize(int receiveBufferSize) {
+			this.receiveBufferSize = receiveBufferSize;
+		}
+
+		public int getWorkers() {
+			return this.workers;
+		}
+
+		public void setWorkers(int workers) {
+			this.workers = workers;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+	}
+
 	public enum Protocol {
 
 		/**
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.syslog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.integration.ip.IpHeaders;
+import org.springframework.integration.syslog.MessageConverter;
+import org.springframework.integration.syslog.SyslogHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * A UDP syslog receiver which reads datagrams with several threads and converts them on
+ * a separate pool of workers.
+ * <p>
+ * Each reader thread gets its own {@link DatagramChannel} bound to the same port with
+ * {@link StandardSocketOptions#SO_REUSEPORT}, so the kernel spreads the datagrams over
+ * the sockets. Where the option is not supported, the readers share a single channel.
+ * The reader threads only copy the datagram and hand it to the workers; when the worker
+ * queue is full, the datagram is dropped instead of blocking the reader and overflowing
+ * the socket receive buffer.
+ * <p>
+ * The datagrams are counted in the {@code syslog.supplier.datagrams} counter with the
+ * {@code outcome} tag of {@code received}, {@code parsed}, {@code malformed} or
+ * {@code dropped}.
+ *
+ * @since 6.0.1
+ */
+public class UdpSyslogReceiver implements SmartLifecycle {
+
+	private static final Log LOGGER = LogFactory.getLog(UdpSyslogReceiver.class);
+
+	private static final String DATAGRAMS_METER_NAME = "syslog.supplier.datagrams";
+
+	private final SyslogSupplierProperties properties;
+
+	private final SyslogSupplierProperties.Udp udp;
+
+	private final MessageConverter converter;
+
+	private final MessageChannel outputChannel;
+
+	private final Counter received;
+
+	private final Counter parsed;
+
+	private final Counter malformed;
+
+	private final Counter dropped;
+
+	private final List<DatagramChannel> channels = new ArrayList<>();
+
+	private final List<Thread> readers = new ArrayList<>();
+
+	private @Nullable ThreadPoolExecutor workers;
+
+	private volatile boolean running;
+
+	private volatile int port;
+
+	public UdpSyslogReceiver(SyslogSupplierProperties properties, MessageConverter converter,
+			MessageChannel outputChannel, MeterRegistry meterRegistry) {
+
+		this.properties = properties;
+		this.udp = properties.getUdp();
+		this.converter = converter;
+		this.outputChannel = outputChannel;
+		this.received = counter(meterRegistry, "received");
+		this.parsed = counter(meterRegistry, "parsed");
+		this.malformed = counter(meterRegistry, "malformed");
+		this.dropped = counter(meterRegistry, "dropped");
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+		return Counter.builder(DATAGRAMS_METER_NAME)
+			.description("The syslog datagrams received by the UDP receiver threads")
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Return the port the receiver is bound to.
+	 * @return the port, or 0 if the receiver is not started.
+	 */
+	public int getPort() {
+		return this.port;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return false;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (this.running) {
+			return;
+		}
+		int workerCount = this.udp.getWorkers();
+		this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(this.udp.getQueueCapacity()),
+				new CustomizableThreadFactory("syslog-udp-worker-"), new ThreadPoolExecutor.AbortPolicy());
+		try {
+			openChannels();
+		}
+		catch (IOException ex) {
+			closeChannels();
+			this.workers.shutdownNow();
+			throw new UncheckedIOException("Failed to bind syslog UDP receiver to port " + this.properties.getPort(),
+					ex);
+		}
+		this.running = true;
+		for (int i = 0; i < this.udp.getReceivers(); i++) {
+			DatagramChannel channel = this.channels.get(i % this.channels.size());
+			Thread reader = new Thread(() -> read(channel), "syslog-udp-receiver-" + i);
+			reader.setDaemon(true);
+			this.readers.add(reader);
+			reader.start();
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (!this.running) {
+			return;
+		}
+		this.running = false;
+		closeChannels();
+		for (Thread reader : this.readers) {
+			try {
+				reader.join(TimeUnit.SECONDS.toMillis(5));
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		this.readers.clear();
+		ThreadPoolExecutor workers = this.workers;
+		if (workers != null) {
+			workers.shutdown();
+			try {
+				workers.awaitTermination(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			this.workers = null;
+		}
+		this.port = 0;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	private void openChannels() throws IOException {
+		DatagramChannel first = openChannel(this.properties.getPort());
+		this.port = ((InetSocketAddress) first.getLocalAddress()).getPort();
+		if (first.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+			for (int i = 1; i < this.udp.getReceivers(); i++) {
+				openChannel(this.port);
+			}
+		}
+		else if (this.udp.getReceivers() > 1) {
+			LOGGER.info("SO_REUSEPORT is not supported; the syslog UDP receiver threads share a single socket");
+		}
+	}
+
+	private DatagramChannel openChannel(int port) throws IOException {
+		DatagramChannel channel = DatagramChannel.open();
+		this.channels.add(channel);
+		if (channel.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+			channel.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+		}
+		channel.setOption(StandardSocketOptions.SO_RCVBUF, this.udp.getReceiveBufferSize());
+		channel.bind(new InetSocketAddress(port));
+		return channel;
+	}
+
+	private void closeChannels() {
+		for (DatagramChannel channel : this.channels) {
+			try {
+				channel.close();
+			}
+			catch (IOException ex) {
+				LOGGER.debug("Failed to close syslog UDP channel", ex);
+			}
+		}
+		this.channels.clear();
+	}
+
+	private void read(DatagramChannel channel) {
+		ByteBuffer buffer = ByteBuffer.allocate(this.properties.getBufferSize());
+		while (this.running) {
+			SocketAddress address;
+			try {
+				buffer.clear();
+				address = channel.receive(buffer);
+			}
+			catch (ClosedChannelException ex) {
+				return;
+			}
+			catch (IOException ex) {
+				if (this.running) {
+					LOGGER.error("Failed to receive syslog datagram", ex);
+				}
+				continue;
+			}
+			this.received.increment();
+			buffer.flip();
+			byte[] datagram = new byte[buffer.remaining()];
+			buffer.get(datagram);
+			dispatch(datagram, address);
+		}
+	}
+
+	private void dispatch(byte[] datagram, SocketAddress address) {
+		ThreadPoolExecutor workers = this.workers;
+		try {
+			if (workers == null) {
+				throw new RejectedExecutionException("The syslog UDP receiver is stopped");
+			}
+			workers.execute(() -> convertAndSend(datagram, address));
+		}
+		catch (RejectedExecutionException ex) {
+			this.dropped.increment();
+		}
+	}
+
+	private void convertAndSend(byte[] datagram, SocketAddress address) {
+		Map<String, Object> headers = new HashMap<>();
+		if (address instanceof InetSocketAddress inetSocketAddress) {
+			String ipAddress = inetSocketAddress.getAddress().getHostAddress();
+			headers.put(IpHeaders.IP_ADDRESS, ipAddress);
+			headers.put(IpHeaders.HOSTNAME,
+					this.properties.isReverseLookup() ? inetSocketAddress.getHostName() : ipAddress);
+			headers.put(IpHeaders.PACKET_ADDRESS, inetSocketAddress);
+		}
+		Message<?> message;
+		try {
+			message = this.converter.fromSyslog(new GenericMessage<>(datagram, headers));
+		}
+		catch (RuntimeException ex) {
+			this.malformed.increment();
+			LOGGER.debug("Failed to convert syslog datagram", ex);
+			return;
+		}
+		if (isMalformed(message)) {
+			this.malformed.increment();
+		}
+		else {
+			this.parsed.increment();
+		}
+		this.outputChannel.send(message);
+	}
+
+	private static boolean isMalformed(Message<?> message) {
+		if (message.getPayload() instanceof Map<?, ?> map) {
+			return map.containsKey(SyslogHeaders.UNDECODED) || map.containsKey(SyslogHeaders.DECODE_ERRORS);
+		}
+		return message.getHeaders().containsKey(SyslogHeaders.UNDECODED)
+				|| message.getHeaders().containsKey(SyslogHeaders.DECODE_ERRORS);
+	}
+
+}
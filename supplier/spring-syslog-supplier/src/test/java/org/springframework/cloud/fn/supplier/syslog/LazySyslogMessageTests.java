@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.syslog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.syslog.DefaultMessageConverter;
+import org.springframework.integration.syslog.MessageConverter;
+import org.springframework.integration.syslog.RFC5424MessageConverter;
+import org.springframework.integration.syslog.SyslogHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LazySyslogMessageTests {
+
+	@Test
+	public void rfc5424FieldsAreDecoded() {
+		LazySyslogMessage message = LazySyslogMessage.parseRfc5424(
+				bytes("<14>1 2014-06-20T09:14:07.123+02:00 loggregator d0602076 DEA - [exampleSDID@32473 iut=\"3\" "
+						+ "eventSource=\"App]\"][meta x=\"\\\"\"] Removing instance"));
+
+		assertThat(message.getFacility()).isEqualTo(1);
+		assertThat(message.getSeverity()).isEqualTo(6);
+		assertThat(message.getTimestamp()).isEqualTo(Instant.parse("2014-06-20T07:14:07.123Z").toEpochMilli());
+		assertThat(message)
+			.containsEntry(SyslogHeaders.VERSION, 1)
+			.containsEntry(SyslogHeaders.TIMESTAMP, "2014-06-20T09:14:07.123+02:00")
+			.containsEntry(SyslogHeaders.HOST, "loggregator")
+			.containsEntry(SyslogHeaders.APP_NAME, "d0602076")
+			.containsEntry(SyslogHeaders.PROCID, "DEA")
+			.containsEntry(SyslogHeaders.MESSAGE, "Removing instance")
+			.doesNotContainKey(SyslogHeaders.MSGID);
+		assertThat((List<?>) message.get(SyslogHeaders.STRUCTURED_DATA)).containsExactly(
+				"[exampleSDID@32473 iut=\"3\" eventSource=\"App]\"]", "[meta x=\"\\\"\"]");
+	}
+
+	@Test
+	public void rfc5424NilValuesAreAbsent() {
+		LazySyslogMessage message = LazySyslogMessage.parseRfc5424(bytes("<165>1 - - - - - -"));
+
+		assertThat(message.getFacility()).isEqualTo(20);
+		assertThat(message.getSeverity()).isEqualTo(5);
+		assertThat(message.getTimestamp()).isEqualTo(LazySyslogMessage.NO_TIMESTAMP);
+		assertThat(message).containsOnlyKeys(SyslogHeaders.FACILITY, SyslogHeaders.SEVERITY,
+				SyslogHeaders.SEVERITY_TEXT, SyslogHeaders.VERSION);
+	}
+
+	@Test
+	public void rfc3164FieldsAreDecoded() {
+		LazySyslogMessage message = LazySyslogMessage
+			.parseRfc3164(bytes("<157>JUL 26 22:08:35 WEBERN TESTING[70729]: TEST SYSLOG MESSAGE"));
+
+		assertThat(message.getFacility()).isEqualTo(19);
+		assertThat(message.getSeverity()).isEqualTo(5);
+		assertThat(message)
+			.containsEntry(SyslogHeaders.HOST, "WEBERN")
+			.containsEntry(SyslogHeaders.TAG, "TESTING")
+			.containsEntry(SyslogHeaders.MESSAGE, "[70729]: TEST SYSLOG MESSAGE")
+			.containsKey(SyslogHeaders.TIMESTAMP);
+	}
+
+	@Test
+	public void rfc5424KeysMatchSpringIntegrationConverter() {
+		assertSameKeys(new RFC5424MessageConverter(), new LazySyslogMessageConverter(true),
+				"<14>1 2014-06-20T09:14:07.123+02:00 loggregator d0602076 DEA MSG-01 "
+						+ "[exampleSDID@32473 iut=\"3\"] Removing instance");
+	}
+
+	@Test
+	public void rfc3164KeysMatchSpringIntegrationConverter() {
+		assertSameKeys(new DefaultMessageConverter(), new LazySyslogMessageConverter(false),
+				"<157>JUL 26 22:08:35 WEBERN TESTING[70729]: TEST SYSLOG MESSAGE");
+	}
+
+	@Test
+	public void malformedLinesAreRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> LazySyslogMessage.parseRfc5424(bytes("foo")));
+		assertThatIllegalArgumentException().isThrownBy(() -> LazySyslogMessage.parseRfc5424(bytes("<14>1 2014")));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> LazySyslogMessage.parseRfc3164(bytes("<157>FOO 26 22:08:35 WEBERN TESTING: BAR")));
+	}
+
+	@Test
+	public void converterMarksUndecodedLines() {
+		Message<?> message = new LazySyslogMessageConverter(true).fromSyslog(new GenericMessage<>(bytes("foo")));
+
+		assertThat((Map<?, ?>) message.getPayload()).containsEntry(SyslogHeaders.UNDECODED, "foo")
+			.containsEntry(SyslogHeaders.DECODE_ERRORS, "true");
+	}
+
+	private static void assertSameKeys(MessageConverter expected, MessageConverter actual, String line) {
+		Message<byte[]> message = new GenericMessage<>(bytes(line));
+		Map<?, ?> expectedPayload = (Map<?, ?>) expected.fromSyslog(message).getPayload();
+		Map<?, ?> actualPayload = (Map<?, ?>) actual.fromSyslog(message).getPayload();
+
+		assertThat(actualPayload.keySet()).containsExactlyInAnyOrderElementsOf(expectedPayload.keySet());
+		assertThat(actualPayload.get(SyslogHeaders.SEVERITY_TEXT))
+			.isEqualTo(expectedPayload.get(SyslogHeaders.SEVERITY_TEXT));
+	}
+
+	private static byte[] bytes(String line) {
+		return line.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.syslog;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = { "syslog.supplier.port = 0", "syslog.supplier.protocol = udp",
+		"syslog.supplier.udp.enabled = true", "syslog.supplier.udp.receivers = 2",
+		"syslog.supplier.udp.workers = 2" })
+@DirtiesContext
+public class UdpSyslogReceiverTests {
+
+	private static final String RFC3164_PACKET = "<157>JUL 26 22:08:35 WEBERN TESTING[70729]: TEST SYSLOG MESSAGE";
+
+	@Autowired
+	Supplier<Flux<Message<?>>> syslogSupplier;
+
+	@Autowired
+	UdpSyslogReceiver udpSyslogReceiver;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Test
+	public void datagramsAreConvertedOnWorkers() throws Exception {
+		StepVerifier stepVerifier = StepVerifier.create(this.syslogSupplier.get())
+			.assertNext((message) -> assertThat(((Map<?, ?>) message.getPayload()).get("syslog_HOST"))
+				.isEqualTo("WEBERN"))
+			.assertNext((message) -> assertThat(((Map<?, ?>) message.getPayload()).get("syslog_HOST"))
+				.isEqualTo("WEBERN"))
+			.thenCancel()
+			.verifyLater();
+
+		int port = waitUdp();
+		try (DatagramSocket socket = new DatagramSocket()) {
+			for (int i = 0; i < 2; i++) {
+				DatagramPacket packet = new DatagramPacket(RFC3164_PACKET.getBytes(), RFC3164_PACKET.length());
+				packet.setSocketAddress(new InetSocketAddress("localhost", port));
+				socket.send(packet);
+			}
+		}
+		stepVerifier.verify(Duration.ofSeconds(10));
+
+		assertThat(this.meterRegistry.get("syslog.supplier.datagrams").tag("outcome", "received").counter().count())
+			.isEqualTo(2);
+		assertThat(this.meterRegistry.get("syslog.supplier.datagrams").tag("outcome", "parsed").counter().count())
+			.isEqualTo(2);
+		assertThat(this.meterRegistry.get("syslog.supplier.datagrams").tag("outcome", "dropped").counter().count())
+			.isZero();
+	}
+
+	private int waitUdp() throws InterruptedException {
+		int n = 0;
+		while (n++ < 100 && !this.udpSyslogReceiver.isRunning()) {
+			Thread.sleep(100);
+		}
+		assertThat(this.udpSyslogReceiver.getPort()).isGreaterThan(0);
+		return this.udpSyslogReceiver.getPort();
+	}
+
+	@SpringBootApplication
+	public static class SyslogSupplierTestApplication {
+
+		@Bean
+		SimpleMeterRegistry simpleMeterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
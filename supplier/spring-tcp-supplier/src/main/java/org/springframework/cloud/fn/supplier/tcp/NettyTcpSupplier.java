@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.tcp;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandler;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.NettyInbound;
+import reactor.netty.tcp.TcpServer;
+
+import org.springframework.cloud.fn.common.tcp.Encoding;
+import org.springframework.cloud.fn.common.tcp.NettyFrameCodecs;
+import org.springframework.cloud.fn.common.tcp.TcpConnectionFactoryProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.integration.ip.IpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The {@link Supplier} which receives data with a Reactor Netty TCP server and decodes
+ * the {@link TcpSupplierProperties#getDecoder()} frames directly from pooled buffers.
+ * <p>
+ * Each frame is copied once into the {@code byte[]} payload of the emitted message, or
+ * up to {@link TcpSupplierProperties.Netty#getBatchSize()} frames of a connection are
+ * emitted in one message with a {@code List<byte[]>} payload. A connection is read only
+ * while the downstream requests frames, up to the
+ * {@link TcpSupplierProperties.Netty#getPrefetch()} frames ahead, so a slow consumer
+ * applies back-pressure on the socket instead of buffering data.
+ * <p>
+ * The connections are merged into a single {@link Flux}, so the supplier can be
+ * subscribed only once. A connection which fails, e.g. with a malformed or too long
+ * frame, is logged and closed without affecting the other connections.
+ *
+ * @since 6.0.1
+ */
+public class NettyTcpSupplier implements Supplier<Flux<Message<Object>>>, SmartLifecycle {
+
+	private static final Log LOGGER = LogFactory.getLog(NettyTcpSupplier.class);
+
+	private final Sinks.Many<Flux<Message<Object>>> connections = Sinks.many().unicast().onBackpressureBuffer();
+
+	private final TcpConnectionFactoryProperties connectionProperties;
+
+	private final Encoding decoder;
+
+	private final int maxFrameLength;
+
+	private final TcpSupplierProperties.Netty netty;
+
+	private volatile @Nullable DisposableServer server;
+
+	public NettyTcpSupplier(TcpSupplierProperties properties, TcpConnectionFactoryProperties connectionProperties) {
+		this.connectionProperties = connectionProperties;
+		this.decoder = properties.getDecoder();
+		this.maxFrameLength = properties.getBufferSize();
+		this.netty = properties.getNetty();
+	}
+
+	/**
+	 * Return the port the server is bound to.
+	 * @return the port, or 0 if the server is not started.
+	 */
+	public int getPort() {
+		DisposableServer server = this.server;
+		return (server != null) ? server.port() : 0;
+	}
+
+	@Override
+	public Flux<Message<Object>> get() {
+		return this.connections.asFlux().flatMap((frames) -> frames, Integer.MAX_VALUE, this.netty.getPrefetch());
+	}
+
+	@Override
+	public void start() {
+		if (this.server == null) {
+			this.server = TcpServer.create()
+				.port(this.connectionProperties.getPort())
+				.handle((inbound, outbound) -> {
+					Sinks.Empty<Void> closed = Sinks.empty();
+					inbound.withConnection((connection) -> {
+						try {
+							this.connections.emitNext(
+									receive(connection, inbound).doFinally((signal) -> closed.tryEmitEmpty()),
+									Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+						}
+						catch (Sinks.EmissionException ex) {
+							LOGGER.warn("Cannot receive from connection " + connection.channel()
+									+ ": the supplier is not subscribed", ex);
+							connection.dispose();
+							closed.tryEmitEmpty();
+						}
+					});
+					return closed.asMono();
+				})
+				.bindNow();
+		}
+	}
+
+	@Override
+	public void stop() {
+		DisposableServer server = this.server;
+		if (server != null) {
+			server.disposeNow();
+			this.server = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.server != null;
+	}
+
+	private Flux<Message<Object>> receive(Connection connection, NettyInbound inbound) {
+		ChannelHandler frameDecoder = NettyFrameCodecs.decoder(this.decoder, this.maxFrameLength);
+		if (frameDecoder != null) {
+			connection.addHandlerLast("frameDecoder", frameDecoder);
+		}
+		connection.onReadIdle(this.connectionProperties.getSocketTimeout(), connection::dispose);
+
+		Map<String, Object> headers = connectionHeaders(connection);
+		Flux<byte[]> frames = (frameDecoder != null) ? inbound.receive().map(ByteBufUtil::getBytes)
+				: inbound.receive().aggregate().asByteArray().flux();
+
+		int batchSize = this.netty.getBatchSize();
+		Flux<Message<Object>> messages = (batchSize > 1)
+				? frames.bufferTimeout(batchSize, this.netty.getBatchTimeout(), true)
+					.<Message<Object>>map((batch) -> new GenericMessage<>(batch, headers))
+				: frames.<Message<Object>>map((frame) -> new GenericMessage<>(frame, headers));
+		return messages.onErrorResume((ex) -> {
+			LOGGER.warn("Closing connection " + connection.channel() + " after a receive failure", ex);
+			connection.dispose();
+			return Flux.empty();
+		});
+	}
+
+	private Map<String, Object> connectionHeaders(Connection connection) {
+		Map<String, Object> headers = new HashMap<>();
+		headers.put(IpHeaders.CONNECTION_ID, connection.channel().id().asLongText());
+		SocketAddress remoteAddress = connection.channel().remoteAddress();
+		if (remoteAddress instanceof InetSocketAddress inetSocketAddress) {
+			String ipAddress = inetSocketAddress.getAddress().getHostAddress();
+			headers.put(IpHeaders.IP_ADDRESS, ipAddress);
+			headers.put(IpHeaders.HOSTNAME,
+					this.connectionProperties.isReverseLookup() ? inetSocketAddress.getHostName() : ipAddress);
+			headers.put(IpHeaders.REMOTE_PORT, inetSocketAddress.getPort());
+		}
+		return headers;
+	}
+
+}
@@ -23,6 +23,7 @@ import reactor.core.publisher.Flux;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.fn.common.tcp.EncoderDecoderFactoryBean;
 import org.springframework.cloud.fn.common.tcp.TcpConnectionFactoryProperties;
@@ -36,7 +37,9 @@ import org.springframework.integration.ip.tcp.serializer.AbstractByteArraySerial
 import org.springframework.messaging.Message;
 
 /**
- * A supplier that receives data over TCP.
+ * A supplier that receives data over TCP. With {@code tcp.supplier.netty.enabled} the
+ * {@link NettyTcpSupplier} is used instead of the Spring Integration TCP inbound channel
+ * adapter.
  *
  * @author Gary Russell
  * @author Christian Tzolov
@@ -48,6 +51,8 @@ import org.springframework.messaging.Message;
 public class TcpSupplierConfiguration {
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.supplier.netty", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public EncoderDecoderFactoryBean tcpSourceDecoder(TcpSupplierProperties properties) {
 		EncoderDecoderFactoryBean factoryBean = new EncoderDecoderFactoryBean(properties.getDecoder());
 		factoryBean.setMaxMessageSize(properties.getBufferSize());
@@ -55,6 +60,8 @@ public class TcpSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.supplier.netty", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public TcpConnectionFactoryFactoryBean tcpSourceConnectionFactory(
 			TcpConnectionFactoryProperties tcpConnectionProperties,
 			@Qualifier("tcpSourceDecoder") AbstractByteArraySerializer decoder) {
@@ -71,6 +78,8 @@ public class TcpSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.supplier.netty", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public TcpReceivingChannelAdapter tcpReceivingChannelAdapter(
 			@Qualifier("tcpSourceConnectionFactory") AbstractConnectionFactory connectionFactory) {
 
@@ -81,6 +90,8 @@ public class TcpSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.supplier.netty", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Publisher<Message<Object>> tcpSupplierFlow(
 			@Qualifier("tcpReceivingChannelAdapter") TcpReceivingChannelAdapter adapter) {
 
@@ -88,10 +99,20 @@ public class TcpSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "tcp.supplier.netty", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Supplier<Flux<Message<Object>>> tcpSupplier(
 			@Qualifier("tcpSupplierFlow") Publisher<Message<Object>> tcpSupplierFlow) {
 
 		return () -> Flux.from(tcpSupplierFlow);
 	}
 
+	@Bean(name = "tcpSupplier")
+	@ConditionalOnProperty(prefix = "tcp.supplier.netty", name = "enabled")
+	public NettyTcpSupplier nettyTcpSupplier(TcpSupplierProperties properties,
+			TcpConnectionFactoryProperties tcpConnectionProperties) {
+
+		return new NettyTcpSupplier(properties, tcpConnectionProperties);
+	}
+
 }
@@ -16,6 +16,10 @@
 
 package org.springframework.cloud.fn.supplier.tcp;
 
+import java.time.Duration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -43,6 +47,12 @@ public class TcpSupplierProperties {
 	 */
 	private int bufferSize = 2048;
 
+	/**
+	 * Options for the Netty-based receiving engine.
+	 */
+	@Valid
+	private Netty netty = new Netty();
+
 	@NotNull
 	public Encoding getDecoder() {
 		return this.decoder;
@@ -60,4 +70,73 @@ public class TcpSupplierProperties {
 		this.bufferSize = bufferSize;
 	}
 
+	public Netty getNetty() {
+		return this.netty;
+	}
+
+	public void setNetty(Netty netty) {
+		this.netty = netty;
+	}
+
+	public static class Netty {
+
+		/**
+		 * Whether to receive data with a Netty server decoding frames from pooled buffers
+		 * instead of the Spring Integration TCP connection factory.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The max number of frames of a connection to emit in one message with a list
+		 * payload; 1 to emit every frame as a message.
+		 */
+		@Min(1)
+		private int batchSize = 1;
+
+		/**
+		 * The max time to wait for a batch of frames to fill up.
+		 */
+		private Duration batchTimeout = Duration.ofMillis(100);
+
+		/**
+		 * The number of frames of a connection to decode ahead of the downstream
+		 * demand; the socket is not read while they are pending.
+		 */
+		@Min(1)
+		private int prefetch = 256;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getBatchSize() {
+			return this.batchSize;
+		}
+
+		public void setBatchSize(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		public Duration getBatchTimeout() {
+			return this.batchTimeout;
+		}
+
+		public void setBatchTimeout(Duration batchTimeout) {
+			this.batchTimeout = batchTimeout;
+		}
+
+		public int getPrefetch() {
+			return this.prefetch;
+		}
+
+		public void setPrefetch(int prefetch) {
+			this.prefetch = prefetch;
+		}
+
+	}
+
 }
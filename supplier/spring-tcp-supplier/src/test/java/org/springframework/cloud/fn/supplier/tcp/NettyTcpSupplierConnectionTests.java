@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.tcp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.SocketFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.fn.common.tcp.EncoderDecoderFactoryBean;
+import org.springframework.cloud.fn.common.tcp.Encoding;
+import org.springframework.cloud.fn.common.tcp.TcpConnectionFactoryProperties;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link NettyTcpSupplier} connection handling, independent of the
+ * application context.
+ */
+public class NettyTcpSupplierConnectionTests {
+
+	private NettyTcpSupplier supplier;
+
+	@AfterEach
+	public void stopSupplier() {
+		if (this.supplier != null) {
+			this.supplier.stop();
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(Encoding.class)
+	public void framesAreDecodedForEachEncoding(Encoding encoding) throws Exception {
+		startSupplier(encoding, 2048, 256);
+		Serializer<byte[]> serializer = serializer(encoding);
+
+		if (encoding == Encoding.RAW) {
+			StepVerifier stepVerifier = StepVerifier.create(this.supplier.get())
+				.assertNext((message) -> assertThat(message.getPayload()).isEqualTo("foo".getBytes()))
+				.thenCancel()
+				.verifyLater();
+
+			try (Socket socket = connect()) {
+				serializer.serialize("foo".getBytes(), socket.getOutputStream());
+				socket.shutdownOutput();
+				stepVerifier.verify(Duration.ofSeconds(10));
+			}
+		}
+		else {
+			StepVerifier stepVerifier = StepVerifier.create(this.supplier.get())
+				.assertNext((message) -> assertThat(message.getPayload()).isEqualTo("foo".getBytes()))
+				.assertNext((message) -> assertThat(message.getPayload()).isEqualTo("bar".getBytes()))
+				.thenCancel()
+				.verifyLater();
+
+			try (Socket socket = connect()) {
+				serializer.serialize("foo".getBytes(), socket.getOutputStream());
+				serializer.serialize("bar".getBytes(), socket.getOutputStream());
+				stepVerifier.verify(Duration.ofSeconds(10));
+			}
+		}
+	}
+
+	@Test
+	public void malformedFrameClosesOnlyItsConnection() throws Exception {
+		startSupplier(Encoding.LF, 16, 256);
+
+		StepVerifier stepVerifier = StepVerifier.create(this.supplier.get())
+			.recordWith(ArrayList::new)
+			.expectNextCount(3)
+			.consumeRecordedWith((messages) -> assertThat(messages).extracting(Message::getPayload)
+				.containsExactlyInAnyOrder("foo".getBytes(), "bar".getBytes(), "baz".getBytes()))
+			.thenCancel()
+			.verifyLater();
+
+		try (Socket good = connect(); Socket bad = connect()) {
+			good.getOutputStream().write("foo\n".getBytes());
+			bad.getOutputStream().write("this line is longer than the max frame length\n".getBytes());
+			bad.setSoTimeout(10000);
+			assertThat(bad.getInputStream().read()).isEqualTo(-1);
+
+			good.getOutputStream().write("bar\n".getBytes());
+			try (Socket late = connect()) {
+				late.getOutputStream().write("baz\n".getBytes());
+				stepVerifier.verify(Duration.ofSeconds(10));
+			}
+		}
+	}
+
+	@Test
+	public void slowConsumerAppliesBackPressureOnTheSocket() throws Exception {
+		startSupplier(Encoding.LF, 2048, 4);
+		int frameCount = 32 * 1024;
+		byte[] frame = new byte[1024];
+		Arrays.fill(frame, (byte) 'a');
+		frame[frame.length - 1] = '\n';
+
+		try (Socket socket = connect()) {
+			CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+				try {
+					OutputStream outputStream = socket.getOutputStream();
+					for (int i = 0; i < frameCount; i++) {
+						outputStream.write(frame);
+					}
+					outputStream.flush();
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+
+			StepVerifier.create(this.supplier.get(), 1)
+				.expectNextCount(1)
+				.thenAwait(Duration.ofSeconds(2))
+				.then(() -> assertThat(writer).isNotDone())
+				.thenRequest(Long.MAX_VALUE)
+				.expectNextCount(frameCount - 1)
+				.thenCancel()
+				.verify(Duration.ofSeconds(30));
+
+			writer.get(10, TimeUnit.SECONDS);
+		}
+	}
+
+	private void startSupplier(Encoding encoding, int bufferSize, int prefetch) {
+		TcpSupplierProperties properties = new TcpSupplierProperties();
+		properties.setDecoder(encoding);
+		properties.setBufferSize(bufferSize);
+		properties.getNetty().setPrefetch(prefetch);
+		TcpConnectionFactoryProperties connectionProperties = new TcpConnectionFactoryProperties();
+		connectionProperties.setPort(0);
+		this.supplier = new NettyTcpSupplier(properties, connectionProperties);
+		this.supplier.start();
+	}
+
+	private Socket connect() throws IOException {
+		return SocketFactory.getDefault().createSocket("localhost", this.supplier.getPort());
+	}
+
+	private static Serializer<byte[]> serializer(Encoding encoding) throws Exception {
+		EncoderDecoderFactoryBean factoryBean = new EncoderDecoderFactoryBean(encoding);
+		factoryBean.afterPropertiesSet();
+		return factoryBean.getObject();
+	}
+
+}
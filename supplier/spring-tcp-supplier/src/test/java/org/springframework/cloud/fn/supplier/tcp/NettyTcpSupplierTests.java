@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.tcp;
+
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.net.SocketFactory;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.integration.ip.IpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = { "tcp.port = 0", "tcp.supplier.decoder = STXETX", "tcp.supplier.netty.enabled = true",
+				"tcp.supplier.netty.batch-size = 3" })
+@DirtiesContext
+public class NettyTcpSupplierTests {
+
+	@Autowired
+	Supplier<Flux<Message<?>>> tcpSupplier;
+
+	@Autowired
+	NettyTcpSupplier nettyTcpSupplier;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void framesAreDecodedAndBatched() throws Exception {
+		StepVerifier stepVerifier = StepVerifier.create(this.tcpSupplier.get())
+			.assertNext((message) -> {
+				assertThat(message.getHeaders()).containsKeys(IpHeaders.CONNECTION_ID, IpHeaders.IP_ADDRESS);
+				assertThat((List<byte[]>) message.getPayload()).containsExactly("foo".getBytes(), "bar".getBytes(),
+						"baz".getBytes());
+			})
+			.assertNext((message) -> assertThat((List<byte[]>) message.getPayload()).containsExactly("qux".getBytes()))
+			.thenCancel()
+			.verifyLater();
+
+		try (Socket socket = SocketFactory.getDefault().createSocket("localhost", this.nettyTcpSupplier.getPort())) {
+			socket.getOutputStream().write("\u0002foo\u0003\u0002bar\u0003\u0002baz\u0003\u0002qux\u0003".getBytes());
+			stepVerifier.verify(Duration.ofSeconds(10));
+		}
+	}
+
+	@SpringBootApplication
+	public static class TcpSupplierTestApplication {
+
+	}
+
+}
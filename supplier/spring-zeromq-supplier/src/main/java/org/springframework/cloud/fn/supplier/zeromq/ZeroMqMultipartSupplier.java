@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.zeromq;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZFrame;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMsg;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.integration.zeromq.ZeroMqHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The ZeroMQ supplier which produces a message for every frame of the multipart ZeroMQ
+ * messages.
+ * <p>
+ * For the {@code SUB} socket, the first frame is the topic, which is set into the
+ * {@link ZeroMqHeaders#TOPIC} header of all the messages, and the next empty delimiter
+ * frame, if any, is skipped.
+ * <p>
+ * The socket is created for every subscription and is read only on the demand of the
+ * subscriber, so the not yet requested messages are queued in the socket up to the
+ * {@link ZeroMqSupplierProperties#getReceiveHighWaterMark()}.
+ *
+ * @since 6.0.1
+ */
+public class ZeroMqMultipartSupplier implements Supplier<Flux<Message<?>>> {
+
+	private final ZContext context;
+
+	private final ZeroMqSupplierProperties properties;
+
+	private final Consumer<ZMQ.Socket> socketConfigurer;
+
+	public ZeroMqMultipartSupplier(ZContext context, ZeroMqSupplierProperties properties,
+			Consumer<ZMQ.Socket> socketConfigurer) {
+
+		this.context = context;
+		this.properties = properties;
+		this.socketConfigurer = socketConfigurer;
+	}
+
+	@Override
+	public Flux<Message<?>> get() {
+		return Flux.generate(this::createSocket, this::receive, ZMQ.Socket::close)
+			// All the socket operations happen on the same worker thread
+			.subscribeOn(Schedulers.boundedElastic(), true)
+			.flatMapIterable(Function.identity());
+	}
+
+	private ZMQ.Socket createSocket() {
+		SocketType socketType = this.properties.getSocketType();
+		ZMQ.Socket socket = this.context.createSocket(socketType);
+		socket.setReceiveTimeOut((int) this.properties.getConsumeDelay().toMillis());
+		this.socketConfigurer.accept(socket);
+		if (this.properties.getConnectUrl() != null) {
+			socket.connect(this.properties.getConnectUrl());
+		}
+		else if (this.properties.getBindPort() > 0) {
+			socket.bind("tcp://*:" + this.properties.getBindPort());
+		}
+		else {
+			socket.bindToRandomPort("tcp://*");
+		}
+		if (SocketType.SUB.equals(socketType)) {
+			for (String topic : this.properties.getTopics()) {
+				socket.subscribe(topic);
+			}
+		}
+		return socket;
+	}
+
+	private ZMQ.Socket receive(ZMQ.Socket socket, SynchronousSink<List<Message<?>>> sink) {
+		ZMsg multipart = ZMsg.recvMsg(socket);
+		if (multipart == null) {
+			// The receive timeout; the generator must emit anyway
+			sink.next(Collections.emptyList());
+			return socket;
+		}
+		Map<String, Object> headers = Collections.emptyMap();
+		if (SocketType.SUB.equals(this.properties.getSocketType())) {
+			headers = Map.of(ZeroMqHeaders.TOPIC, multipart.popString());
+			ZFrame delimiter = multipart.peekFirst();
+			if (delimiter != null && delimiter.size() == 0) {
+				multipart.pop();
+			}
+		}
+		List<Message<?>> messages = new ArrayList<>(multipart.size());
+		for (ZFrame frame : multipart) {
+			messages.add(new GenericMessage<>(frame.getData(), headers));
+		}
+		multipart.destroy();
+		sink.next(messages);
+		return socket;
+	}
+
+}
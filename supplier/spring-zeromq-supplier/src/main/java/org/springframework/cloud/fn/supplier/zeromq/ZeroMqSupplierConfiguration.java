@@ -19,6 +19,7 @@ package org.springframework.cloud.fn.supplier.zeromq;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.zeromq.SocketType;
 import org.zeromq.ZContext;
@@ -28,8 +29,10 @@ import reactor.core.publisher.Flux;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.integration.JavaUtils;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.zeromq.inbound.ZeroMqMessageProducer;
 import org.springframework.messaging.Message;
@@ -67,9 +70,7 @@ public class ZeroMqSupplierConfiguration {
 			zeroMqMessageProducer.setTopics(properties.getTopics());
 		}
 		zeroMqMessageProducer.setMessageMapper(GenericMessage::new);
-		if (socketConfigurer != null) {
-			zeroMqMessageProducer.setSocketConfigurer(socketConfigurer);
-		}
+		zeroMqMessageProducer.setSocketConfigurer(socketConfigurer(properties, socketConfigurer));
 		return zeroMqMessageProducer;
 	}
 
@@ -81,10 +82,30 @@ public class ZeroMqSupplierConfiguration {
 	}
 
 	@Bean
+	@ConditionalOnProperty(prefix = "zeromq.supplier.batch", name = "enabled", havingValue = "false",
+			matchIfMissing = true)
 	public Supplier<Flux<Message<?>>> zeromqSupplier(
 			@Qualifier("zeroMqSupplierFlow") Publisher<Message<Object>> zeroMqSupplierFlow) {
 
 		return () -> Flux.from(zeroMqSupplierFlow);
 	}
 
+	@Bean(name = "zeromqSupplier")
+	@ConditionalOnProperty(prefix = "zeromq.supplier.batch", name = "enabled")
+	public ZeroMqMultipartSupplier multipartZeromqSupplier(ZeroMqSupplierProperties properties, ZContext zContext,
+			@Autowired(required = false) Consumer<ZMQ.Socket> socketConfigurer) {
+
+		return new ZeroMqMultipartSupplier(zContext, properties, socketConfigurer(properties, socketConfigurer));
+	}
+
+	private static Consumer<ZMQ.Socket> socketConfigurer(ZeroMqSupplierProperties properties,
+			@Nullable Consumer<ZMQ.Socket> socketConfigurer) {
+
+		Consumer<ZMQ.Socket> socketOptions = (socket) -> JavaUtils.INSTANCE
+			.acceptIfNotNull(properties.getReceiveHighWaterMark(), socket::setRcvHWM)
+			.acceptIfNotNull(properties.getLinger(), (linger) -> socket.setLinger((int) linger.toMillis()));
+
+		return (socketConfigurer != null) ? socketOptions.andThen(socketConfigurer) : socketOptions;
+	}
+
 }
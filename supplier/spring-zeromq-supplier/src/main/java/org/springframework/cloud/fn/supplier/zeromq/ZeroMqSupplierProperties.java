@@ -18,6 +18,7 @@ package org.springframework.cloud.fn.supplier.zeromq;
 
 import java.time.Duration;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.validator.constraints.Range;
@@ -61,6 +62,24 @@ public class ZeroMqSupplierProperties {
 	 */
 	private String[] topics = { "" };
 
+	/**
+	 * The ZMQ_RCVHWM option of the socket: the max number of outstanding messages queued
+	 * for every peer. The ZeroMQ default is used if not set.
+	 */
+	private Integer receiveHighWaterMark;
+
+	/**
+	 * The ZMQ_LINGER option of the socket: how long the pending messages are kept after
+	 * the socket is closed. The ZeroMQ default is used if not set.
+	 */
+	private Duration linger;
+
+	/**
+	 * The options for the receiving of multipart ZeroMQ messages.
+	 */
+	@Valid
+	private final Batch batch = new Batch();
+
 	public void setSocketType(SocketType socketType) {
 		this.socketType = socketType;
 	}
@@ -105,4 +124,43 @@ public class ZeroMqSupplierProperties {
 		this.topics = topics;
 	}
 
+	public Integer getReceiveHighWaterMark() {
+		return this.receiveHighWaterMark;
+	}
+
+	public void setReceiveHighWaterMark(Integer receiveHighWaterMark) {
+		this.receiveHighWaterMark = receiveHighWaterMark;
+	}
+
+	public Duration getLinger() {
+		return this.linger;
+	}
+
+	public void setLinger(Duration linger) {
+		this.linger = linger;
+	}
+
+	public Batch getBatch() {
+		return this.batch;
+	}
+
+	public static class Batch {
+
+		/**
+		 * Whether to produce a message for every frame of a multipart ZeroMQ message, e.g.
+		 * sent by the ZeroMQ consumer with the batching enabled, instead of a message for
+		 * every ZeroMQ message.
+		 */
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
 }
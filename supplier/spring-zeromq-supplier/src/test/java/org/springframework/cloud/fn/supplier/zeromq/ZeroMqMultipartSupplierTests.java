@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.fn.supplier.zeromq;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZFrame;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMsg;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.integration.zeromq.ZeroMqHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = { "zeromq.supplier.topics=test-topic", "zeromq.supplier.batch.enabled=true",
+		"zeromq.supplier.receive-high-water-mark=10000" })
+@DirtiesContext
+public class ZeroMqMultipartSupplierTests {
+
+	private static final ZContext CONTEXT = new ZContext();
+
+	private static ZMQ.Socket socket;
+
+	private static int bindPort;
+
+	@Autowired
+	Supplier<Flux<Message<?>>> subject;
+
+	@BeforeAll
+	static void setup() {
+		socket = CONTEXT.createSocket(SocketType.PUB);
+		bindPort = socket.bindToRandomPort("tcp://*");
+	}
+
+	@DynamicPropertySource
+	static void zeromqConnectUrl(DynamicPropertyRegistry dynamicPropertyRegistry) {
+		dynamicPropertyRegistry.add("zeromq.supplier.connectUrl", () -> "tcp://localhost:" + bindPort);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		socket.close();
+		CONTEXT.close();
+	}
+
+	@Test
+	void everyFrameIsProducedAsMessage() throws InterruptedException {
+		assertThat(this.subject).isInstanceOf(ZeroMqMultipartSupplier.class);
+
+		StepVerifier stepVerifier = StepVerifier.create(this.subject.get())
+			.assertNext((message) -> assertFrame(message, "one"))
+			.assertNext((message) -> assertFrame(message, "two"))
+			.assertNext((message) -> assertFrame(message, "three"))
+			.thenCancel()
+			.verifyLater();
+
+		// Give it a chance to subscribe
+		Thread.sleep(2000);
+
+		ZMsg multipart = new ZMsg();
+		multipart.add("one");
+		multipart.add("two");
+		multipart.add("three");
+		multipart.wrap(new ZFrame("test-topic"));
+		multipart.send(socket);
+
+		stepVerifier.verify(Duration.ofSeconds(30));
+	}
+
+	private static void assertFrame(Message<?> message, String expected) {
+		assertThat(message.getPayload()).isEqualTo(expected.getBytes(ZMQ.CHARSET));
+		assertThat(message.getHeaders()).containsEntry(ZeroMqHeaders.TOPIC, "test-topic");
+	}
+
+	@SpringBootApplication
+	public static class ZeroMqMultipartSupplierTestApplication {
+
+	}
+
+}